@@ -0,0 +1,90 @@
+package archive.oxahex.api.capacity;
+
+import archive.oxahex.domain.entity.Partners;
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.repository.ReservationRepository;
+import archive.oxahex.domain.repository.StoreSlotCapacityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 시간대 별 테이블 수 메모리 저장소 요청 1건당 비용
+ * <ol>
+ *     <li>reserveAndRelease: 매장 100개 x 시간대 8개(800 slot)에서 차감 후 반환, 8 스레드 동시 실행</li>
+ *     <li>getRemainingCounts: 매장 하나의 일주일(7일 x 24시간) 남은 테이블 수 조회</li>
+ * </ol>
+ * <p>DB 반영(flush)은 호출하지 않으므로 요청 경로의 메모리 연산만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemorySlotCapacityStoreBenchmark {
+
+    private InMemorySlotCapacityStore slotCapacityStore;
+    private Store[] stores;
+    private LocalDateTime[] slots;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        slotCapacityStore = new InMemorySlotCapacityStore(
+                mock(ReservationRepository.class), mock(StoreSlotCapacityRepository.class),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry()
+        );
+        slotCapacityStore.rebuild();
+
+        stores = new Store[100];
+        for (int i = 0; i < stores.length; i++) {
+            stores[i] = Store.builder()
+                    .id((long) i)
+                    .partners(Partners.builder().build())
+                    .tableCount(1_000_000)
+                    .build();
+        }
+
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+        slots = new LocalDateTime[8];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = visitDate.plusHours(i);
+        }
+
+        date = visitDate.toLocalDate();
+        for (int hour = 0; hour < 24 * 7; hour++) {
+            slotCapacityStore.tryReserve(stores[0], date.atStartOfDay().plusHours(hour), hour % 10);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean reserveAndRelease(Cursor cursor) {
+        int i = cursor.next++;
+        Store store = stores[i % stores.length];
+        LocalDateTime slot = slots[i % slots.length];
+
+        boolean reserved = slotCapacityStore.tryReserve(store, slot, 1);
+        if (reserved) {
+            slotCapacityStore.release(store, slot, 1);
+        }
+        return reserved;
+    }
+
+    @Benchmark
+    public int[][] getRemainingCounts() {
+        return slotCapacityStore.getRemainingCounts(stores[0], date, 7);
+    }
+}
@@ -0,0 +1,79 @@
+package archive.oxahex.api.geo;
+
+import archive.oxahex.domain.projection.StoreLocation;
+import archive.oxahex.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 매장 100만 개 주변 매장 검색 색인 비용
+ * <ol>
+ *     <li>search: 반경(radiusMeters) 안의 가까운 매장 한 페이지(21건) 조회</li>
+ *     <li>rebuild: 전체 매장 위치로 색인 재구성(DB 조회 제외)</li>
+ * </ol>
+ * <p>매장 위치는 국내(위도 33.0 ~ 38.6, 경도 124.6 ~ 131.0) 임의 위치
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class StoreGeoIndexBenchmark {
+
+    private static final int STORE_COUNT = 1_000_000;
+
+    @Param({"3000", "20000"})
+    private double radiusMeters;
+
+    private StoreGeoIndex storeGeoIndex;
+    private double[][] queries;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        List<StoreLocation> locations = new ArrayList<>(STORE_COUNT);
+        for (long id = 1; id <= STORE_COUNT; id++) {
+            locations.add(new StoreLocation(id, 33.0 + random.nextDouble() * 5.6, 124.6 + random.nextDouble() * 6.4));
+        }
+
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        given(storeRepository.findLocations()).willReturn(locations);
+        storeGeoIndex = new StoreGeoIndex(storeRepository, new SimpleMeterRegistry(), 0.01);
+        storeGeoIndex.rebuild();
+
+        queries = new double[1_000][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = new double[]{33.5 + random.nextDouble() * 4.6, 125.1 + random.nextDouble() * 5.4};
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<GeoEntry> search(Cursor cursor) {
+        double[] query = queries[cursor.next++ % queries.length];
+        return storeGeoIndex.search(query[0], query[1], radiusMeters, null, 21);
+    }
+
+    /**
+     * 반경과 관계없으므로 반경 하나에서만 실행(-p radiusMeters=3000)
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int rebuild() {
+        storeGeoIndex.rebuild();
+        return storeGeoIndex.size();
+    }
+}
@@ -0,0 +1,59 @@
+package archive.oxahex.api.ranking;
+
+import archive.oxahex.domain.projection.StoreRankingScore;
+import archive.oxahex.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 매장 랭킹 한 페이지(21건) 조회 비용
+ * <p>매장 수(storeCount)를 늘려도 페이지 조회 비용은 log n 만큼만 늘어야 함, 임의 위치의 커서에서 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryStoreRankingBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int storeCount;
+
+    private InMemoryStoreRanking storeRanking;
+    private List<RankingEntry> cursors;
+
+    @Setup
+    public void setUp() {
+        List<StoreRankingScore> scores = new ArrayList<>(storeCount);
+        for (long id = 1; id <= storeCount; id++) {
+            scores.add(new StoreRankingScore(id, (int) (id % 1000), id % 5000));
+        }
+
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        given(storeRepository.findRankingScores()).willReturn(scores);
+        storeRanking = new InMemoryStoreRanking(storeRepository, new SimpleMeterRegistry());
+        storeRanking.rebuild();
+
+        cursors = storeRanking.getRanking(RankingType.REVIEW_COUNT, null, storeCount).stream()
+                .filter(entry -> entry.storeId() % 97 == 0)
+                .toList();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public List<RankingEntry> getRanking(Cursor cursor) {
+        return storeRanking.getRanking(RankingType.REVIEW_COUNT, cursors.get(cursor.next++ % cursors.size()), 21);
+    }
+}
@@ -0,0 +1,48 @@
+package archive.oxahex.api.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 허용량 확인(token bucket) 비용
+ * <p>Key 1,000개를 돌아가며 확인, 거절되지 않도록 허용량을 크게 설정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryRateLimitStoreBenchmark {
+
+    private final RateLimitPolicy policy = new RateLimitPolicy(1_000_000, 1_000_000);
+
+    private InMemoryRateLimitStore store;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        store = new InMemoryRateLimitStore();
+        keys = new String[1_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "reservation:user:" + i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public boolean tryAcquire(Cursor cursor) {
+        return store.tryAcquire(keys[cursor.next++ % keys.length], policy);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean tryAcquireConcurrent(Cursor cursor) {
+        return store.tryAcquire(keys[cursor.next++ % keys.length], policy);
+    }
+}
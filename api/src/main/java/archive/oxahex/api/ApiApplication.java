@@ -7,6 +7,7 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {"archive.oxahex.*.*"})
@@ -14,6 +15,7 @@ import org.springframework.data.redis.repository.configuration.EnableRedisReposi
 @EntityScan(basePackages = {"archive.oxahex.domain.entity"})
 @EnableJpaAuditing
 @EnableRedisRepositories
+@EnableScheduling
 public class ApiApplication {
     public static void main(String[] args) {
         SpringApplication.run(ApiApplication.class, args);
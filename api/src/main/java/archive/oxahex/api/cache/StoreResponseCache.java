@@ -0,0 +1,199 @@
+package archive.oxahex.api.cache;
+
+import archive.oxahex.api.dto.SortType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static archive.oxahex.api.transaction.TransactionCallbacks.runAfterCommit;
+
+/**
+ * 매장 목록, 매장 상세 응답(JSON) 캐시
+ * <ol>
+ *     <li>직렬화한 응답 본문과 ETag(본문 MD5)를 함께 저장, 같은 페이지는 JSON을 다시 만들지 않음</li>
+ *     <li>목록은 정렬 타입 별 버전을 Key에 포함, 변경 시 해당 정렬 타입 버전만 올려 이전 페이지 전체를 무효화</li>
+ *     <li>상세는 매장 ID로 저장, 변경된 매장만 제거</li>
+ *     <li>무효화는 트랜잭션 Commit 후 실행, 조회 중 무효화된 경우 조회 결과를 저장하지 않음</li>
+ *     <li>전체 본문 크기가 최대값을 넘는 경우 가장 오래 사용되지 않은 항목부터 제거(LRU), TTL이 지난 항목은 조회 시점에 제거</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+public class StoreResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    private final Map<SortType, AtomicLong> listVersions = new EnumMap<>(SortType.class);
+
+    // 매장 상세 무효화 횟수, 조회 중 무효화 여부 확인용
+    private final AtomicLong storeGeneration = new AtomicLong();
+    private final Map<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public StoreResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${store-cache.enabled:true}") boolean enabled,
+            @Value("${store-cache.max-bytes:16777216}") long maxBytes,
+            @Value("${store-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlSeconds * 1000;
+
+        for (SortType sortType : SortType.values()) {
+            listVersions.put(sortType, new AtomicLong());
+        }
+
+        this.hitCounter = meterRegistry.counter("store.cache.hits");
+        this.missCounter = meterRegistry.counter("store.cache.misses");
+        this.evictionCounter = meterRegistry.counter("store.cache.evictions");
+        Gauge.builder("store.cache.size", this, StoreResponseCache::size).register(meterRegistry);
+        Gauge.builder("store.cache.bytes", this, StoreResponseCache::getTotalBytes).register(meterRegistry);
+    }
+
+    /**
+     * 매장 목록 페이지 조회, 없으면 loader 결과를 직렬화해 저장
+     */
+    public CachedResponse getList(SortType sortType, String cursor, int size, Supplier<?> loader) {
+        AtomicLong version = listVersions.get(sortType);
+        String key = "list:" + sortType + ":" + version.get() + ":" + cursor + ":" + size;
+        return get(key, version, loader);
+    }
+
+    /**
+     * 매장 상세 조회, 없으면 loader 결과를 직렬화해 저장
+     */
+    public CachedResponse getStore(Long storeId, Supplier<?> loader) {
+        return get(storeKey(storeId), storeGeneration, loader);
+    }
+
+    /**
+     * 해당 정렬 타입 목록 무효화(버전 증가)
+     */
+    public void invalidateList(SortType... sortTypes) {
+        runAfterCommit(() -> {
+            synchronized (this) {
+                for (SortType sortType : sortTypes) {
+                    listVersions.get(sortType).incrementAndGet();
+                }
+            }
+        });
+    }
+
+    /**
+     * 매장 상세 무효화
+     */
+    public void invalidateStore(Long storeId) {
+        runAfterCommit(() -> {
+            synchronized (this) {
+                storeGeneration.incrementAndGet();
+                remove(storeKey(storeId));
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * @param generation 조회 전 값과 저장 시점 값이 다르면(조회 중 무효화) 저장하지 않음
+     */
+    private CachedResponse get(String key, AtomicLong generation, Supplier<?> loader) {
+        long loadedGeneration = generation.get();
+        if (enabled) {
+            CachedResponse cached = getEntry(key);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached;
+            }
+        }
+        missCounter.increment();
+
+        CachedResponse response = serialize(loader.get());
+        if (enabled) {
+            put(key, response, generation, loadedGeneration);
+        }
+        return response;
+    }
+
+    private synchronized CachedResponse getEntry(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null) return null;
+
+        if (cached.expiredAt() < System.currentTimeMillis()) {
+            remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void put(String key, CachedResponse response, AtomicLong generation, long loadedGeneration) {
+        // 조회 중 무효화된 경우, 최대 크기보다 큰 응답은 저장하지 않음
+        if (generation.get() != loadedGeneration || response.body().length > maxBytes) return;
+
+        remove(key);
+        entries.put(key, response);
+        totalBytes += response.body().length;
+
+        Iterator<CachedResponse> iterator = entries.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().body().length;
+            iterator.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.body().length;
+        }
+    }
+
+    private CachedResponse serialize(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            String eTag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new CachedResponse(body, eTag, System.currentTimeMillis() + ttlMillis);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    private static String storeKey(Long storeId) {
+        return "store:" + storeId;
+    }
+
+    /**
+     * 직렬화한 응답 본문(JSON)과 ETag
+     */
+    public record CachedResponse(byte[] body, String eTag, long expiredAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package archive.oxahex.api.capacity;
+
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.entity.StoreSlotCapacity;
+import archive.oxahex.domain.repository.StoreSlotCapacityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * DB 시간대 행(store_slot_capacity) 기준 테이블 수 저장소
+ * <p>시간대 행 하나만 조건부 UPDATE로 변경, 여러 서버가 같은 DB를 사용해도 초과 승인 없음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.capacity.store", havingValue = "database")
+public class DatabaseSlotCapacityStore implements SlotCapacityStore {
+
+    private final StoreSlotCapacityRepository storeSlotCapacityRepository;
+
+    /**
+     * 방문 시간대에 승인된 예약이 없는 경우 매장 전체 테이블 사용 가능
+     */
+    @Override
+    public int getRemainingCount(Store store, LocalDateTime visitDate) {
+        return storeSlotCapacityRepository
+                .findByStoreAndSlotTime(store, StoreSlotCapacity.toSlotTime(visitDate))
+                .map(StoreSlotCapacity::getRemainingCount)
+                .orElse(store.getTableCount());
+    }
+
+    /**
+     * 기간 내 시간대 행을 한 번에 조회, 행이 없는 시간대는 매장 전체 테이블 수
+     */
+    @Override
+    public int[][] getRemainingCounts(Store store, LocalDate from, int dayCount) {
+        int[][] remainingCounts = new int[dayCount][24];
+        for (int[] counts : remainingCounts) {
+            Arrays.fill(counts, store.getTableCount());
+        }
+
+        storeSlotCapacityRepository.findAllByStoreAndSlotTimeGreaterThanEqualAndSlotTimeLessThan(
+                store, from.atStartOfDay(), from.plusDays(dayCount).atStartOfDay()
+        ).forEach(capacity -> {
+            LocalDateTime slotTime = capacity.getSlotTime();
+            int day = (int) (slotTime.toLocalDate().toEpochDay() - from.toEpochDay());
+            remainingCounts[day][slotTime.getHour()] = capacity.getRemainingCount();
+        });
+        return remainingCounts;
+    }
+
+    @Override
+    public boolean tryReserve(Store store, LocalDateTime visitDate, int count) {
+        return storeSlotCapacityRepository.reserve(store, visitDate, count);
+    }
+
+    @Override
+    public void release(Store store, LocalDateTime visitDate, int count) {
+        storeSlotCapacityRepository.release(store, visitDate, count);
+    }
+}
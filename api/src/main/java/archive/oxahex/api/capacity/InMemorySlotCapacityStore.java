@@ -0,0 +1,248 @@
+package archive.oxahex.api.capacity;
+
+import archive.oxahex.domain.entity.Reservation;
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.entity.StoreSlotCapacity;
+import archive.oxahex.domain.repository.ReservationRepository;
+import archive.oxahex.domain.repository.StoreSlotCapacityRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
+
+import static archive.oxahex.api.transaction.TransactionCallbacks.runAfterCommit;
+import static archive.oxahex.api.transaction.TransactionCallbacks.runAfterRollback;
+
+/**
+ * 서버 메모리 기준 테이블 수 저장소
+ * <ol>
+ *     <li>매장, 날짜 별 시간대(0~23시) 사용 중인 테이블 수를 int 배열(AtomicIntegerArray) 하나로 관리, Lock 없이 CAS로 차감</li>
+ *     <li>시간대마다 카운터가 나뉘어 있어(slot 단위 stripe) 다른 매장, 다른 시간대 요청과 경합하지 않음</li>
+ *     <li>날짜 범위 조회는 Map 조회 한 번에 배열을 그대로 읽음, Entity 조회 없음</li>
+ *     <li>변경된 시간대만 표시해 두고 주기적으로 한 트랜잭션에서 DB 시간대 행에 반영(write-behind)</li>
+ *     <li>서버 시작 시 승인, 이용 확인된 예약(reservation)으로 다시 계산, 반영하지 못한 변경이 있어도 초과 승인 없음</li>
+ * </ol>
+ * <p>서버 한 대 기준, 여러 서버에서 사용하는 경우 {@link DatabaseSlotCapacityStore} 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reservation.capacity.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySlotCapacityStore implements SlotCapacityStore {
+
+    private final ReservationRepository reservationRepository;
+    private final StoreSlotCapacityRepository storeSlotCapacityRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int SLOTS_PER_DAY = 24;
+
+    private final ConcurrentMap<DayKey, Day> days = new ConcurrentHashMap<>();
+
+    // DB에 반영하지 않은 시간대
+    private final Set<SlotKey> dirtySlots = ConcurrentHashMap.newKeySet();
+
+    private final Counter flushFailedCounter;
+
+    public InMemorySlotCapacityStore(
+            ReservationRepository reservationRepository,
+            StoreSlotCapacityRepository storeSlotCapacityRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.storeSlotCapacityRepository = storeSlotCapacityRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("reservation.capacity.days", days, Map::size).register(meterRegistry);
+        Gauge.builder("reservation.capacity.unflushed", dirtySlots, Set::size).register(meterRegistry);
+        this.flushFailedCounter = meterRegistry.counter("reservation.capacity.flush.failed");
+    }
+
+    /**
+     * 승인, 이용 확인된 예약으로 시간대 별 사용 중인 테이블 수 계산
+     * <p>모든 시간대를 DB에 다시 반영해 장애 전 반영하지 못한 변경도 보정
+     */
+    @PostConstruct
+    public void rebuild() {
+        days.clear();
+
+        LocalDateTime from = StoreSlotCapacity.toSlotTime(LocalDateTime.now());
+        List<Reservation> reservations = reservationRepository.findAllOccupyingSince(from);
+        for (Reservation reservation : reservations) {
+            LocalDateTime slotTime = StoreSlotCapacity.toSlotTime(reservation.getVisitDate());
+            getDay(reservation.getStore(), slotTime.toLocalDate())
+                    .reservedCounts.addAndGet(slotTime.getHour(), reservation.getUseTableCount());
+            dirtySlots.add(new SlotKey(reservation.getStore().getId(), slotTime));
+        }
+
+        log.info("[InMemorySlotCapacityStore.rebuild] reservations={}, slots={}", reservations.size(), dirtySlots.size());
+    }
+
+    /**
+     * 매장 테이블 수가 줄어 사용 중인 테이블 수보다 작은 경우 0
+     * <p>메모리에 없는 날짜(승인된 예약 없음)는 만들지 않고 매장 전체 테이블 수로 계산
+     */
+    @Override
+    public int getRemainingCount(Store store, LocalDateTime visitDate) {
+        Day day = days.get(new DayKey(store.getId(), visitDate.toLocalDate()));
+        int reserved = day == null ? 0 : day.reservedCounts.get(visitDate.getHour());
+        return Math.max(0, store.getTableCount() - reserved);
+    }
+
+    /**
+     * 메모리에 없는 날짜(승인된 예약 없음)는 만들지 않고 매장 전체 테이블 수로 계산
+     */
+    @Override
+    public int[][] getRemainingCounts(Store store, LocalDate from, int dayCount) {
+        int totalCount = store.getTableCount();
+        int[][] remainingCounts = new int[dayCount][SLOTS_PER_DAY];
+
+        for (int i = 0; i < dayCount; i++) {
+            Day day = days.get(new DayKey(store.getId(), from.plusDays(i)));
+            for (int hour = 0; hour < SLOTS_PER_DAY; hour++) {
+                int reserved = day == null ? 0 : day.reservedCounts.get(hour);
+                remainingCounts[i][hour] = Math.max(0, totalCount - reserved);
+            }
+        }
+        return remainingCounts;
+    }
+
+    /**
+     * 트랜잭션이 Rollback 되면 차감한 테이블 반환
+     */
+    @Override
+    public boolean tryReserve(Store store, LocalDateTime visitDate, int count) {
+        Day day = getDay(store, visitDate.toLocalDate());
+        int hour = visitDate.getHour();
+
+        while (true) {
+            int reserved = day.reservedCounts.get(hour);
+            if (reserved + count > day.totalCount) return false;
+            if (day.reservedCounts.compareAndSet(hour, reserved, reserved + count)) break;
+        }
+        dirtySlots.add(new SlotKey(store.getId(), StoreSlotCapacity.toSlotTime(visitDate)));
+
+        runAfterRollback(() -> add(store, visitDate, -count));
+        return true;
+    }
+
+    /**
+     * 트랜잭션이 Commit 된 후 반환, Commit 전에 다른 요청이 반환된 테이블을 차감하지 않도록 함
+     */
+    @Override
+    public void release(Store store, LocalDateTime visitDate, int count) {
+        runAfterCommit(() -> add(store, visitDate, -count));
+    }
+
+    /**
+     * 변경된 시간대의 남은 테이블 수를 한 트랜잭션에서 DB에 반영
+     * <ol>
+     *     <li>읽기 전에 변경 표시를 지워, 반영 중 다시 변경된 시간대는 다음 주기에 반영</li>
+     *     <li>반영 실패 시 다시 변경 표시, 다음 주기에 재시도</li>
+     *     <li>지나간 날짜는 메모리에서 제거</li>
+     * </ol>
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${reservation.capacity.flush-interval-millis:200}")
+    public void flush() {
+        if (!dirtySlots.isEmpty()) {
+            List<SlotKey> keys = new ArrayList<>(dirtySlots);
+            keys.forEach(dirtySlots::remove);
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (SlotKey key : keys) {
+                        Day day = days.get(key.toDayKey());
+                        if (day == null) continue;
+
+                        int totalCount = day.totalCount;
+                        storeSlotCapacityRepository.upsert(
+                                key.storeId(), key.slotTime(),
+                                totalCount, Math.max(0, totalCount - day.reservedCounts.get(key.slotTime().getHour()))
+                        );
+                    }
+                });
+            } catch (RuntimeException e) {
+                dirtySlots.addAll(keys);
+                flushFailedCounter.increment();
+                log.warn("[InMemorySlotCapacityStore.flush] 반영 실패 slots={}, message={}", keys.size(), e.getMessage());
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        Set<DayKey> dirtyDays = dirtySlots.stream().map(SlotKey::toDayKey).collect(Collectors.toSet());
+        days.keySet().removeIf(key -> key.date().isBefore(today) && !dirtyDays.contains(key));
+    }
+
+    public int getUnflushedCount() {
+        return dirtySlots.size();
+    }
+
+    private void add(Store store, LocalDateTime visitDate, int delta) {
+        Day day = getDay(store, visitDate.toLocalDate());
+        int hour = visitDate.getHour();
+
+        int reserved;
+        do {
+            reserved = day.reservedCounts.get(hour);
+        } while (!day.reservedCounts.compareAndSet(hour, reserved, Math.max(0, reserved + delta)));
+        dirtySlots.add(new SlotKey(store.getId(), StoreSlotCapacity.toSlotTime(visitDate)));
+    }
+
+    /**
+     * 날짜 별 시간대 카운터 조회, 없으면 생성
+     * <p>매장 테이블 수는 변경될 수 있으므로 매번 최신 값으로 갱신
+     */
+    private Day getDay(Store store, LocalDate date) {
+        DayKey key = new DayKey(store.getId(), date);
+
+        Day day = days.get(key);
+        if (day == null) {
+            day = days.computeIfAbsent(key, k -> new Day(store.getTableCount()));
+        }
+        if (day.totalCount != store.getTableCount()) {
+            day.totalCount = store.getTableCount();
+        }
+        return day;
+    }
+
+    private record DayKey(Long storeId, LocalDate date) {
+    }
+
+    private record SlotKey(Long storeId, LocalDateTime slotTime) {
+
+        private DayKey toDayKey() {
+            return new DayKey(storeId, slotTime.toLocalDate());
+        }
+    }
+
+    /**
+     * 매장, 날짜 하나의 시간대 별 사용 중인 테이블 수
+     */
+    private static final class Day {
+
+        private final AtomicIntegerArray reservedCounts = new AtomicIntegerArray(SLOTS_PER_DAY);
+        private volatile int totalCount;
+
+        private Day(int totalCount) {
+            this.totalCount = totalCount;
+        }
+    }
+}
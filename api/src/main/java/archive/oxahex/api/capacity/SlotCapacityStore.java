@@ -0,0 +1,40 @@
+package archive.oxahex.api.capacity;
+
+import archive.oxahex.domain.entity.Store;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 매장 방문 시간대(slot) 별 테이블 수 저장소
+ * <ul>
+ *     <li>{@link InMemorySlotCapacityStore}: 서버 메모리에서 판단, DB에는 모아서 반영(기본값, 단일 서버)</li>
+ *     <li>{@link DatabaseSlotCapacityStore}: 매 요청 DB 시간대 행을 조건부로 변경(여러 서버)</li>
+ * </ul>
+ * <p>reservation.capacity.store 설정값(memory, database)으로 선택
+ * <p>예약 상태 변경 트랜잭션 안에서 호출, 트랜잭션이 Rollback 되면 변경도 취소됨
+ */
+public interface SlotCapacityStore {
+
+    /**
+     * 방문 시간대에 남은 테이블 수
+     */
+    int getRemainingCount(Store store, LocalDateTime visitDate);
+
+    /**
+     * 시작일부터 주어진 일수 동안 날짜, 시간대(0~23시) 별 남은 테이블 수
+     * @return [날짜][시] 배열
+     */
+    int[][] getRemainingCounts(Store store, LocalDate from, int dayCount);
+
+    /**
+     * 방문 시간대의 테이블 차감(예약 승인)
+     * @return 테이블이 부족한 경우 false
+     */
+    boolean tryReserve(Store store, LocalDateTime visitDate, int count);
+
+    /**
+     * 방문 시간대의 테이블 반환(승인 예약 취소, 노쇼)
+     */
+    void release(Store store, LocalDateTime visitDate, int count);
+}
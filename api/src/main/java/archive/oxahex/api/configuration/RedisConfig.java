@@ -1,16 +1,21 @@
 package archive.oxahex.api.configuration;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class RedisConfig {
@@ -19,15 +24,29 @@ public class RedisConfig {
     private String host;
     @Value("${spring.data.redis.port}")
     private String port;
+    @Value("${spring.data.redis.timeout:500ms}")
+    private Duration commandTimeout;
+    @Value("${spring.data.redis.connect-timeout:1s}")
+    private Duration connectTimeout;
 
     // Redis Connection Pool
+    // Redis 장애 시 요청 Thread가 무한정 대기하지 않도록 연결, 명령 시간 제한
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration conf = new RedisStandaloneConfiguration();
         conf.setHostName(this.host);
         conf.setPort(Integer.parseInt(this.port));
 
-        return new LettuceConnectionFactory(conf);
+        LettuceClientConfiguration clientConf = LettuceClientConfiguration.builder()
+                .commandTimeout(this.commandTimeout)
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(this.connectTimeout).build())
+                        // 연결이 끊긴 동안 명령을 쌓아두지 않고 바로 실패
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build())
+                .build();
+
+        return new LettuceConnectionFactory(conf, clientConf);
     }
 
     // Redis Template으로 Redis 접근
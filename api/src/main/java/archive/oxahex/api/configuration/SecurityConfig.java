@@ -2,9 +2,12 @@ package archive.oxahex.api.configuration;
 
 import archive.oxahex.api.handler.JwtAccessDeniedHandler;
 import archive.oxahex.api.handler.JwtAuthenticationEntryPoint;
+import archive.oxahex.api.ratelimit.RateLimiter;
 import archive.oxahex.api.security.JwtAuthenticationFilter;
 import archive.oxahex.api.security.JwtAuthorizationFilter;
 import archive.oxahex.api.security.TokenProvider;
+import archive.oxahex.api.security.TokenDenylist;
+import archive.oxahex.api.security.TokenReissuer;
 import archive.oxahex.api.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -17,7 +20,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -29,7 +31,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final TokenProvider tokenProvider;
+    private final TokenReissuer tokenReissuer;
+    private final TokenDenylist tokenDenylist;
+    private final RateLimiter rateLimiter;
     private final AuthService authService;
+    private final PasswordEncoder passwordEncoder;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
@@ -45,16 +51,16 @@ public class SecurityConfig {
 
         http
                 .authorizeHttpRequests(authorizedHttpRequests -> authorizedHttpRequests
-                        .requestMatchers("/auth/join", "/auth/login").permitAll()
+                        .requestMatchers("/auth/join", "/auth/login", "/auth/logout", "/auth/logout/all").permitAll()
                         .anyRequest().authenticated());
 
         http
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(authenticationManager(), tokenProvider, "/auth/login"),
+                        new JwtAuthenticationFilter(authenticationManager(), tokenProvider, rateLimiter, "/auth/login"),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .addFilterBefore(
-                        new JwtAuthorizationFilter(authenticationManager(), authService, tokenProvider),
+                        new JwtAuthorizationFilter(authenticationManager(), authService, tokenProvider, tokenReissuer, tokenDenylist),
                         UsernamePasswordAuthenticationFilter.class
                 );
 
@@ -68,16 +74,14 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public AuthenticationManager authenticationManager() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(authService);
-        provider.setPasswordEncoder(passwordEncoder());
+        // BCrypt 연산은 전용 Thread Pool에서 수행(BoundedPasswordEncoder)
+        provider.setPasswordEncoder(passwordEncoder);
+        // 로그인 성공 시 cost가 변경된 해시는 재해시 후 저장
+        provider.setUserDetailsPasswordService(authService);
         return new ProviderManager(provider);
     }
 }
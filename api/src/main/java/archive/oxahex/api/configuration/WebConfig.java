@@ -1,20 +1,73 @@
 package archive.oxahex.api.configuration;
 
+import archive.oxahex.api.idempotency.IdempotencyFilter;
+import archive.oxahex.api.idempotency.IdempotencyStore;
 import archive.oxahex.api.interceptor.LogInterceptor;
+import archive.oxahex.api.interceptor.RateLimitInterceptor;
+import archive.oxahex.api.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final IdempotencyStore idempotencyStore;
+
+    @Value("${logging.request.sample-rate:0.01}")
+    private double logSampleRate;
+    @Value("${logging.request.slow-millis:1000}")
+    private long logSlowMillis;
+
+    @Value("${idempotency.ttl-seconds:86400}")
+    private long idempotencyTtlSeconds;
+    @Value("${idempotency.in-flight-ttl-seconds:30}")
+    private long idempotencyInFlightTtlSeconds;
+    @Value("${idempotency.wait-timeout-millis:5000}")
+    private long idempotencyWaitTimeoutMillis;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new LogInterceptor())
+        registry.addInterceptor(new LogInterceptor(meterRegistry, logSampleRate, logSlowMillis))
                 .order(1)
                 .addPathPatterns("/**")
                 .excludePathPatterns("/errors");
 
+        // 요청 허용량 제한(/auth/login은 Security Filter에서 처리되므로 JwtAuthenticationFilter에서 확인)
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, RateLimiter.JOIN, HttpMethod.POST))
+                .order(2)
+                .addPathPatterns("/auth/join");
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, RateLimiter.RESERVATION, HttpMethod.POST))
+                .order(2)
+                .addPathPatterns("/reservations/stores/*");
+    }
+
+    /**
+     * 예약 생성, 취소, 상태 변경 요청의 Idempotency-Key 처리
+     * <p>기본 순서(가장 낮은 우선순위)로 Spring Security Filter 이후 실행
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter() {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(new IdempotencyFilter(
+                idempotencyStore,
+                meterRegistry,
+                Duration.ofSeconds(idempotencyTtlSeconds),
+                Duration.ofSeconds(idempotencyInFlightTtlSeconds),
+                Duration.ofMillis(idempotencyWaitTimeoutMillis)
+        ));
+        registration.addUrlPatterns("/reservations/*", "/partners/reservations", "/partners/reservations/*");
 
+        return registration;
     }
 }
@@ -5,8 +5,12 @@ import archive.oxahex.api.dto.request.LoginRequest;
 import archive.oxahex.api.dto.request.JoinRequest;
 import archive.oxahex.api.dto.UserDto;
 import archive.oxahex.api.dto.response.JoinPartnersResponse;
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
 import archive.oxahex.api.security.AuthUser;
+import archive.oxahex.api.security.TokenDenylist;
 import archive.oxahex.api.security.TokenProvider;
+import archive.oxahex.api.security.VerifiedToken;
 import archive.oxahex.api.service.AuthService;
 import archive.oxahex.domain.entity.Partners;
 import archive.oxahex.domain.entity.User;
@@ -17,11 +21,15 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/auth")
@@ -30,6 +38,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final TokenProvider tokenProvider;
+    private final TokenDenylist tokenDenylist;
 
     /**
      * 회원 가입 기능
@@ -82,11 +91,16 @@ public class AuthController {
     ) {
 
         AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = authUser.getUser();
 
-        Partners partners = authService.createPartners(user, request.getName());
+        Partners partners = authService.createPartners(authUser.getUser(), request.getName());
         log.info("partners={}", partners.getName());
-        System.out.println("user.getRole(): " + user.getRole());
+
+        // 인증 객체의 유저는 캐시에서 만든 객체일 수 있으므로, 권한이 변경된 유저로 교체
+        User partnersUser = partners.getUser();
+        authUser.setUser(partnersUser);
+
+        // 변경된 권한으로 Token 발급
+        authUser.setRole(partnersUser.getRole());
 
         // 새 Access Token 발급
         String accessToken = tokenProvider.generateAccessToken(authUser);
@@ -95,11 +109,97 @@ public class AuthController {
         tokenProvider.generateRefreshToken(authUser);
 
         JoinPartnersResponse response =
-                JoinPartnersResponse.fromEntityToResponse(user, partners, accessToken);
+                JoinPartnersResponse.fromEntityToResponse(partnersUser, partners, accessToken);
 
         HttpHeaders headers = new HttpHeaders();
         headers.add("Authorization", "Bearer " + accessToken);
 
         return ResponseEntity.ok().headers(headers).body(response);
     }
+
+    /**
+     * 로그아웃
+     * <ol>
+     *     <li>현재 Access Token을 폐기해 만료 전이라도 더 이상 사용할 수 없도록 합니다.</li>
+     *     <li>현재 기기의 Refresh Token을 삭제해 Access Token이 재발급되지 않도록 합니다.</li>
+     *     <li>Access Token이 이미 만료된 경우에도 서명이 유효하면 Refresh Token을 삭제합니다.</li>
+     *     <li>다른 기기의 로그인 세션은 유지됩니다.</li>
+     * </ol>
+     * @param authorization Bearer Access Token
+     * @return STATUS 200 OK
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(
+            @RequestHeader("Authorization") String authorization
+    ) {
+        VerifiedToken verifiedToken = revokeAccessToken(authorization);
+        log.info("[로그아웃] email={}", verifiedToken.subject());
+
+        tokenProvider.deleteRefreshToken(verifiedToken.subject(), verifiedToken.deviceId());
+
+        return ResponseEntity.ok().body(null);
+    }
+
+    /**
+     * 모든 기기 로그아웃
+     * <ol>
+     *     <li>현재 Access Token을 폐기합니다.</li>
+     *     <li>모든 기기의 Refresh Token을 한 번에 삭제해 다른 기기도 Access Token 만료 후 재발급되지 않도록 합니다.</li>
+     *     <li>Access Token이 이미 만료된 경우에도 서명이 유효하면 Refresh Token을 삭제합니다.</li>
+     * </ol>
+     * @param authorization Bearer Access Token
+     * @return STATUS 200 OK
+     */
+    @PostMapping("/logout/all")
+    public ResponseEntity<?> logoutAll(
+            @RequestHeader("Authorization") String authorization
+    ) {
+        VerifiedToken verifiedToken = revokeAccessToken(authorization);
+        log.info("[모든 기기 로그아웃] email={}", verifiedToken.subject());
+
+        tokenProvider.deleteSessions(verifiedToken.subject());
+
+        return ResponseEntity.ok().body(null);
+    }
+
+    /**
+     * 로그인 기기 목록 조회
+     * @return 로그인 중인 기기 ID, 세션 만료 시간 목록
+     */
+    @GetMapping("/sessions")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<UserDto.Session>> getSessions() {
+        AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        List<UserDto.Session> sessions = tokenProvider.getSessions(authUser.getEmail()).stream()
+                .map(UserDto::fromSessionToSessionInfo)
+                .toList();
+
+        return ResponseEntity.ok().body(sessions);
+    }
+
+    /**
+     * 로그아웃 요청의 Access Token 폐기
+     * <ol>
+     *     <li>로그아웃 경로는 Security Filter에서 재발급하지 않으므로 요청 Token을 직접 검증합니다.</li>
+     *     <li>만료 여부와 관계없이 서명이 유효하면 Token의 유저, 기기 정보를 사용합니다.</li>
+     * </ol>
+     * @param authorization Bearer Access Token
+     * @return 서명 검증을 마친 Token 정보
+     */
+    private VerifiedToken revokeAccessToken(String authorization) {
+
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new CustomException(ErrorType.INVALID_JWT_TOKEN);
+        }
+
+        VerifiedToken verifiedToken = tokenProvider.verify(authorization.substring("Bearer ".length()));
+        if (verifiedToken == null) {
+            throw new CustomException(ErrorType.INVALID_JWT_TOKEN);
+        }
+
+        if (verifiedToken.tokenId() != null) tokenDenylist.revoke(verifiedToken.tokenId());
+
+        return verifiedToken;
+    }
 }
@@ -1,8 +1,10 @@
 package archive.oxahex.api.controller;
 
+import archive.oxahex.api.dto.CursorPage;
 import archive.oxahex.api.dto.PartnersDto;
 import archive.oxahex.api.dto.ReservationDto;
 import archive.oxahex.api.dto.StoreDto;
+import archive.oxahex.api.dto.request.ReservationBatchRequest;
 import archive.oxahex.api.dto.request.StoreModifyRequest;
 import archive.oxahex.api.dto.request.StoreRegisterRequest;
 import archive.oxahex.api.security.AuthUser;
@@ -127,26 +129,25 @@ public class PartnersController {
      * 대기 상태 예약 목록 조회
      * <ol>
      *     <li>매장 별 조회, 파트너스 별 조회가 아니라 등록한 모든 매장에 대한 대기 상태 예약 전체 조회</li>
+     *     <li>방문 시간 순, 커서 기반 페이지(cursor: 이전 응답의 nextCursor, size: 최대 100)</li>
      * </ol>
      */
     @GetMapping("/reservations")
-    public ResponseEntity<List<ReservationDto.Info>> getAllPendingReservation() {
+    public ResponseEntity<CursorPage<ReservationDto.Info>> getAllPendingReservation(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
 
         AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         User user = authUser.getUser();
 
         Partners partners = partnersService.getPartners(user);
 
-        // 예약 상태 타입으로 조회할 수 있는 메서드를 만들고, 재사용하면?
-        List<Reservation> pendingReservations =
-                reservationService.getAllPendingReservations(partners);
-
-        List<ReservationDto.Info> reservationInfos =
-                pendingReservations.stream()
-                        .map(ReservationDto::fromEntityToReservationInfo)
-                        .toList();
+        CursorPage<ReservationDto.Info> pendingReservations =
+                reservationService.getPendingReservations(partners, cursor, size)
+                        .map(ReservationDto::fromSummaryToReservationInfo);
 
-        return ResponseEntity.ok().body(reservationInfos);
+        return ResponseEntity.ok().body(pendingReservations);
     }
 
     /**
@@ -181,4 +182,26 @@ public class PartnersController {
         return ResponseEntity.ok().body(reservationDetail);
     }
 
+    /**
+     * 여러 예약 일괄 승인 또는 거절
+     * <ol>
+     *     <li>예약 ID 목록과 변경할 상태(ALLOWED, REJECTED)를 받음</li>
+     *     <li>일부 예약 건이 실패해도 나머지는 처리, 예약 건 별 처리 결과 반환</li>
+     * </ol>
+     */
+    @PatchMapping("/reservations")
+    public ResponseEntity<List<ReservationDto.BatchResult>> changeReservationStatuses(
+            @RequestBody @Valid ReservationBatchRequest request
+    ) {
+        AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        User user = authUser.getUser();
+
+        Partners partners = partnersService.getPartners(user);
+
+        List<ReservationDto.BatchResult> results = reservationService.changeReservationStatuses(
+                partners, request.getStatus(), request.getReservationIds()
+        );
+
+        return ResponseEntity.ok().body(results);
+    }
 }
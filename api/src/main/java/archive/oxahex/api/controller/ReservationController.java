@@ -1,8 +1,11 @@
 package archive.oxahex.api.controller;
 
+import archive.oxahex.api.dto.CursorPage;
 import archive.oxahex.api.dto.ReservationDto;
 import archive.oxahex.api.dto.ReservationSearchType;
 import archive.oxahex.api.dto.request.ReservationRequest;
+import archive.oxahex.api.intake.ReservationIntakeQueue;
+import archive.oxahex.api.intake.ReservationTicket;
 import archive.oxahex.api.security.AuthUser;
 import archive.oxahex.api.service.KioskService;
 import archive.oxahex.api.service.ReservationService;
@@ -11,13 +14,20 @@ import archive.oxahex.domain.entity.User;
 import jakarta.validation.Valid;
 import jakarta.websocket.server.PathParam;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/reservations")
 @PreAuthorize("hasRole('USER')")
@@ -26,12 +36,17 @@ public class ReservationController {
 
     private final ReservationService reservationService;
     private final KioskService kioskService;
+    private final ReservationIntakeQueue reservationIntakeQueue;
+
+    @Value("${reservation.intake.sse-timeout-millis:30000}")
+    private long sseTimeoutMillis;
 
     /**
      * 매장 예약 요청
+     * <p>비동기 접수 모드(reservation.intake.mode=async)인 경우 대기열에 넣고 접수 번호 반환(202 Accepted)
      */
     @PostMapping("/stores/{storeId}")
-    public ResponseEntity<ReservationDto.Detail> requestReservation(
+    public ResponseEntity<?> requestReservation(
             @PathVariable Long storeId,
             @RequestBody @Valid ReservationRequest request
     ) {
@@ -39,6 +54,14 @@ public class ReservationController {
         AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         User user = authUser.getUser();
 
+        if (reservationIntakeQueue.isEnabled()) {
+            ReservationTicket ticket = reservationIntakeQueue.submit(user, storeId, request);
+
+            return ResponseEntity.accepted()
+                    .location(URI.create("/reservations/tickets/" + ticket.getId()))
+                    .body(ReservationDto.fromTicketToTicketInfo(ticket));
+        }
+
         Reservation reservation =
                 reservationService.requestReservation(user, storeId, request);
 
@@ -52,11 +75,14 @@ public class ReservationController {
      * <ol>
      *     <li>검색 타입 PENDING, CANCELLED, ALLOWED, REJECTED, CONFIRMED, REVIEWED</li>
      *     <li>path param 미입력 시 전체 검색</li>
+     *     <li>최근 방문 시간 순, 커서 기반 페이지(cursor: 이전 응답의 nextCursor, size: 최대 100)</li>
      * </ol>
      */
     @GetMapping
-    public ResponseEntity<List<ReservationDto.Info>> getReservations(
-            @PathParam("status") String status
+    public ResponseEntity<CursorPage<ReservationDto.Info>> getReservations(
+            @PathParam("status") String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
         AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         User user = authUser.getUser();
@@ -64,14 +90,11 @@ public class ReservationController {
         ReservationSearchType searchType =
                 ReservationSearchType.getReservationSearchType(status);
 
-        List<Reservation> reservations =
-                reservationService.getAllReservations(user, searchType);
+        CursorPage<ReservationDto.Info> reservationInfos =
+                reservationService.getReservations(user, searchType, cursor, size)
+                        .map(ReservationDto::fromSummaryToReservationInfo);
 
-        List<ReservationDto.Info> reservationsInfos = reservations.stream()
-                .map(ReservationDto::fromEntityToReservationInfo)
-                .toList();
-
-        return ResponseEntity.ok().body(reservationsInfos);
+        return ResponseEntity.ok().body(reservationInfos);
     }
 
     /**
@@ -107,4 +130,52 @@ public class ReservationController {
 
         return ResponseEntity.ok().body(reservationDetail);
     }
+
+    /**
+     * 비동기 예약 접수 결과 조회
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<ReservationDto.Ticket> getTicket(
+            @PathVariable String ticketId
+    ) {
+        AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        ReservationTicket ticket = reservationIntakeQueue.getTicket(ticketId, authUser.getId());
+
+        return ResponseEntity.ok().body(ReservationDto.fromTicketToTicketInfo(ticket));
+    }
+
+    /**
+     * 비동기 예약 접수 결과 수신(SSE)
+     * <p>처리가 끝나면 결과 이벤트(result)를 한 번 보내고 연결 종료
+     * <p>제한 시간이 지나거나 연결이 끊긴 경우 결과를 보내지 않고 종료, 결과는 접수 번호로 조회
+     */
+    @GetMapping(value = "/tickets/{ticketId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTicket(
+            @PathVariable String ticketId
+    ) {
+        AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        ReservationTicket ticket = reservationIntakeQueue.getTicket(ticketId, authUser.getId());
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> log.debug("[ReservationController.subscribeTicket] 연결 종료 ticketId={}", ticketId, e));
+
+        ticket.getResult().whenComplete((result, e) -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("result")
+                        .data(ReservationDto.fromTicketToTicketInfo(result)));
+                emitter.complete();
+            } catch (IOException ex) {
+                emitter.completeWithError(ex);
+            } catch (IllegalStateException ex) {
+                // 이미 종료된 연결(제한 시간 초과, 연결 끊김)
+                log.debug("[ReservationController.subscribeTicket] 종료된 연결 ticketId={}", ticketId);
+            }
+        });
+
+        return emitter;
+    }
 }
@@ -1,15 +1,20 @@
 package archive.oxahex.api.controller;
 
+import archive.oxahex.api.cache.StoreResponseCache;
+import archive.oxahex.api.dto.CursorPage;
 import archive.oxahex.api.dto.SortType;
 import archive.oxahex.api.dto.StoreDto;
 import archive.oxahex.api.service.StoreService;
-import archive.oxahex.domain.entity.Store;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/stores")
@@ -18,35 +23,88 @@ import java.util.List;
 public class StoreController {
 
     private final StoreService storeService;
+    private final StoreResponseCache storeResponseCache;
 
     /**
      * 등록된 상점 조회
      * <p> 기본값: 등록일 최신순(ASC)
-     * <p> 별점 순(RATING)
+     * <p> 리뷰 많은 순(REVIEW_COUNT), 별점 순(RATING)
+     * <p> 커서 기반 페이지(cursor: 이전 응답의 nextCursor, size: 최대 100)
+     * <p> 직렬화한 응답을 캐시, If-None-Match가 ETag와 같으면 304
      */
     @GetMapping
-    public ResponseEntity<List<StoreDto.Info>> getStores(
-            @RequestParam(required = false) String sort
+    public ResponseEntity<byte[]> getStores(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
     ) {
 
         SortType sortType = SortType.getSortType(sort);
-        List<Store> stores = storeService.getAllStore(sortType);
-        List<StoreDto.Info> storeInfos = stores.stream()
-                .map(StoreDto::fromEntityToStoreInfo).toList();
+        StoreResponseCache.CachedResponse storeInfos = storeResponseCache.getList(sortType, cursor, size,
+                () -> storeService.getStores(sortType, cursor, size).map(StoreDto::fromSummaryToStoreInfo));
 
-        return ResponseEntity.ok().body(storeInfos);
+        return toResponse(storeInfos, webRequest);
+    }
+
+    /**
+     * 주변 매장 조회
+     * <p> lat, lng: 검색 위치, radius: 검색 반경(m, 기본값 3km, 최대 20km)
+     * <p> 가까운 순, 커서 기반 페이지(cursor: 이전 응답의 nextCursor, size: 최대 100)
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<CursorPage<StoreDto.NearbyInfo>> getNearbyStores(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "3000") double radius,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<StoreDto.NearbyInfo> stores = storeService.getNearbyStores(lat, lng, radius, cursor, size);
+
+        return ResponseEntity.ok().body(stores);
     }
 
     /**
      * 매장 상세 정보 조회
+     * <p> 직렬화한 응답을 캐시, If-None-Match가 ETag와 같으면 304
      */
     @GetMapping("/{storeId}")
-    public ResponseEntity<StoreDto.Detail> getStore(
-            @PathVariable Long storeId
+    public ResponseEntity<byte[]> getStore(
+            @PathVariable Long storeId,
+            WebRequest webRequest
     ) {
-        Store store = storeService.getStore(storeId);
-        StoreDto.Detail storeDetail = StoreDto.fromEntityToStoreDetail(store);
+        StoreResponseCache.CachedResponse storeDetail = storeResponseCache.getStore(storeId,
+                () -> StoreDto.fromEntityToStoreDetail(storeService.getStore(storeId)));
+
+        return toResponse(storeDetail, webRequest);
+    }
+
+    /**
+     * 매장 시간대 별 남은 테이블 수 조회
+     * <p> 기본값: 오늘부터 7일, 모든 시간대
+     * <p> tables: 남은 테이블 수가 이 값 이상인 시간대만 조회
+     */
+    @GetMapping("/{storeId}/availability")
+    public ResponseEntity<StoreDto.Availability> getAvailability(
+            @PathVariable Long storeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "0") int tables
+    ) {
+        StoreDto.Availability availability = storeService.getAvailability(storeId, from, days, tables);
+
+        return ResponseEntity.ok().body(availability);
+    }
+
+    private ResponseEntity<byte[]> toResponse(StoreResponseCache.CachedResponse response, WebRequest webRequest) {
+        if (webRequest.checkNotModified(response.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(response.eTag()).build();
+        }
 
-        return ResponseEntity.ok().body(storeDetail);
+        return ResponseEntity.ok()
+                .eTag(response.eTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
     }
 }
@@ -0,0 +1,52 @@
+package archive.oxahex.api.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지
+ * <ol>
+ *     <li>페이지 크기보다 한 건 더 조회해 다음 페이지 존재 여부 확인</li>
+ *     <li>다음 페이지 요청 시 nextCursor를 그대로 전달, 마지막 페이지면 null</li>
+ * </ol>
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private CursorPage(List<T> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * @param fetched 페이지 크기 + 1 건까지 조회한 결과
+     * @param cursorOf 마지막 항목으로 다음 페이지 커서 생성
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null, false);
+        }
+
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)), true);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * 변환 결과가 null인 항목(조회 사이에 삭제된 항목)은 제외, 커서는 그대로 유지
+     */
+    public <R> CursorPage<R> mapNonNull(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).filter(Objects::nonNull).toList(), nextCursor, hasNext);
+    }
+}
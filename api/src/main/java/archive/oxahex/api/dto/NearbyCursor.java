@@ -0,0 +1,49 @@
+package archive.oxahex.api.dto;
+
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.geo.GeoEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 주변 매장 목록 커서(검색 위치로부터의 거리, 매장 ID)
+ * <p>클라이언트에는 Base64(URL) 문자열로 전달, 같은 검색 위치로 다음 페이지를 요청해야 함
+ */
+public record NearbyCursor(double distanceMeters, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static NearbyCursor of(GeoEntry entry) {
+        return new NearbyCursor(entry.distanceMeters(), entry.storeId());
+    }
+
+    public GeoEntry toEntry() {
+        return new GeoEntry(id, distanceMeters);
+    }
+
+    public String encode() {
+        String value = distanceMeters + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 없는 경우 null(첫 페이지)
+     * @throws CustomException 형식이 맞지 않는 경우 INVALID_CURSOR
+     */
+    public static NearbyCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return null;
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = value.lastIndexOf(DELIMITER);
+            return new NearbyCursor(
+                    Double.parseDouble(value.substring(0, index)),
+                    Long.parseLong(value.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorType.INVALID_CURSOR);
+        }
+    }
+}
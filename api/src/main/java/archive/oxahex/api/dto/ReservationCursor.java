@@ -0,0 +1,41 @@
+package archive.oxahex.api.dto;
+
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 예약 목록 커서(방문 시간, 예약 ID)
+ * <p>클라이언트에는 Base64(URL) 문자열로 전달, 내용은 해석하지 않고 그대로 돌려받음
+ */
+public record ReservationCursor(LocalDateTime visitDate, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String value = visitDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 없는 경우 null(첫 페이지)
+     * @throws CustomException 형식이 맞지 않는 경우 INVALID_CURSOR
+     */
+    public static ReservationCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return null;
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = value.lastIndexOf(DELIMITER);
+            return new ReservationCursor(
+                    LocalDateTime.parse(value.substring(0, index)),
+                    Long.parseLong(value.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorType.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package archive.oxahex.api.dto;
 
+import archive.oxahex.api.intake.ReservationTicket;
 import archive.oxahex.domain.entity.Reservation;
+import archive.oxahex.domain.projection.ReservationSummary;
 import archive.oxahex.domain.type.ReservationStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.constraints.*;
@@ -34,6 +36,18 @@ public class ReservationDto {
         return reservationInfo;
     }
 
+    public static ReservationDto.Info fromSummaryToReservationInfo(ReservationSummary summary) {
+        ReservationDto.Info reservationInfo = new ReservationDto.Info();
+        reservationInfo.setId(summary.id());
+        reservationInfo.setUserName(summary.userName());
+        reservationInfo.setStoreName(summary.storeName());
+        reservationInfo.setStatus(summary.status());
+        reservationInfo.setVisitDate(summary.visitDate());
+        reservationInfo.setUseTableCount(summary.useTableCount());
+
+        return reservationInfo;
+    }
+
     /**
      * 예약 내역 상세
      */
@@ -61,4 +75,61 @@ public class ReservationDto {
 
         return reservationDetail;
     }
+
+    /**
+     * 일괄 승인/거절 예약 건 별 처리 결과
+     */
+    @Getter
+    @Setter
+    public static class BatchResult {
+
+        private Long reservationId;
+        private boolean success;
+        private ReservationStatus status;
+        private String errorMessage;
+    }
+
+    public static ReservationDto.BatchResult fromEntityToBatchResult(Reservation reservation) {
+
+        ReservationDto.BatchResult batchResult = new ReservationDto.BatchResult();
+        batchResult.setReservationId(reservation.getId());
+        batchResult.setSuccess(true);
+        batchResult.setStatus(reservation.getStatus());
+
+        return batchResult;
+    }
+
+    public static ReservationDto.BatchResult fromErrorToBatchResult(Long reservationId, String errorMessage) {
+
+        ReservationDto.BatchResult batchResult = new ReservationDto.BatchResult();
+        batchResult.setReservationId(reservationId);
+        batchResult.setSuccess(false);
+        batchResult.setErrorMessage(errorMessage);
+
+        return batchResult;
+    }
+
+    /**
+     * 비동기 예약 접수 번호, 처리 결과
+     */
+    @Getter
+    @Setter
+    public static class Ticket {
+
+        private String ticketId;
+        private ReservationTicket.Status status;
+        private Long reservationId;
+        private String errorMessage;
+    }
+
+    public static ReservationDto.Ticket fromTicketToTicketInfo(ReservationTicket reservationTicket) {
+
+        ReservationDto.Ticket ticket = new ReservationDto.Ticket();
+        ticket.setTicketId(reservationTicket.getId());
+        ticket.setStatus(reservationTicket.getStatus());
+        ticket.setReservationId(reservationTicket.getReservationId());
+        ticket.setErrorMessage(reservationTicket.getErrorMessage());
+
+        return ticket;
+    }
 }
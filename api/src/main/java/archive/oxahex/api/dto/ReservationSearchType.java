@@ -16,7 +16,8 @@ public enum ReservationSearchType {
     PENDING("pending"),
     ALLOWED("allowed"),
     REJECTED("rejected"),
-    CONFIRMED("confirmed");
+    CONFIRMED("confirmed"),
+    NO_SHOW("no_show");
 
     private final String condition;
 
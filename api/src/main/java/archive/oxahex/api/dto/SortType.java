@@ -12,7 +12,8 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public enum SortType {
     ASC("asc"),
-    REVIEW_COUNT("review_count");
+    REVIEW_COUNT("review_count"),
+    RATING("rating");
 
     private final String condition;
 
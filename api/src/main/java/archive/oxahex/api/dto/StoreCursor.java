@@ -0,0 +1,62 @@
+package archive.oxahex.api.dto;
+
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.ranking.RankingEntry;
+import archive.oxahex.domain.projection.StoreSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 매장 목록 커서(정렬 타입, 정렬 기준 값, 매장 ID)
+ * <p>클라이언트에는 Base64(URL) 문자열로 전달, 다른 정렬 타입의 커서는 사용할 수 없음
+ */
+public record StoreCursor(SortType sortType, String sortKey, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 등록일 순(ASC) 목록 커서 생성
+     */
+    public static StoreCursor of(StoreSummary store) {
+        return new StoreCursor(SortType.ASC, String.valueOf(store.registeredDate()), store.id());
+    }
+
+    /**
+     * 순위(리뷰 수, 평균 별점) 목록 커서 생성, 정렬 기준 값은 순위 기준 값
+     */
+    public static StoreCursor of(SortType sortType, RankingEntry entry) {
+        return new StoreCursor(sortType, String.valueOf(entry.score()), entry.storeId());
+    }
+
+    public String encode() {
+        String value = sortType.getCondition() + DELIMITER + sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 없는 경우 null(첫 페이지)
+     * @throws CustomException 형식이 맞지 않거나 정렬 타입이 다른 경우 INVALID_CURSOR
+     */
+    public static StoreCursor decode(String cursor, SortType sortType) {
+        if (cursor == null || cursor.isEmpty()) return null;
+
+        String[] values;
+        try {
+            values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorType.INVALID_CURSOR);
+        }
+
+        if (values.length != 3 || !sortType.getCondition().equals(values[0])) {
+            throw new CustomException(ErrorType.INVALID_CURSOR);
+        }
+        try {
+            return new StoreCursor(sortType, values[1], Long.parseLong(values[2]));
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorType.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package archive.oxahex.api.dto;
 
 import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.projection.StoreSummary;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 public class StoreDto {
 
@@ -17,6 +22,8 @@ public class StoreDto {
         private String name;
         private String address;
         private String description;
+        private Double latitude;
+        private Double longitude;
         private Integer tableCount;
     }
 
@@ -26,11 +33,49 @@ public class StoreDto {
         storeInfo.setName(store.getName());
         storeInfo.setAddress(store.getAddress());
         storeInfo.setDescription(store.getDescription());
+        storeInfo.setLatitude(store.getLatitude());
+        storeInfo.setLongitude(store.getLongitude());
         storeInfo.setTableCount(store.getTableCount());
 
         return storeInfo;
     }
 
+    public static StoreDto.Info fromSummaryToStoreInfo(StoreSummary store) {
+        StoreDto.Info storeInfo = new StoreDto.Info();
+        storeInfo.setId(store.id());
+        storeInfo.setName(store.name());
+        storeInfo.setAddress(store.address());
+        storeInfo.setDescription(store.description());
+        storeInfo.setLatitude(store.latitude());
+        storeInfo.setLongitude(store.longitude());
+        storeInfo.setTableCount(store.tableCount());
+
+        return storeInfo;
+    }
+
+    /**
+     * 주변 매장(매장 정보 + 검색 위치로부터의 거리)
+     */
+    @Getter
+    @Setter
+    public static class NearbyInfo extends Info {
+        private Double distanceMeters;
+    }
+
+    public static StoreDto.NearbyInfo fromSummaryToNearbyInfo(StoreSummary store, double distanceMeters) {
+        StoreDto.NearbyInfo storeInfo = new StoreDto.NearbyInfo();
+        storeInfo.setId(store.id());
+        storeInfo.setName(store.name());
+        storeInfo.setAddress(store.address());
+        storeInfo.setDescription(store.description());
+        storeInfo.setLatitude(store.latitude());
+        storeInfo.setLongitude(store.longitude());
+        storeInfo.setTableCount(store.tableCount());
+        storeInfo.setDistanceMeters(Math.round(distanceMeters * 10) / 10.0);
+
+        return storeInfo;
+    }
+
     @Getter
     @Setter
     public static class Detail {
@@ -39,8 +84,11 @@ public class StoreDto {
         private String name;
         private String address;
         private String description;
+        private Double latitude;
+        private Double longitude;
         private Integer tableCount;
         private Integer reviewCount;
+        private Integer pendingTtlMinutes;
         private String businessNumber;
     }
 
@@ -50,10 +98,63 @@ public class StoreDto {
         storeDetail.setName(store.getName());
         storeDetail.setAddress(store.getAddress());
         storeDetail.setDescription(store.getDescription());
+        storeDetail.setLatitude(store.getLatitude());
+        storeDetail.setLongitude(store.getLongitude());
         storeDetail.setTableCount(store.getTableCount());
         storeDetail.setReviewCount(store.getReviewCount());
+        storeDetail.setPendingTtlMinutes(store.getPendingTtlMinutes());
         storeDetail.setBusinessNumber(store.getBusinessNumber());
 
         return storeDetail;
     }
+
+    /**
+     * 매장 시간대 별 남은 테이블 수
+     */
+    @Getter
+    @Setter
+    public static class Availability {
+
+        private Long storeId;
+        private Integer tableCount;
+        private List<SlotAvailability> slots;
+    }
+
+    @Getter
+    @Setter
+    public static class SlotAvailability {
+
+        private LocalDateTime slotTime;
+        private Integer remainingCount;
+    }
+
+    /**
+     * @param remainingCounts 시작일부터 [날짜][시] 별 남은 테이블 수
+     * @param since 이 시각 이전 시간대는 제외
+     * @param minTableCount 남은 테이블 수가 이보다 적은 시간대는 제외
+     */
+    public static StoreDto.Availability fromRemainingCountsToAvailability(
+            Store store, LocalDate from, int[][] remainingCounts, LocalDateTime since, int minTableCount
+    ) {
+        List<SlotAvailability> slots = new ArrayList<>();
+        for (int day = 0; day < remainingCounts.length; day++) {
+            LocalDateTime date = from.plusDays(day).atStartOfDay();
+            for (int hour = 0; hour < remainingCounts[day].length; hour++) {
+                LocalDateTime slotTime = date.plusHours(hour);
+                if (slotTime.isBefore(since) || remainingCounts[day][hour] < minTableCount) continue;
+
+                SlotAvailability slot = new SlotAvailability();
+                slot.setSlotTime(slotTime);
+                slot.setRemainingCount(remainingCounts[day][hour]);
+                slots.add(slot);
+            }
+        }
+
+        StoreDto.Availability availability = new StoreDto.Availability();
+        availability.setStoreId(store.getId());
+        availability.setTableCount(store.getTableCount());
+        availability.setSlots(slots);
+
+        return availability;
+    }
 }
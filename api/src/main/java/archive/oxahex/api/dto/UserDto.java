@@ -1,10 +1,15 @@
 package archive.oxahex.api.dto;
 
+import archive.oxahex.api.security.RefreshTokenStore;
 import archive.oxahex.domain.entity.User;
 import archive.oxahex.domain.type.RoleType;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 
 
 public class UserDto {
@@ -17,6 +22,13 @@ public class UserDto {
         private RoleType role;
     }
 
+    @Getter
+    @Setter
+    public static class Session {
+        private String deviceId;
+        private LocalDateTime expiredAt;
+    }
+
     public static UserDto.Info fromEntityToUserInfo(User user) {
         UserDto.Info userInfo = new UserDto.Info();
         userInfo.setUsername(user.getName());
@@ -25,4 +37,14 @@ public class UserDto {
 
         return userInfo;
     }
+
+    public static UserDto.Session fromSessionToSessionInfo(RefreshTokenStore.Session session) {
+        UserDto.Session sessionInfo = new UserDto.Session();
+        sessionInfo.setDeviceId(session.deviceId());
+        sessionInfo.setExpiredAt(LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(session.expiredAt()), ZoneId.systemDefault()
+        ));
+
+        return sessionInfo;
+    }
 }
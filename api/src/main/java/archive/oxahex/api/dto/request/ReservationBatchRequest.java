@@ -0,0 +1,22 @@
+package archive.oxahex.api.dto.request;
+
+import archive.oxahex.domain.type.ReservationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ReservationBatchRequest {
+
+    @NotEmpty(message = "처리할 예약 건을 선택해주세요.")
+    @Size(max = 100, message = "한 번에 최대 100건까지 처리할 수 있습니다.")
+    private List<Long> reservationIds;
+
+    @NotNull(message = "변경할 예약 상태를 입력해주세요.")
+    private ReservationStatus status;
+}
@@ -1,7 +1,10 @@
 package archive.oxahex.api.dto.request;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -18,9 +21,22 @@ public class StoreRegisterRequest {
     @NotBlank(message = "매장 설명을 입력해주세요.")
     private String description;
 
+    // 매장 위치(WGS84), 없으면 주변 매장 검색에서 제외
+    @DecimalMin(value = "-90", message = "위도는 -90 이상 90 이하로 입력해주세요.")
+    @DecimalMax(value = "90", message = "위도는 -90 이상 90 이하로 입력해주세요.")
+    private Double latitude;
+
+    @DecimalMin(value = "-180", message = "경도는 -180 이상 180 이하로 입력해주세요.")
+    @DecimalMax(value = "180", message = "경도는 -180 이상 180 이하로 입력해주세요.")
+    private Double longitude;
+
     @NotNull(message = "사용 가능한 테이블 수를 입력해주세요.")
     private Integer tableCount;
 
+    // 대기 예약 자동 거절 시간(분), 없으면 기본값 사용
+    @Positive(message = "대기 예약 자동 거절 시간은 1분 이상이어야 합니다.")
+    private Integer pendingTtlMinutes;
+
     @NotBlank(message = "해당 매장의 사업자 등록 번호를 입력해주세요")
     private String businessNumber;
 
@@ -36,7 +36,22 @@ public enum ErrorType {
     ALREADY_REVIEW_STORE(HttpStatus.CONFLICT, "이미 해당 예약 건에 대해 리뷰를 작성하셨습니다."),
     EXPIRED_JWT_TOKEN(HttpStatus.UNAUTHORIZED, "토큰이 만료되었습니다."),
     INVALID_JWT_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
-    REDIS_CONNECTION_FAILURE(HttpStatus.INTERNAL_SERVER_ERROR, "Redis 연결에 실패했습니다.");
+    REDIS_CONNECTION_FAILURE(HttpStatus.INTERNAL_SERVER_ERROR, "Redis 연결에 실패했습니다."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    TOKEN_STORE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "인증 저장소를 사용할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    CAPACITY_UPDATE_CONFLICT(HttpStatus.CONFLICT, "동시에 처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_STATUS_CHANGE(HttpStatus.BAD_REQUEST, "승인 또는 거절만 일괄 처리할 수 있습니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "올바른 Idempotency-Key 형식이 아닙니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    RESERVATION_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "예약 요청이 많아 접수할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    RESERVATION_INTAKE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "예약 요청을 처리하지 못했습니다. 다시 시도해주세요."),
+    TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 예약 접수 번호입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "올바르지 않은 페이지 커서입니다."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "조회 기간은 1일 이상 31일 이하로 입력해주세요."),
+    INVALID_LOCATION(HttpStatus.BAD_REQUEST, "위치 또는 검색 반경이 올바르지 않습니다."),
+    INCOMPLETE_LOCATION(HttpStatus.BAD_REQUEST, "매장 위치는 위도와 경도를 함께 입력해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
 
     private final HttpStatus httpStatus;
     private final String errorMessage;
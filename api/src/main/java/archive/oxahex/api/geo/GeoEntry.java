@@ -0,0 +1,8 @@
+package archive.oxahex.api.geo;
+
+/**
+ * 주변 매장 검색 결과 항목(매장 ID, 검색 위치로부터의 거리)
+ * <p>거리 오름차순, 같은 거리면 매장 ID 오름차순
+ */
+public record GeoEntry(Long storeId, double distanceMeters) {
+}
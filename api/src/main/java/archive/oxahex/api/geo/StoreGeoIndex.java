@@ -0,0 +1,341 @@
+package archive.oxahex.api.geo;
+
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.projection.StoreLocation;
+import archive.oxahex.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static archive.oxahex.api.transaction.TransactionCallbacks.runAfterCommit;
+
+/**
+ * 주변 매장 검색 색인(위도, 경도 격자)
+ * <ol>
+ *     <li>재구성 시 전체 매장 위치를 격자 칸 순서로 정렬해 기본형 배열(ID, 위도, 경도)에 저장, 칸 별 시작 위치는 이진 탐색</li>
+ *     <li>검색 위치가 속한 칸부터 한 바퀴씩 넓혀가며 반경 안의 매장을 거리 순으로 limit 건까지 수집</li>
+ *     <li>limit 건이 모였고 다음 바퀴의 최소 거리가 수집한 최대 거리보다 멀면 중단(k nearest)</li>
+ *     <li>재구성 이후 등록, 수정, 삭제된 매장은 별도로 보관해 검색 시 함께 반영, 다음 재구성 때 배열에 반영</li>
+ *     <li>경도 칸은 ±180도에서 이어짐, 경계 근처 검색은 반대편 칸까지 탐색</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+public class StoreGeoIndex {
+
+    // 지구 평균 반지름(m), 위도 1도 거리
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180;
+
+    // 칸 번호(위도 칸 * 경도 칸 수 + 경도 칸)가 int 범위를 넘지 않는 최소 칸 크기
+    private static final double MIN_CELL_DEGREES = 0.01;
+
+    private static final Comparator<GeoEntry> ORDER = Comparator
+            .comparingDouble(GeoEntry::distanceMeters)
+            .thenComparing(GeoEntry::storeId);
+
+    private final StoreRepository storeRepository;
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lonCells;
+    // 360도를 lonCells 칸으로 나눈 경도 칸 크기(cellDegrees 이하)
+    private final double lonCellDegrees;
+    private final Timer rebuildTimer;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 재구성 이후 변경된 매장(삭제된 매장은 removed), 배열보다 우선
+    private final ConcurrentMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean loaded;
+
+    public StoreGeoIndex(
+            StoreRepository storeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${store-geo.cell-degrees:0.01}") double cellDegrees
+    ) {
+        if (cellDegrees < MIN_CELL_DEGREES || cellDegrees > 1) {
+            throw new IllegalArgumentException("store-geo.cell-degrees는 0.01 이상 1 이하여야 합니다.");
+        }
+
+        this.storeRepository = storeRepository;
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180 / cellDegrees) + 1;
+        this.lonCells = (int) Math.ceil(360 / cellDegrees);
+        this.lonCellDegrees = 360.0 / lonCells;
+
+        Gauge.builder("store.geo.size", this, index -> index.snapshot.size()).register(meterRegistry);
+        Gauge.builder("store.geo.pending", pending, Map::size).register(meterRegistry);
+        this.rebuildTimer = Timer.builder("store.geo.rebuild").register(meterRegistry);
+    }
+
+    /**
+     * 매장 위치 반영, 위치가 없으면 검색에서 제외
+     * <p>트랜잭션 안에서 호출하면 commit 이후 반영
+     */
+    public void update(Store store) {
+        Long storeId = store.getId();
+        Double latitude = store.getLatitude();
+        Double longitude = store.getLongitude();
+
+        runAfterCommit(() -> pending.put(storeId, latitude == null || longitude == null
+                ? Pending.removed(sequence.incrementAndGet())
+                : new Pending(latitude, longitude, false, sequence.incrementAndGet())));
+    }
+
+    /**
+     * 검색에서 매장 제외
+     * <p>트랜잭션 안에서 호출하면 commit 이후 반영
+     */
+    public void remove(Long storeId) {
+        runAfterCommit(() -> pending.put(storeId, Pending.removed(sequence.incrementAndGet())));
+    }
+
+    /**
+     * 반경 안의 매장을 가까운 순으로 조회
+     * @param after 이전 페이지 마지막 항목, 첫 페이지는 null
+     * @param limit 최대 조회 건수
+     */
+    public List<GeoEntry> search(double latitude, double longitude, double radiusMeters, GeoEntry after, int limit) {
+        if (!loaded) {
+            ensureLoaded();
+        }
+
+        Snapshot current = snapshot;
+        boolean hasPending = !pending.isEmpty();
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+
+        // 가까운 limit 건 중 가장 먼 항목이 맨 앞
+        PriorityQueue<GeoEntry> nearest = new PriorityQueue<>(limit + 1, ORDER.reversed());
+
+        int centerLat = latIndex(latitude);
+        int centerLon = lonIndex(longitude);
+
+        // 반경 안의 매장이 있을 수 있는 위도 범위에서 경도 1칸의 가장 짧은 폭
+        double maxAbsLatitude = Math.min(90, Math.abs(latitude) + radiusMeters / METERS_PER_DEGREE);
+        double minCellMeters = lonCellDegrees * METERS_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLatitude));
+
+        int latRange = (int) Math.ceil(radiusMeters / (cellDegrees * METERS_PER_DEGREE));
+        int lonRange = minCellMeters <= 0
+                ? lonCells
+                : (int) Math.min(lonCells, Math.ceil(radiusMeters / minCellMeters));
+
+        // 경도 칸은 한 바퀴를 넘지 않도록 서쪽, 동쪽 범위를 나눔(같은 칸을 두 번 탐색하지 않음)
+        int lonWest = Math.min(lonRange, lonCells / 2);
+        int lonEast = Math.min(lonRange, lonCells - 1 - lonCells / 2);
+
+        for (int ring = 0; ring <= Math.max(latRange, lonWest); ring++) {
+            // ring 번째 바퀴의 매장은 검색 위치에서 최소 (ring - 1)칸 떨어져 있음
+            if (nearest.size() >= limit && nearest.peek().distanceMeters() <= (ring - 1) * minCellMeters * 0.999) {
+                break;
+            }
+
+            for (int dLat = -Math.min(ring, latRange); dLat <= Math.min(ring, latRange); dLat++) {
+                int lat = centerLat + dLat;
+                if (lat < 0 || lat >= latCells) continue;
+
+                // 위, 아래 줄은 모든 칸, 나머지 줄은 양 끝 칸만
+                int step = Math.abs(dLat) == ring ? 1 : 2 * ring;
+                for (int dLon = -ring; dLon <= ring; dLon += Math.max(step, 1)) {
+                    if (dLon < -lonWest || dLon > lonEast) continue;
+                    int lon = Math.floorMod(centerLon + dLon, lonCells);
+
+                    int cell = Arrays.binarySearch(current.cellKeys, lat * lonCells + lon);
+                    if (cell < 0) continue;
+
+                    for (int i = current.cellStarts[cell]; i < current.cellStarts[cell + 1]; i++) {
+                        long storeId = current.storeIds[i];
+                        if (hasPending && pending.containsKey(storeId)) continue;
+
+                        double distance = distanceMeters(
+                                latitude, longitude, cosLatitude, current.latitudes[i], current.longitudes[i]);
+                        offer(nearest, storeId, distance, radiusMeters, after, limit);
+                    }
+                }
+            }
+        }
+
+        if (hasPending) {
+            pending.forEach((storeId, location) -> {
+                if (location.removed()) return;
+                double distance = distanceMeters(
+                        latitude, longitude, cosLatitude, location.latitude(), location.longitude());
+                offer(nearest, storeId, distance, radiusMeters, after, limit);
+            });
+        }
+
+        List<GeoEntry> entries = new ArrayList<>(nearest);
+        entries.sort(ORDER);
+        return entries;
+    }
+
+    /**
+     * DB 기준으로 색인 재구성
+     * <ol>
+     *     <li>위치가 있는 매장의 ID, 위도, 경도만 조회해 새 배열을 만든 뒤 한 번에 교체</li>
+     *     <li>재구성 시작 전 변경은 배열에 반영되었으므로 제거, 시작 이후 변경은 유지</li>
+     * </ol>
+     */
+    @Scheduled(fixedDelayString = "${store-geo.rebuild-interval-millis:600000}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        long startedAt = sequence.get();
+
+        List<StoreLocation> locations = storeRepository.findLocations();
+        snapshot = build(locations);
+        pending.values().removeIf(location -> location.sequence() <= startedAt);
+
+        loaded = true;
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("[StoreGeoIndex.rebuild] stores={}, cells={}, {}ms",
+                snapshot.size(), snapshot.cellKeys.length, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    private synchronized void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 칸 번호, 원래 순서를 long 하나로 묶어 정렬(객체 생성 없이 칸 순서로 정렬)
+     */
+    private Snapshot build(List<StoreLocation> locations) {
+        int size = locations.size();
+        long[] order = new long[size];
+        for (int i = 0; i < size; i++) {
+            StoreLocation location = locations.get(i);
+            long cell = (long) latIndex(location.latitude()) * lonCells + lonIndex(location.longitude());
+            order[i] = cell << 32 | i;
+        }
+        Arrays.sort(order);
+
+        long[] storeIds = new long[size];
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        int[] cellKeys = new int[Math.min(size, 1024)];
+        int[] cellStarts = new int[cellKeys.length + 1];
+        int cellCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            int cell = (int) (order[i] >>> 32);
+            StoreLocation location = locations.get((int) order[i]);
+
+            if (cellCount == 0 || cellKeys[cellCount - 1] != cell) {
+                if (cellCount == cellKeys.length) {
+                    cellKeys = Arrays.copyOf(cellKeys, cellCount * 2);
+                    cellStarts = Arrays.copyOf(cellStarts, cellCount * 2 + 1);
+                }
+                cellKeys[cellCount] = cell;
+                cellStarts[cellCount] = i;
+                cellCount++;
+            }
+
+            storeIds[i] = location.id();
+            latitudes[i] = location.latitude();
+            longitudes[i] = location.longitude();
+        }
+        cellStarts[cellCount] = size;
+
+        return new Snapshot(
+                Arrays.copyOf(cellKeys, cellCount),
+                Arrays.copyOf(cellStarts, cellCount + 1),
+                storeIds, latitudes, longitudes
+        );
+    }
+
+    private int latIndex(double latitude) {
+        return Math.min(latCells - 1, Math.max(0, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    /**
+     * 경도 180도는 -180도와 같은 칸
+     */
+    private int lonIndex(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / lonCellDegrees), lonCells);
+    }
+
+    private static void offer(
+            PriorityQueue<GeoEntry> nearest, long storeId, double distance, double radiusMeters,
+            GeoEntry after, int limit
+    ) {
+        if (distance > radiusMeters) return;
+
+        // 이전 페이지까지 반환한 항목 제외
+        if (after != null && (distance < after.distanceMeters()
+                || (distance == after.distanceMeters() && storeId <= after.storeId()))) {
+            return;
+        }
+
+        if (nearest.size() < limit) {
+            nearest.add(new GeoEntry(storeId, distance));
+            return;
+        }
+
+        GeoEntry farthest = nearest.peek();
+        if (distance < farthest.distanceMeters()
+                || (distance == farthest.distanceMeters() && storeId < farthest.storeId())) {
+            nearest.poll();
+            nearest.add(new GeoEntry(storeId, distance));
+        }
+    }
+
+    /**
+     * 두 지점 사이 거리(m, Haversine)
+     * @param cosLatitude 검색 위치 위도의 cos 값(검색마다 한 번만 계산)
+     */
+    static double distanceMeters(
+            double latitude, double longitude, double cosLatitude, double otherLatitude, double otherLongitude
+    ) {
+        double sinLat = Math.sin(Math.toRadians(otherLatitude - latitude) / 2);
+        double sinLon = Math.sin(Math.toRadians(otherLongitude - longitude) / 2);
+        double a = sinLat * sinLat + cosLatitude * Math.cos(Math.toRadians(otherLatitude)) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 재구성 시점의 색인, 교체만 하고 변경하지 않음
+     * @param cellKeys 매장이 있는 칸 번호(오름차순)
+     * @param cellStarts 칸 별 첫 매장 위치, 마지막 값은 전체 매장 수
+     */
+    private record Snapshot(
+            int[] cellKeys,
+            int[] cellStarts,
+            long[] storeIds,
+            double[] latitudes,
+            double[] longitudes
+    ) {
+        static final Snapshot EMPTY = new Snapshot(new int[0], new int[]{0}, new long[0], new double[0], new double[0]);
+
+        int size() {
+            return storeIds.length;
+        }
+    }
+
+    private record Pending(double latitude, double longitude, boolean removed, long sequence) {
+
+        static Pending removed(long sequence) {
+            return new Pending(Double.NaN, Double.NaN, true, sequence);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package archive.oxahex.api.handler;
+
+import archive.oxahex.api.dto.response.ErrorResponse;
+import archive.oxahex.api.exception.CustomException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+
+/**
+ * Controller 밖(Security Filter 등)에서 발생한 예외의 에러 응답 작성
+ * <ol>
+ *     <li>GlobalExceptionHandler와 같은 ErrorResponse 형식으로 응답합니다.</li>
+ *     <li>잠시 후 재시도 가능한 경우 Retry-After Header를 함께 보냅니다.</li>
+ * </ol>
+ */
+public final class ErrorResponseWriter {
+
+    private ErrorResponseWriter() {
+    }
+
+    /**
+     * @param response HTTP Response
+     * @param objectMapper ErrorResponse 직렬화
+     * @param e 응답할 예외
+     * @param retryAfterSeconds Retry-After Header 값(null인 경우 보내지 않음)
+     */
+    public static void write(
+            HttpServletResponse response,
+            ObjectMapper objectMapper,
+            CustomException e,
+            String retryAfterSeconds
+    ) throws IOException {
+
+        response.setCharacterEncoding("utf-8");
+        response.setStatus(e.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (retryAfterSeconds != null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        }
+
+        ErrorResponse errorResponse =
+                new ErrorResponse(e.getHttpStatus().value(), e.getErrorMessage());
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
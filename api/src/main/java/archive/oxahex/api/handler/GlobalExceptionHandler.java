@@ -3,6 +3,7 @@ package archive.oxahex.api.handler;
 import archive.oxahex.api.dto.response.ErrorResponse;
 import archive.oxahex.api.exception.CustomException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -16,6 +17,7 @@ import java.nio.file.AccessDeniedException;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> bindingException(MethodArgumentNotValidException e) {
@@ -40,7 +42,14 @@ public class GlobalExceptionHandler {
                 e.getErrorMessage()
         );
 
-        return new ResponseEntity<>(errorResponse, e.getHttpStatus());
+        // 일시적으로 처리할 수 없는 경우 재시도 시간 안내
+        HttpHeaders headers = new HttpHeaders();
+        if (e.getHttpStatus() == HttpStatus.SERVICE_UNAVAILABLE
+                || e.getHttpStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+            headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        }
+
+        return new ResponseEntity<>(errorResponse, headers, e.getHttpStatus());
     }
 
     // TODO: 컨트롤러 말고 그 이전 단계에서 잡히는 에러 처리
@@ -0,0 +1,219 @@
+package archive.oxahex.api.idempotency;
+
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.handler.ErrorResponseWriter;
+import archive.oxahex.api.idempotency.IdempotencyStore.CachedResponse;
+import archive.oxahex.api.interceptor.RateLimitInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Idempotency-Key Header가 있는 변경 요청(POST, PATCH)을 한 번만 처리
+ * <ol>
+ *     <li>Key는 요청자(유저 ID 또는 IP), Method, URI, Header 값 조합, 다른 유저의 결과를 받지 않음</li>
+ *     <li>처리가 끝난 Key로 다시 요청하면 DB 조회 없이 저장된 응답 반환(Idempotent-Replayed Header)</li>
+ *     <li>같은 Key로 처리 중인 요청이 있으면 끝날 때까지 기다렸다가 같은 응답 반환</li>
+ *     <li>성공(2xx) 응답만 저장, 실패한 요청은 같은 Key로 다시 처리 가능</li>
+ *     <li>요청 Body의 Hash를 응답과 함께 저장, 같은 Key로 Body가 다른 요청을 보내면 422 응답</li>
+ * </ol>
+ * <p>Spring Security Filter 이후에 실행되어 인증 유저로 구분
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final IdempotencyStore idempotencyStore;
+    private final Duration ttl;
+    private final Duration inFlightTtl;
+    private final Duration waitTimeout;
+    private final Counter replayedCounter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public IdempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            MeterRegistry meterRegistry,
+            Duration ttl,
+            Duration inFlightTtl,
+            Duration waitTimeout
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.ttl = ttl;
+        this.inFlightTtl = inFlightTtl;
+        this.waitTimeout = waitTimeout;
+        this.replayedCounter = meterRegistry.counter("idempotency.replayed");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !(HttpMethod.POST.matches(method) || HttpMethod.PATCH.matches(method));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            sendErrorResponse(response, ErrorType.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        String key = RateLimitInterceptor.resolveClient(request) + ":"
+                + request.getMethod() + ":" + request.getRequestURI() + ":" + idempotencyKey;
+
+        CachedBodyRequest requestWrapper = new CachedBodyRequest(request);
+        String requestHash = hash(requestWrapper.body);
+
+        // 처리가 끝난 요청
+        CachedResponse cached = idempotencyStore.get(key);
+        if (cached != null) {
+            replay(response, cached, requestHash);
+            return;
+        }
+
+        // 같은 Key로 처리 중인 요청이 있는 경우 결과를 기다림
+        if (!idempotencyStore.tryStart(key, inFlightTtl)) {
+            cached = idempotencyStore.await(key, waitTimeout);
+            if (cached != null) {
+                replay(response, cached, requestHash);
+            } else {
+                sendErrorResponse(response, ErrorType.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(requestWrapper, responseWrapper);
+
+            int status = responseWrapper.getStatus();
+            if (status >= 200 && status < 300) {
+                idempotencyStore.complete(key, new CachedResponse(
+                        status, responseWrapper.getContentType(), responseWrapper.getContentAsByteArray(), requestHash
+                ), ttl);
+                completed = true;
+            }
+        } finally {
+            if (!completed) idempotencyStore.abandon(key);
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, CachedResponse cached, String requestHash) throws IOException {
+        // 같은 Key로 Body가 다른 요청, 이전 응답을 돌려주지 않음
+        if (cached.requestHash() != null && !cached.requestHash().equals(requestHash)) {
+            log.info("[IdempotencyFilter] 같은 Key로 다른 요청 Body");
+            sendErrorResponse(response, ErrorType.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+
+        replayedCounter.increment();
+        log.info("[IdempotencyFilter] 저장된 응답 반환 status={}", cached.status());
+
+        response.setStatus(cached.status());
+        if (cached.contentType() != null) response.setContentType(cached.contentType());
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(cached.body());
+    }
+
+    private void sendErrorResponse(HttpServletResponse response, ErrorType errorType) throws IOException {
+        String retryAfterSeconds =
+                errorType == ErrorType.IDEMPOTENCY_REQUEST_IN_PROGRESS ? RETRY_AFTER_SECONDS : null;
+        ErrorResponseWriter.write(response, objectMapper, new CustomException(errorType), retryAfterSeconds);
+    }
+
+    private static String hash(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 요청 Body를 미리 읽어 Hash 계산 후 Controller에서 다시 읽을 수 있도록 보관
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
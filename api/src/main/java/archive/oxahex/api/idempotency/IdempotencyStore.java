@@ -0,0 +1,49 @@
+package archive.oxahex.api.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 요청 결과 저장소
+ * <ul>
+ *     <li>{@link InMemoryIdempotencyStore}: 서버마다 최대 크기, TTL 내에서 보관(기본값)</li>
+ *     <li>{@link RedisIdempotencyStore}: 여러 서버가 Redis에서 공유</li>
+ * </ul>
+ * <p>idempotency.store 설정값(memory, redis)으로 선택
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 처리가 끝난 요청 결과 조회
+     * @return 없거나 처리 중인 경우 null
+     */
+    CachedResponse get(String key);
+
+    /**
+     * 요청 처리 시작 표시
+     * @param ttl 처리 중 표시 유지 시간, 서버 장애로 완료되지 않아도 이후 다시 처리할 수 있도록 함
+     * @return 이미 처리 중이거나 처리가 끝난 경우 false
+     */
+    boolean tryStart(String key, Duration ttl);
+
+    /**
+     * 요청 처리 결과 저장, 처리를 기다리는 요청에 결과 전달
+     */
+    void complete(String key, CachedResponse response, Duration ttl);
+
+    /**
+     * 처리 중 표시 제거(결과를 저장하지 않는 경우), 같은 Key로 다시 처리 가능
+     */
+    void abandon(String key);
+
+    /**
+     * 처리 중인 요청이 끝날 때까지 대기
+     * @return 처리 결과, 대기 시간을 넘었거나 결과 없이 끝난 경우 null
+     */
+    CachedResponse await(String key, Duration timeout);
+
+    /**
+     * 저장된 응답(상태 코드, Content-Type, Body)과 처리한 요청 Body의 Hash
+     */
+    record CachedResponse(int status, String contentType, byte[] body, String requestHash) {
+    }
+}
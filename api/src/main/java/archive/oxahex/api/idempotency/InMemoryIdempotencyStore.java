@@ -0,0 +1,114 @@
+package archive.oxahex.api.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 프로세스 내 Idempotency-Key 결과 저장소
+ * <ol>
+ *     <li>최대 크기를 넘는 경우 가장 오래 사용되지 않은 항목부터 제거(LRU), TTL이 지난 항목은 조회 시점에 제거</li>
+ *     <li>Key 별 CompletableFuture 하나, 같은 Key의 동시 요청은 첫 요청의 Future 완료를 기다림</li>
+ * </ol>
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries;
+
+    public InMemoryIdempotencyStore(@Value("${idempotency.max-size:10000}") int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public CachedResponse get(String key) {
+        Entry entry = getEntry(key);
+        if (entry == null || !entry.future.isDone()) return null;
+
+        return entry.future.getNow(null);
+    }
+
+    @Override
+    public synchronized boolean tryStart(String key, Duration ttl) {
+        if (getEntry(key) != null) return false;
+
+        entries.put(key, new Entry(System.currentTimeMillis() + ttl.toMillis()));
+        return true;
+    }
+
+    @Override
+    public synchronized void complete(String key, CachedResponse response, Duration ttl) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            // 처리 중 최대 크기를 넘어 제거된 경우 다시 저장
+            entry = new Entry(0);
+            entries.put(key, entry);
+        }
+        entry.expiredAt = System.currentTimeMillis() + ttl.toMillis();
+        entry.future.complete(response);
+    }
+
+    @Override
+    public synchronized void abandon(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) entry.future.complete(null);
+    }
+
+    /**
+     * Lock을 잡지 않고 대기, 다른 Key 요청은 막지 않음
+     */
+    @Override
+    public CachedResponse await(String key, Duration timeout) {
+        Entry entry = getEntry(key);
+        if (entry == null) return null;
+
+        try {
+            return entry.future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Entry getEntry(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+
+        if (entry.expiredAt < System.currentTimeMillis()) {
+            entries.remove(key);
+            entry.future.complete(null);
+            return null;
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<CachedResponse> future = new CompletableFuture<>();
+        private volatile long expiredAt;
+
+        private Entry(long expiredAt) {
+            this.expiredAt = expiredAt;
+        }
+    }
+}
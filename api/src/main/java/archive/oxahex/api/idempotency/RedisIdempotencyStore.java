@@ -0,0 +1,88 @@
+package archive.oxahex.api.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis Idempotency-Key 결과 저장소
+ * <ol>
+ *     <li>Key 하나에 처리 중 표시 또는 처리 결과(JSON) 저장, TTL은 Redis Key 만료로 처리</li>
+ *     <li>처리 시작은 SET NX로 한 서버의 한 요청만 성공</li>
+ *     <li>같은 Key의 동시 요청은 처리 결과가 저장될 때까지 주기적으로 조회</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "redis")
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_FLIGHT = "in-flight";
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public CachedResponse get(String key) {
+        return decode(redisTemplate.opsForValue().get(KEY_PREFIX + key));
+    }
+
+    @Override
+    public boolean tryStart(String key, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, IN_FLIGHT, ttl));
+    }
+
+    @Override
+    public void complete(String key, CachedResponse response, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(response), ttl);
+        } catch (JsonProcessingException e) {
+            log.error("[RedisIdempotencyStore.complete] 응답 저장 실패 key={}", key, e);
+            abandon(key);
+        }
+    }
+
+    @Override
+    public void abandon(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    @Override
+    public CachedResponse await(String key, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (System.nanoTime() - deadline < 0) {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (value == null) return null;
+            if (!IN_FLIGHT.equals(value)) return decode(value);
+
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private CachedResponse decode(String value) {
+        if (value == null || IN_FLIGHT.equals(value)) return null;
+
+        try {
+            return objectMapper.readValue(value, CachedResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[RedisIdempotencyStore.decode] 저장된 응답을 읽을 수 없습니다. message={}", e.getMessage());
+            return null;
+        }
+    }
+}
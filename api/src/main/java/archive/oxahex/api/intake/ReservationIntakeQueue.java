@@ -0,0 +1,331 @@
+package archive.oxahex.api.intake;
+
+import archive.oxahex.api.dto.ReservationDto;
+import archive.oxahex.api.dto.request.ReservationRequest;
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.service.ReservationService;
+import archive.oxahex.api.service.ReservationService.ReservationIntake;
+import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 예약 요청 비동기 접수 대기열(reservation.intake.mode=async)
+ * <ol>
+ *     <li>매장 별 고정 크기 대기열(ArrayBlockingQueue, 배열 기반 ring buffer), 가득 찬 경우 바로 거절(503)</li>
+ *     <li>매장은 항상 같은 작업 스레드가 처리(매장 ID 기준 분배), 같은 매장 요청은 접수 순서대로 처리</li>
+ *     <li>작업 스레드는 대기열에서 최대 batch 크기만큼 꺼내 한 트랜잭션에서 저장</li>
+ *     <li>처리 결과는 접수 번호(ticket)로 조회하거나 SSE로 받음, 처리가 끝난 접수 번호는 일정 시간 후 제거</li>
+ *     <li>존재하는 매장만 대기열 생성, 일정 시간 접수가 없는 빈 대기열은 제거</li>
+ *     <li>종료 시 대기열에 남은 요청을 처리하고, 제한 시간 내에 처리하지 못한 요청은 실패 처리</li>
+ * </ol>
+ * <p>대기 중인 요청 수, 접수부터 저장까지 걸린 시간, 거절 횟수를 metric으로 기록
+ */
+@Slf4j
+@Component
+public class ReservationIntakeQueue {
+
+    public static final String MODE_ASYNC = "async";
+
+    private static final long POLL_MILLIS = 100;
+
+    private final ReservationService reservationService;
+    private final StoreRepository storeRepository;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long ticketTtlMillis;
+    private final long queueIdleMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final ConcurrentMap<Long, StoreQueue> storeQueues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ReservationTicket> tickets = new ConcurrentHashMap<>();
+
+    // 작업 스레드 별 처리할 매장 대기열
+    private final List<BlockingQueue<StoreQueue>> readyQueues = new ArrayList<>();
+    private final ExecutorService workerPool;
+    private volatile boolean running = true;
+
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Timer drainLatencyTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter rejectedCounter;
+
+    public ReservationIntakeQueue(
+            ReservationService reservationService,
+            StoreRepository storeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.intake.mode:sync}") String mode,
+            @Value("${reservation.intake.queue-capacity:1000}") int queueCapacity,
+            @Value("${reservation.intake.workers:2}") int workers,
+            @Value("${reservation.intake.batch-size:50}") int batchSize,
+            @Value("${reservation.intake.ticket-ttl-seconds:600}") long ticketTtlSeconds,
+            @Value("${reservation.intake.queue-idle-seconds:600}") long queueIdleSeconds,
+            @Value("${reservation.intake.shutdown-timeout-seconds:10}") long shutdownTimeoutSeconds
+    ) {
+        this.reservationService = reservationService;
+        this.storeRepository = storeRepository;
+        this.enabled = MODE_ASYNC.equals(mode);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.ticketTtlMillis = TimeUnit.SECONDS.toMillis(ticketTtlSeconds);
+        this.queueIdleMillis = TimeUnit.SECONDS.toMillis(queueIdleSeconds);
+        this.shutdownTimeoutMillis = TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds);
+
+        for (int i = 0; i < workers; i++) {
+            readyQueues.add(new LinkedBlockingQueue<>());
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "reservation-intake-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("reservation.intake.queue.depth", depth, AtomicInteger::get).register(meterRegistry);
+        this.drainLatencyTimer = Timer.builder("reservation.intake.drain.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("reservation.intake.batch.size")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("reservation.intake.rejected");
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+
+        for (BlockingQueue<StoreQueue> readyQueue : readyQueues) {
+            workerPool.submit(() -> runWorker(readyQueue));
+        }
+        log.info("[ReservationIntakeQueue] 비동기 접수 시작 workers={}, queueCapacity={}, batchSize={}",
+                readyQueues.size(), queueCapacity, batchSize);
+    }
+
+    /**
+     * 접수 중단 후 작업 스레드가 대기열에 남은 요청을 처리할 때까지 대기
+     * <p>제한 시간 내에 처리하지 못한 요청은 실패 처리, 접수 번호 결과를 기다리는 요청이 끝나지 않는 것을 방지
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                workerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        for (Long storeId : storeQueues.keySet()) {
+            storeQueues.computeIfPresent(storeId, (id, storeQueue) -> {
+                List<Intake> remaining = new ArrayList<>();
+                storeQueue.queue.drainTo(remaining);
+                if (!remaining.isEmpty()) {
+                    log.warn("[ReservationIntakeQueue.stop] 처리하지 못한 요청 실패 처리 storeId={}, size={}",
+                            id, remaining.size());
+                    depth.addAndGet(-remaining.size());
+                    remaining.forEach(intake ->
+                            intake.ticket().fail(ErrorType.RESERVATION_INTAKE_FAILED.getErrorMessage()));
+                }
+                return null;
+            });
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 예약 요청 접수
+     * <p>대기열 추가는 대기열 제거와 같은 Map 연산(compute) 안에서 실행, 제거된 대기열에 추가되지 않음
+     * @throws CustomException 매장이 없는 경우 STORE_NOT_FOUND,
+     *                         매장 대기열이 가득 찼거나 종료 중인 경우 RESERVATION_QUEUE_FULL
+     */
+    public ReservationTicket submit(User user, Long storeId, ReservationRequest request) {
+        if (!storeQueues.containsKey(storeId) && !storeRepository.existsById(storeId)) {
+            throw new CustomException(ErrorType.STORE_NOT_FOUND);
+        }
+
+        ReservationTicket ticket = new ReservationTicket(UUID.randomUUID().toString(), user.getId());
+        tickets.put(ticket.getId(), ticket);
+
+        Intake intake = new Intake(ticket, user, request, System.nanoTime());
+        AtomicBoolean accepted = new AtomicBoolean();
+        StoreQueue storeQueue = storeQueues.compute(storeId, (id, current) -> {
+            if (!running) return current;
+
+            StoreQueue queue = current != null ? current : new StoreQueue(id);
+            if (queue.offer(intake)) {
+                accepted.set(true);
+                depth.incrementAndGet();
+            }
+            return queue;
+        });
+        if (!accepted.get()) {
+            tickets.remove(ticket.getId());
+            rejectedCounter.increment();
+            throw new CustomException(ErrorType.RESERVATION_QUEUE_FULL);
+        }
+
+        schedule(storeQueue);
+        return ticket;
+    }
+
+    /**
+     * 접수 번호 조회, 본인이 접수한 번호만 조회 가능
+     */
+    public ReservationTicket getTicket(String ticketId, Long userId) {
+        ReservationTicket ticket = tickets.get(ticketId);
+        if (ticket == null || !Objects.equals(ticket.getUserId(), userId)) {
+            throw new CustomException(ErrorType.TICKET_NOT_FOUND);
+        }
+        return ticket;
+    }
+
+    /**
+     * 처리가 끝나고 보관 시간이 지난 접수 번호 제거
+     */
+    @Scheduled(fixedDelayString = "${reservation.intake.ticket-cleanup-interval-millis:60000}")
+    public void evictExpiredTickets() {
+        long expiredBefore = System.currentTimeMillis() - ticketTtlMillis;
+        tickets.values().removeIf(ticket -> ticket.isDone() && ticket.getCreatedAt() < expiredBefore);
+    }
+
+    /**
+     * 일정 시간 접수가 없고 처리할 요청이 없는 매장 대기열 제거
+     */
+    @Scheduled(fixedDelayString = "${reservation.intake.ticket-cleanup-interval-millis:60000}")
+    public void evictIdleQueues() {
+        long idleBefore = System.currentTimeMillis() - queueIdleMillis;
+        for (Long storeId : storeQueues.keySet()) {
+            storeQueues.computeIfPresent(storeId, (id, storeQueue) -> storeQueue.isIdle(idleBefore) ? null : storeQueue);
+        }
+    }
+
+    public int getDepth() {
+        return depth.get();
+    }
+
+    int getStoreQueueCount() {
+        return storeQueues.size();
+    }
+
+    /**
+     * 매장 대기열을 담당 작업 스레드에 전달, 이미 전달된 경우 중복으로 전달하지 않음
+     */
+    private void schedule(StoreQueue storeQueue) {
+        if (storeQueue.scheduled.compareAndSet(false, true)) {
+            readyQueues.get(Math.floorMod(storeQueue.storeId.hashCode(), readyQueues.size())).offer(storeQueue);
+        }
+    }
+
+    /**
+     * 종료 중에도 담당 매장 대기열이 빌 때까지 처리
+     */
+    private void runWorker(BlockingQueue<StoreQueue> readyQueue) {
+        while (running || !readyQueue.isEmpty()) {
+            StoreQueue storeQueue;
+            try {
+                storeQueue = readyQueue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (storeQueue == null) continue;
+
+            try {
+                drain(storeQueue);
+            } finally {
+                storeQueue.scheduled.set(false);
+                if (!storeQueue.queue.isEmpty()) schedule(storeQueue);
+            }
+        }
+    }
+
+    /**
+     * 매장 대기열에서 최대 batch 크기만큼 꺼내 저장, 요청 별 결과를 접수 번호에 기록
+     */
+    private void drain(StoreQueue storeQueue) {
+        List<Intake> batch = new ArrayList<>(batchSize);
+        storeQueue.queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) return;
+        depth.addAndGet(-batch.size());
+        batchSizeSummary.record(batch.size());
+
+        try {
+            List<ReservationDto.BatchResult> results = reservationService.requestReservations(
+                    storeQueue.storeId,
+                    batch.stream().map(intake -> new ReservationIntake(intake.user(), intake.request())).toList()
+            );
+            recordDrainLatency(batch);
+
+            for (int i = 0; i < batch.size(); i++) {
+                ReservationDto.BatchResult result = results.get(i);
+                if (result.isSuccess()) {
+                    batch.get(i).ticket().complete(result.getReservationId());
+                } else {
+                    batch.get(i).ticket().fail(result.getErrorMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("[ReservationIntakeQueue.drain] 저장 실패 storeId={}, size={}", storeQueue.storeId, batch.size(), e);
+            recordDrainLatency(batch);
+            batch.forEach(intake -> intake.ticket().fail(ErrorType.RESERVATION_INTAKE_FAILED.getErrorMessage()));
+        }
+    }
+
+    /**
+     * 접수부터 저장(또는 실패)까지 걸린 시간
+     */
+    private void recordDrainLatency(List<Intake> batch) {
+        long now = System.nanoTime();
+        batch.forEach(intake -> drainLatencyTimer.record(now - intake.enqueuedAt(), TimeUnit.NANOSECONDS));
+    }
+
+    private record Intake(ReservationTicket ticket, User user, ReservationRequest request, long enqueuedAt) {
+    }
+
+    private final class StoreQueue {
+
+        private final Long storeId;
+        private final BlockingQueue<Intake> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long lastOfferedAt = System.currentTimeMillis();
+
+        private StoreQueue(Long storeId) {
+            this.storeId = storeId;
+        }
+
+        private boolean offer(Intake intake) {
+            lastOfferedAt = System.currentTimeMillis();
+            return queue.offer(intake);
+        }
+
+        private boolean isIdle(long idleBefore) {
+            return queue.isEmpty() && !scheduled.get() && lastOfferedAt < idleBefore;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package archive.oxahex.api.intake;
+
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 예약 접수 번호
+ * <p>접수(QUEUED) 후 처리 결과에 따라 COMPLETED(예약 ID) 또는 FAILED(실패 사유)로 변경
+ */
+@Getter
+public class ReservationTicket {
+
+    public enum Status {
+        QUEUED, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final Long userId;
+    private final long createdAt = System.currentTimeMillis();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Long reservationId;
+    private volatile String errorMessage;
+
+    // 처리 완료 알림(SSE)
+    private final CompletableFuture<ReservationTicket> result = new CompletableFuture<>();
+
+    public ReservationTicket(String id, Long userId) {
+        this.id = id;
+        this.userId = userId;
+    }
+
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    void complete(Long reservationId) {
+        this.reservationId = reservationId;
+        this.status = Status.COMPLETED;
+        result.complete(this);
+    }
+
+    void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.status = Status.FAILED;
+        result.complete(this);
+    }
+}
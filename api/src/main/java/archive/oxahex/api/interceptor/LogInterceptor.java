@@ -1,19 +1,54 @@
 package archive.oxahex.api.interceptor;
 
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.web.method.HandlerMethod;
-import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
-import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
+/**
+ * 요청 추적 ID 발급, Handler 별 처리 시간 기록, 요청/응답 로그
+ * <ol>
+ *     <li>추적 ID는 ThreadLocalRandom으로 생성(SecureRandom 사용하지 않음), 요청 Header에 있으면 그대로 사용</li>
+ *     <li>추적 ID는 MDC(requestId)와 응답 Header(X-Request-Id)에 담음</li>
+ *     <li>Handler 별 처리 시간은 Timer(http.handler.latency)에 기록, p50/p99/p999 제공</li>
+ *     <li>요청/응답 로그는 일부 요청만 샘플링해 기록, 예외 발생 또는 느린 요청은 항상 기록</li>
+ *     <li>비동기 요청(SSE 등)은 요청 Thread 반환 시 MDC를 비우고, 비동기 재디스패치 시 같은 추적 ID를 다시 담음</li>
+ * </ol>
+ */
 @Slf4j
-public class LogInterceptor implements HandlerInterceptor {
+public class LogInterceptor implements AsyncHandlerInterceptor {
 
     public static final String LOG_ID = "logId";
+    public static final String MDC_KEY = "requestId";
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private static final String START_TIME = "startTime";
+    private static final String SAMPLED = "sampled";
+    private static final Pattern REQUEST_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final long slowNanos;
+
+    // Handler 별 Timer, 요청마다 Timer를 조회(등록)하지 않도록 캐시
+    private final ConcurrentMap<HandlerMethod, Timer> timers = new ConcurrentHashMap<>();
+
+    public LogInterceptor(MeterRegistry meterRegistry, double sampleRate, long slowMillis) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMillis);
+    }
 
     @Override
     public boolean preHandle(
@@ -22,39 +57,94 @@ public class LogInterceptor implements HandlerInterceptor {
             Object handler
     ) throws Exception {
 
-        String requestURI = request.getRequestURI();
-        String uuid = UUID.randomUUID().toString();
-        
-        request.setAttribute(LOG_ID, uuid);
-
-        if (handler instanceof HandlerMethod) {
-            HandlerMethod hm = (HandlerMethod) handler;
+        // 비동기 처리 후 재디스패치된 경우 기존 추적 ID, 시작 시간을 그대로 사용
+        if (request.getAttribute(LOG_ID) instanceof String requestId) {
+            MDC.put(MDC_KEY, requestId);
+            return true;
         }
 
-        log.info("REQUEST [{}][{}][{}]", uuid, requestURI, handler);
+        String requestId = resolveRequestId(request);
 
-        return true;
-    }
+        request.setAttribute(LOG_ID, requestId);
+        request.setAttribute(START_TIME, System.nanoTime());
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
 
-    @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
-        HandlerInterceptor.super.postHandle(request, response, handler, modelAndView);
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < sampleRate;
+        request.setAttribute(SAMPLED, sampled);
+
+        if (sampled) {
+            log.info("REQUEST [{}][{}][{}]", requestId, request.getRequestURI(), handler);
+        }
+
+        return true;
     }
 
     @Override
     public void afterCompletion(
-            HttpServletRequest request, 
-            HttpServletResponse response, 
+            HttpServletRequest request,
+            HttpServletResponse response,
             Object handler, Exception ex
     ) throws Exception {
 
-        String requestURI = request.getRequestURI();
-        String uuid = (String) request.getAttribute(LOG_ID);
+        try {
+            String requestId = (String) request.getAttribute(LOG_ID);
+            Long startTime = (Long) request.getAttribute(START_TIME);
+            long elapsed = startTime == null ? 0 : System.nanoTime() - startTime;
+
+            if (handler instanceof HandlerMethod handlerMethod) {
+                timers.computeIfAbsent(handlerMethod, this::registerTimer)
+                        .record(elapsed, TimeUnit.NANOSECONDS);
+            }
+
+            if (ex != null) {
+                log.error("RESPONSE [{}][{}][{}] error", requestId, request.getRequestURI(), handler, ex);
+            } else if (elapsed > slowNanos) {
+                log.warn("RESPONSE [{}][{}][{}] slow {}ms",
+                        requestId, request.getRequestURI(), handler, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            } else if (Boolean.TRUE.equals(request.getAttribute(SAMPLED))) {
+                log.info("RESPONSE [{}][{}][{}] {}ms",
+                        requestId, request.getRequestURI(), handler, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /**
+     * 비동기 처리 시작 시 요청 Thread를 반환하기 전에 MDC 정리
+     * <p>afterCompletion은 비동기 처리가 끝난 뒤 다른 Thread에서 호출되므로 요청 Thread의 MDC는 여기서 비워야 함
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler
+    ) throws Exception {
+        MDC.remove(MDC_KEY);
+    }
 
-        log.info("RESPONSE [{}][{}][{}]", uuid, requestURI, handler);
+    /**
+     * Handler 처리 시간 Timer 등록
+     * <p>Micrometer Timer는 HdrHistogram 기반으로 Lock 없이 기록, 백분위는 조회 시점에 계산
+     */
+    private Timer registerTimer(HandlerMethod handlerMethod) {
+        return Timer.builder("http.handler.latency")
+                .tag("handler", handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName())
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+    }
 
-        if (ex != null) {
-            log.error("error", ex);
+    /**
+     * 요청 Header의 추적 ID를 사용, 없거나 형식이 맞지 않는 경우 새로 생성
+     * <p>추적 ID는 보안 용도가 아니므로 ThreadLocalRandom 64bit 값으로 생성
+     */
+    private String resolveRequestId(HttpServletRequest request) {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId != null && REQUEST_ID_PATTERN.matcher(requestId).matches()) {
+            return requestId;
         }
+
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
     }
 }
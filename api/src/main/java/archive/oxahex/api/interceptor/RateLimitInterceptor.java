@@ -0,0 +1,46 @@
+package archive.oxahex.api.interceptor;
+
+import archive.oxahex.api.ratelimit.RateLimiter;
+import archive.oxahex.api.security.AuthUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Route 별 요청 허용량 확인
+ * <p>허용량을 넘은 경우 Controller 호출 전에 429 응답(GlobalExceptionHandler)
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final String route;
+    private final HttpMethod method;
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler
+    ) {
+        if (method != null && !method.matches(request.getMethod())) return true;
+
+        rateLimiter.acquire(route, resolveClient(request));
+        return true;
+    }
+
+    /**
+     * 로그인 유저는 유저 ID, 비로그인 요청은 IP로 구분
+     */
+    public static String resolveClient(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return "user:" + authUser.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,187 @@
+package archive.oxahex.api.ranking;
+
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.projection.StoreRankingScore;
+import archive.oxahex.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static archive.oxahex.api.transaction.TransactionCallbacks.runAfterCommit;
+
+/**
+ * 프로세스 내 매장 순위
+ * <ol>
+ *     <li>순위 기준 별로 ConcurrentSkipListSet(기준 값 내림차순, 매장 ID 오름차순) 보유</li>
+ *     <li>변경된 매장만 기존 항목 제거 후 다시 추가(O(log n)), 같은 매장의 변경은 매장 별로 순서대로 처리</li>
+ *     <li>조회는 이전 페이지 마지막 항목 다음부터 limit 건만 순회(O(log n + k))</li>
+ *     <li>다른 서버의 변경은 주기적 재구성으로 반영, 재구성 중 들어온 변경은 DB에서 읽은 값으로 덮어쓰지 않음</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+public class InMemoryStoreRanking implements StoreRanking {
+
+    private static final Comparator<RankingEntry> ORDER = Comparator
+            .comparingDouble(RankingEntry::score).reversed()
+            .thenComparing(RankingEntry::storeId);
+
+    private final StoreRepository storeRepository;
+    private final Timer rebuildTimer;
+
+    // 매장 별 현재 값, 순위 항목 제거 시 기존 기준 값 계산에 사용
+    private final ConcurrentMap<Long, Scores> scores = new ConcurrentHashMap<>();
+    private final Map<RankingType, NavigableSet<RankingEntry>> rankings = new EnumMap<>(RankingType.class);
+
+    // 변경 순서, 재구성 시작 이후 변경된 매장 구분
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean loaded;
+
+    public InMemoryStoreRanking(StoreRepository storeRepository, MeterRegistry meterRegistry) {
+        this.storeRepository = storeRepository;
+        for (RankingType type : RankingType.values()) {
+            rankings.put(type, new ConcurrentSkipListSet<>(ORDER));
+        }
+
+        Gauge.builder("store.ranking.size", scores, Map::size).register(meterRegistry);
+        this.rebuildTimer = Timer.builder("store.ranking.rebuild").register(meterRegistry);
+    }
+
+    @Override
+    public void update(Store store) {
+        Long storeId = store.getId();
+        int reviewCount = store.getReviewCount() == null ? 0 : store.getReviewCount();
+        long ratingTotal = store.getRatingTotalOrZero();
+
+        runAfterCommit(() -> apply(storeId, reviewCount, ratingTotal, Long.MAX_VALUE));
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        runAfterCommit(() -> scores.computeIfPresent(storeId, (id, old) -> {
+            removeEntries(id, old);
+            return null;
+        }));
+    }
+
+    @Override
+    public List<RankingEntry> getRanking(RankingType type, RankingEntry after, int limit) {
+        if (!loaded) {
+            ensureLoaded();
+        }
+
+        NavigableSet<RankingEntry> ranking = rankings.get(type);
+        NavigableSet<RankingEntry> view = after == null ? ranking : ranking.tailSet(after, false);
+
+        List<RankingEntry> entries = new ArrayList<>(limit);
+        for (RankingEntry entry : view) {
+            if (entries.size() >= limit) break;
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * DB 기준으로 순위 재구성
+     * <ol>
+     *     <li>전체 매장의 리뷰 수, 별점 합계만 조회해 값이 다른 매장만 다시 추가</li>
+     *     <li>재구성 시작 이후 변경된 매장은 유지(DB에서 읽은 값이 더 오래된 값일 수 있음)</li>
+     *     <li>DB에 없는 매장은 제거</li>
+     * </ol>
+     */
+    @Scheduled(fixedDelayString = "${store-ranking.rebuild-interval-millis:600000}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        long startedAt = sequence.get();
+
+        List<StoreRankingScore> rows = storeRepository.findRankingScores();
+        Set<Long> storeIds = new HashSet<>(rows.size() * 2);
+        for (StoreRankingScore row : rows) {
+            storeIds.add(row.id());
+            apply(
+                    row.id(),
+                    row.reviewCount() == null ? 0 : row.reviewCount(),
+                    row.ratingTotal() == null ? 0 : row.ratingTotal(),
+                    startedAt
+            );
+        }
+
+        for (Long storeId : scores.keySet()) {
+            if (storeIds.contains(storeId)) continue;
+            scores.computeIfPresent(storeId, (id, old) -> {
+                if (old.sequence() > startedAt) return old;
+                removeEntries(id, old);
+                return null;
+            });
+        }
+
+        loaded = true;
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("[InMemoryStoreRanking.rebuild] stores={}, {}ms", scores.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    private synchronized void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    /**
+     * @param startedAt 재구성 시작 시점의 변경 순서, 이후 변경된 매장은 그대로 둠(재구성이 아니면 Long.MAX_VALUE)
+     */
+    private void apply(Long storeId, int reviewCount, long ratingTotal, long startedAt) {
+        scores.compute(storeId, (id, old) -> {
+            if (old != null && (old.sequence() > startedAt || old.sameAs(reviewCount, ratingTotal))) {
+                return old;
+            }
+
+            if (old != null) {
+                removeEntries(id, old);
+            }
+            Scores updated = new Scores(reviewCount, ratingTotal, sequence.incrementAndGet());
+            for (RankingType type : RankingType.values()) {
+                rankings.get(type).add(updated.entry(id, type));
+            }
+            return updated;
+        });
+    }
+
+    private void removeEntries(Long storeId, Scores old) {
+        for (RankingType type : RankingType.values()) {
+            rankings.get(type).remove(old.entry(storeId, type));
+        }
+    }
+
+    private record Scores(int reviewCount, long ratingTotal, long sequence) {
+
+        RankingEntry entry(Long storeId, RankingType type) {
+            return new RankingEntry(storeId, type.score(reviewCount, ratingTotal));
+        }
+
+        boolean sameAs(int reviewCount, long ratingTotal) {
+            return this.reviewCount == reviewCount && this.ratingTotal == ratingTotal;
+        }
+    }
+}
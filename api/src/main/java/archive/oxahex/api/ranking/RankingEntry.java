@@ -0,0 +1,8 @@
+package archive.oxahex.api.ranking;
+
+/**
+ * 매장 순위 항목(매장 ID, 순위 기준 값)
+ * <p>기준 값 내림차순, 같은 값이면 매장 ID 오름차순
+ */
+public record RankingEntry(Long storeId, double score) {
+}
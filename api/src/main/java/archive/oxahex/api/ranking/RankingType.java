@@ -0,0 +1,25 @@
+package archive.oxahex.api.ranking;
+
+/**
+ * 매장 순위 기준
+ * <ul>
+ *     <li>REVIEW_COUNT: 리뷰 수</li>
+ *     <li>RATING: 평균 별점(별점 합계 / 리뷰 수), 리뷰가 없으면 0</li>
+ * </ul>
+ */
+public enum RankingType {
+    REVIEW_COUNT {
+        @Override
+        public double score(int reviewCount, long ratingTotal) {
+            return reviewCount;
+        }
+    },
+    RATING {
+        @Override
+        public double score(int reviewCount, long ratingTotal) {
+            return reviewCount <= 0 ? 0 : (double) ratingTotal / reviewCount;
+        }
+    };
+
+    public abstract double score(int reviewCount, long ratingTotal);
+}
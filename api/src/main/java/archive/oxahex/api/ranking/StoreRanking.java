@@ -0,0 +1,34 @@
+package archive.oxahex.api.ranking;
+
+import archive.oxahex.domain.entity.Store;
+
+import java.util.List;
+
+/**
+ * 매장 순위(리뷰 수, 평균 별점) 저장소
+ * <ul>
+ *     <li>{@link InMemoryStoreRanking}: 서버마다 Skip List로 순위 보유, 주기적으로 DB 기준 재구성</li>
+ * </ul>
+ * <p>리뷰 작성, 수정, 삭제와 매장 등록, 삭제 시 변경된 매장만 반영, 조회 시 DB 정렬 없음
+ */
+public interface StoreRanking {
+
+    /**
+     * 매장의 현재 리뷰 수, 별점 합계 반영
+     * <p>트랜잭션 안에서 호출하면 commit 이후 반영
+     */
+    void update(Store store);
+
+    /**
+     * 순위에서 매장 제거
+     * <p>트랜잭션 안에서 호출하면 commit 이후 반영
+     */
+    void remove(Long storeId);
+
+    /**
+     * 기준 값 내림차순으로 순위 조회
+     * @param after 이전 페이지 마지막 항목, 첫 페이지는 null
+     * @param limit 최대 조회 건수
+     */
+    List<RankingEntry> getRanking(RankingType type, RankingEntry after, int limit);
+}
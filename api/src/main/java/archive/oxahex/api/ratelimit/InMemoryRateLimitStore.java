@@ -0,0 +1,63 @@
+package archive.oxahex.api.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 Token Bucket 저장소
+ * <ol>
+ *     <li>Bucket 상태를 다음 요청 허용 시각(TAT, Theoretical Arrival Time) 하나로 표현(GCRA)</li>
+ *     <li>Lock 없이 AtomicLong CAS로 차감, 같은 Key의 동시 요청도 Lock 경합 없음</li>
+ *     <li>가득 찬(유휴) Bucket은 주기적으로 제거, 다시 요청하면 가득 찬 상태로 새로 생성</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryAcquire(String key, RateLimitPolicy policy) {
+        long now = System.nanoTime();
+
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        long interval = policy.intervalNanos();
+        long burst = policy.burstNanos();
+
+        while (true) {
+            long tat = bucket.get();
+            long next = (tat - now < 0 ? now : tat) + interval;
+
+            // 허용 시각이 Bucket 크기 이상 밀린 경우 거절
+            if (next - now > burst) return false;
+            if (bucket.compareAndSet(tat, next)) return true;
+        }
+    }
+
+    /**
+     * 허용 시각이 지난(가득 찬) Bucket 제거
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-millis:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        log.debug("[InMemoryRateLimitStore.evictIdleBuckets] before={}, after={}", before, buckets.size());
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
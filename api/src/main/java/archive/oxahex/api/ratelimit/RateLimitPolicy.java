@@ -0,0 +1,26 @@
+package archive.oxahex.api.ratelimit;
+
+/**
+ * Route 별 요청 허용량
+ * @param capacity 한 번에 허용하는 최대 요청 수(Bucket 크기)
+ * @param permitsPerSecond 초당 채워지는 요청 수
+ */
+public record RateLimitPolicy(
+        long capacity,
+        double permitsPerSecond
+) {
+
+    /**
+     * 요청 1건이 채워지는 데 걸리는 시간(nanos)
+     */
+    public long intervalNanos() {
+        return (long) (1_000_000_000L / permitsPerSecond);
+    }
+
+    /**
+     * Bucket이 비어 있는 상태에서 가득 차는 데 걸리는 시간(nanos)
+     */
+    public long burstNanos() {
+        return intervalNanos() * capacity;
+    }
+}
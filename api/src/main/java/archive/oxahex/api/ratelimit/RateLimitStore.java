@@ -0,0 +1,19 @@
+package archive.oxahex.api.ratelimit;
+
+/**
+ * Token Bucket 저장소
+ * <ul>
+ *     <li>{@link InMemoryRateLimitStore}: 서버마다 Bucket 보유(기본값)</li>
+ *     <li>{@link RedisRateLimitStore}: 여러 서버가 Redis에서 Bucket 공유</li>
+ * </ul>
+ * <p>rate-limit.store 설정값(memory, redis)으로 선택
+ */
+public interface RateLimitStore {
+
+    /**
+     * Bucket에서 요청 1건 차감
+     * @param key Route, Client 식별자 조합
+     * @return 허용량을 넘은 경우 false
+     */
+    boolean tryAcquire(String key, RateLimitPolicy policy);
+}
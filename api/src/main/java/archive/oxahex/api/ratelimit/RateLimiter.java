@@ -0,0 +1,87 @@
+package archive.oxahex.api.ratelimit;
+
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Route, Client 별 요청 허용량 제한
+ * <ol>
+ *     <li>Route 별 허용량은 설정값(rate-limit.{route}.capacity, permits-per-second)으로 지정</li>
+ *     <li>Client는 로그인 유저 ID, 비로그인 요청은 IP로 구분</li>
+ *     <li>허용량을 넘은 경우 429(TOO_MANY_REQUESTS) 반환</li>
+ *     <li>저장소 장애 시 요청을 막지 않고 허용(가용성 우선)</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    public static final String LOGIN = "login";
+    public static final String JOIN = "join";
+    public static final String RESERVATION = "reservation";
+
+    private final RateLimitStore rateLimitStore;
+    private final Map<String, RateLimitPolicy> policies;
+    private final Map<String, Counter> rejectedCounters;
+
+    public RateLimiter(
+            RateLimitStore rateLimitStore,
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.login.capacity:10}") long loginCapacity,
+            @Value("${rate-limit.login.permits-per-second:1}") double loginPermitsPerSecond,
+            @Value("${rate-limit.join.capacity:5}") long joinCapacity,
+            @Value("${rate-limit.join.permits-per-second:0.2}") double joinPermitsPerSecond,
+            @Value("${rate-limit.reservation.capacity:5}") long reservationCapacity,
+            @Value("${rate-limit.reservation.permits-per-second:0.5}") double reservationPermitsPerSecond
+    ) {
+        this.rateLimitStore = rateLimitStore;
+        this.policies = Map.of(
+                LOGIN, new RateLimitPolicy(loginCapacity, loginPermitsPerSecond),
+                JOIN, new RateLimitPolicy(joinCapacity, joinPermitsPerSecond),
+                RESERVATION, new RateLimitPolicy(reservationCapacity, reservationPermitsPerSecond)
+        );
+        this.rejectedCounters = Map.of(
+                LOGIN, rejectedCounter(meterRegistry, LOGIN),
+                JOIN, rejectedCounter(meterRegistry, JOIN),
+                RESERVATION, rejectedCounter(meterRegistry, RESERVATION)
+        );
+    }
+
+    /**
+     * 요청 1건 차감
+     * @param route 제한 대상 Route
+     * @param client Client 식별자(유저 ID 또는 IP)
+     * @throws CustomException 허용량을 넘은 경우 TOO_MANY_REQUESTS
+     */
+    public void acquire(String route, String client) {
+        RateLimitPolicy policy = policies.get(route);
+        if (policy == null) return;
+
+        boolean acquired;
+        try {
+            acquired = rateLimitStore.tryAcquire(route + ":" + client, policy);
+        } catch (RuntimeException e) {
+            log.warn("[RateLimiter.acquire] 저장소 조회 실패 route={}, message={}", route, e.getMessage());
+            return;
+        }
+
+        if (!acquired) {
+            rejectedCounters.get(route).increment();
+            log.info("[RateLimiter.acquire] 허용량 초과 route={}, client={}", route, client);
+            throw new CustomException(ErrorType.TOO_MANY_REQUESTS);
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("rate.limit.rejected")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
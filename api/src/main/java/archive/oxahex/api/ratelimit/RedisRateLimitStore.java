@@ -0,0 +1,51 @@
+package archive.oxahex.api.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis Token Bucket 저장소
+ * <ol>
+ *     <li>여러 서버가 같은 Bucket을 공유(서버 수와 관계없이 같은 허용량)</li>
+ *     <li>GCRA 계산을 Lua Script로 Redis 서버에서 한 번에 처리, 서버 간 시간 차이 없도록 Redis TIME 사용</li>
+ *     <li>Bucket이 가득 차는 시점에 Key 만료(PX)</li>
+ * </ol>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "redis")
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local tat = tonumber(redis.call('GET', KEYS[1]) or now) " +
+            "if tat < now then tat = now end " +
+            "local next = tat + tonumber(ARGV[1]) " +
+            "if next - now > tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('SET', KEYS[1], next, 'PX', math.ceil(next - now)) " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public boolean tryAcquire(String key, RateLimitPolicy policy) {
+        Long acquired = redisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                List.of(KEY_PREFIX + key),
+                String.valueOf(policy.intervalNanos() / 1_000_000.0),
+                String.valueOf(policy.burstNanos() / 1_000_000.0)
+        );
+        return acquired != null && acquired == 1L;
+    }
+}
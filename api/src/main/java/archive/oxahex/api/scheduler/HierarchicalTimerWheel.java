@@ -0,0 +1,124 @@
+package archive.oxahex.api.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 Timer Wheel
+ * <ol>
+ *     <li>단계(level)마다 같은 수의 칸(bucket), 아래 단계 한 바퀴가 위 단계 한 칸(예: 1분 x 60칸, 1시간 x 60칸, 60시간 x 60칸)</li>
+ *     <li>등록, 만료 처리 모두 항목 수와 관계없이 O(1), 위 단계 칸은 시간이 되면 아래 단계로 옮김(cascade)</li>
+ *     <li>가장 높은 단계 범위를 넘는 항목은 별도 목록에 보관, 가장 높은 단계가 한 칸 움직일 때마다 다시 배치</li>
+ *     <li>이미 지난 시각으로 등록한 항목은 다음 advance 호출 시 바로 만료</li>
+ * </ol>
+ * <p>동기화하지 않음, 사용하는 쪽에서 한 스레드로 접근하도록 처리
+ */
+public class HierarchicalTimerWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] units;
+    private final List<List<ArrayDeque<Entry<T>>>> levels = new ArrayList<>();
+    private final List<Entry<T>> overflow = new ArrayList<>();
+    private final List<T> due = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimerWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.units = new long[levelCount];
+        this.currentTick = startMillis / tickMillis;
+
+        long unit = 1;
+        for (int level = 0; level < levelCount; level++) {
+            units[level] = unit;
+            unit *= wheelSize;
+
+            List<ArrayDeque<Entry<T>>> buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayDeque<>());
+            }
+            levels.add(buckets);
+        }
+    }
+
+    /**
+     * 만료 시각에 항목 등록
+     * <p>만료 시각을 tick 단위로 올림, 만료 시각보다 먼저 반환하지 않음
+     */
+    public void add(T item, long deadlineMillis) {
+        size++;
+        place(new Entry<>(item, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis)));
+    }
+
+    /**
+     * 주어진 시각까지 시간을 진행하고 만료된 항목 반환
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>(due);
+        due.clear();
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 위 단계부터 이번 칸의 항목을 아래 단계로 옮김
+            if (currentTick % units[units.length - 1] == 0) {
+                List<Entry<T>> entries = new ArrayList<>(overflow);
+                overflow.clear();
+                entries.forEach(this::place);
+            }
+            for (int level = units.length - 1; level >= 1; level--) {
+                if (currentTick % units[level] != 0) continue;
+
+                ArrayDeque<Entry<T>> bucket = levels.get(level).get(bucketIndex(currentTick, level));
+                List<Entry<T>> entries = new ArrayList<>(bucket);
+                bucket.clear();
+                entries.forEach(this::place);
+            }
+
+            ArrayDeque<Entry<T>> bucket = levels.get(0).get(bucketIndex(currentTick, 0));
+            for (Entry<T> entry : bucket) {
+                expired.add(entry.item());
+            }
+            bucket.clear();
+        }
+        expired.addAll(due);
+        due.clear();
+
+        size -= expired.size();
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 만료 시각과 현재 시각의 차이가 한 바퀴 안에 들어오는 가장 낮은 단계에 배치
+     */
+    private void place(Entry<T> entry) {
+        if (entry.tick() <= currentTick) {
+            due.add(entry.item());
+            return;
+        }
+
+        for (int level = 0; level < units.length; level++) {
+            if (entry.tick() / units[level] - currentTick / units[level] < wheelSize) {
+                levels.get(level).get(bucketIndex(entry.tick(), level)).add(entry);
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+
+    private int bucketIndex(long tick, int level) {
+        return (int) ((tick / units[level]) % wheelSize);
+    }
+
+    private record Entry<T>(T item, long tick) {
+    }
+}
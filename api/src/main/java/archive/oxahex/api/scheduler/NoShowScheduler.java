@@ -0,0 +1,214 @@
+package archive.oxahex.api.scheduler;
+
+import archive.oxahex.api.capacity.SlotCapacityStore;
+import archive.oxahex.domain.entity.Reservation;
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.entity.StoreSlotCapacity;
+import archive.oxahex.domain.repository.ReservationRepository;
+import archive.oxahex.domain.type.ReservationStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 방문하지 않은(No-Show) 승인 예약 만료 처리
+ * <ol>
+ *     <li>lease를 가진 서버 한 대만 실행, 실행할 때마다 lease 연장</li>
+ *     <li>lease 획득 시, 이후 일정 주기마다 (status, visit_date) 인덱스로 만료 예정 승인 예약을 조회해 Timer Wheel 재구성</li>
+ *     <li>매 실행마다 Timer Wheel을 현재 시각까지 진행, 방문 시간이 지난 예약을 NO_SHOW로 변경</li>
+ *     <li>정해진 건수 단위로 나눠서 트랜잭션 하나에 한 번의 update로 변경</li>
+ *     <li>변경한 예약의 테이블은 매장, 시간대 별로 합산해 한 번에 반환</li>
+ *     <li>실행마다 처리 건수, 소요 시간을 metric으로 기록</li>
+ * </ol>
+ * <p>재구성 주기 사이에 승인된 예약은 다음 재구성 때 등록, 방문 시간이 지났으면 바로 만료
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reservation.no-show.enabled", havingValue = "true", matchIfMissing = true)
+public class NoShowScheduler {
+
+    public static final String LEASE_NAME = "reservation-no-show";
+
+    private static final int WHEEL_SIZE = 60;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final ReservationRepository reservationRepository;
+    private final SchedulerLease schedulerLease;
+    private final SlotCapacityStore slotCapacityStore;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long tickMillis;
+    private final long leaseSeconds;
+    private final long horizonMillis;
+    private final long rebuildIntervalMillis;
+    private final int chunkSize;
+
+    private final DistributionSummary processedSummary;
+    private final Timer sweepTimer;
+
+    private HierarchicalTimerWheel<Long> timerWheel;
+    private boolean leader;
+    private long rebuiltAt;
+
+    public NoShowScheduler(
+            ReservationRepository reservationRepository,
+            SchedulerLease schedulerLease,
+            SlotCapacityStore slotCapacityStore,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.no-show.tick-millis:60000}") long tickMillis,
+            @Value("${reservation.no-show.lease-seconds:180}") long leaseSeconds,
+            @Value("${reservation.no-show.horizon-hours:24}") long horizonHours,
+            @Value("${reservation.no-show.rebuild-interval-minutes:10}") long rebuildIntervalMinutes,
+            @Value("${reservation.no-show.chunk-size:500}") int chunkSize
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.schedulerLease = schedulerLease;
+        this.slotCapacityStore = slotCapacityStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tickMillis = tickMillis;
+        this.leaseSeconds = leaseSeconds;
+        this.horizonMillis = TimeUnit.HOURS.toMillis(horizonHours);
+        this.rebuildIntervalMillis = TimeUnit.MINUTES.toMillis(rebuildIntervalMinutes);
+        this.chunkSize = chunkSize;
+
+        this.processedSummary = DistributionSummary.builder("reservation.no-show.sweep.processed")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("reservation.no-show.sweep.duration")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.no-show.tick-millis:60000}")
+    public synchronized void sweep() {
+        if (!schedulerLease.tryAcquire(LEASE_NAME, leaseSeconds)) {
+            if (leader) {
+                log.info("[NoShowScheduler] lease 반납 owner={}", schedulerLease.getOwner());
+            }
+            leader = false;
+            timerWheel = null;
+            return;
+        }
+
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+
+        if (!leader || now - rebuiltAt >= rebuildIntervalMillis) {
+            rebuild(now);
+            leader = true;
+        }
+
+        List<Long> overdue = timerWheel.advance(now);
+        int processed = expire(overdue, toLocalDateTime(now));
+
+        processedSummary.record(processed);
+        sweepTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (processed > 0) {
+            log.info("[NoShowScheduler] NO_SHOW 처리 count={}, elapsed={}ms",
+                    processed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    /**
+     * 현재 시각부터 일정 시간 안에 방문 시간이 지나는 승인 예약으로 Timer Wheel 재구성
+     * <p>이미 방문 시간이 지난 예약도 포함, 다음 진행 시 바로 만료
+     */
+    private void rebuild(long now) {
+        List<Reservation> reservations = reservationRepository.findAllByStatusAndVisitDateBefore(
+                ReservationStatus.ALLOWED, toLocalDateTime(now + horizonMillis));
+
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(tickMillis, WHEEL_SIZE, WHEEL_LEVELS, now);
+        for (Reservation reservation : reservations) {
+            wheel.add(reservation.getId(), toEpochMillis(reservation.getVisitDate()));
+        }
+
+        timerWheel = wheel;
+        rebuiltAt = now;
+        log.info("[NoShowScheduler] Timer Wheel 재구성 count={}", wheel.size());
+    }
+
+    /**
+     * 만료 예약을 정해진 건수 단위로 나눠 NO_SHOW로 변경
+     * @return NO_SHOW로 변경한 예약 수
+     */
+    private int expire(List<Long> reservationIds, LocalDateTime now) {
+        int processed = 0;
+        List<Long> sorted = reservationIds.stream().distinct().sorted().toList();
+
+        for (int from = 0; from < sorted.size(); from += chunkSize) {
+            List<Long> chunk = sorted.subList(from, Math.min(from + chunkSize, sorted.size()));
+            try {
+                Integer updated = transactionTemplate.execute(status -> expireChunk(chunk, now));
+                processed += updated == null ? 0 : updated;
+            } catch (RuntimeException e) {
+                // 실패한 예약은 다음 재구성 때 다시 등록
+                log.error("[NoShowScheduler] NO_SHOW 처리 실패 count={}", chunk.size(), e);
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 승인 상태 예약을 잠근 후 방문 시간이 지난 예약만 한 번에 변경, 테이블은 매장, 시간대 별로 합산해 반환
+     */
+    private int expireChunk(List<Long> chunk, LocalDateTime now) {
+        List<Reservation> reservations = reservationRepository
+                .findAllWithStoreByIdInAndStatusForUpdate(chunk, ReservationStatus.ALLOWED).stream()
+                .filter(reservation -> !reservation.getVisitDate().isAfter(now))
+                .toList();
+
+        if (reservations.isEmpty()) return 0;
+
+        List<Long> ids = reservations.stream().map(Reservation::getId).toList();
+        int updated = reservationRepository.updateStatus(ids, ReservationStatus.ALLOWED, ReservationStatus.NO_SHOW, now);
+
+        Map<SlotKey, Integer> releases = reservations.stream()
+                .collect(Collectors.groupingBy(
+                        reservation -> new SlotKey(reservation.getStore(),
+                                StoreSlotCapacity.toSlotTime(reservation.getVisitDate())),
+                        Collectors.summingInt(Reservation::getUseTableCount)
+                ));
+
+        // 매장, 시간대 순서로 반환해 다른 트랜잭션과 잠금 순서를 맞춤
+        releases.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator
+                        .comparing((SlotKey key) -> key.store().getId())
+                        .thenComparing(SlotKey::slotTime)))
+                .forEach(entry -> slotCapacityStore.release(
+                        entry.getKey().store(), entry.getKey().slotTime(), entry.getValue()));
+
+        return updated;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record SlotKey(Store store, LocalDateTime slotTime) {
+    }
+}
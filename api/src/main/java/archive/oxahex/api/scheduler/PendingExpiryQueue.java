@@ -0,0 +1,256 @@
+package archive.oxahex.api.scheduler;
+
+import archive.oxahex.domain.entity.Reservation;
+import archive.oxahex.domain.entity.ReservationExpiry;
+import archive.oxahex.domain.repository.ReservationExpiryRepository;
+import archive.oxahex.domain.repository.ReservationRepository;
+import archive.oxahex.domain.type.ReservationStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import static archive.oxahex.api.transaction.TransactionCallbacks.runAfterCommit;
+
+/**
+ * 대기(PENDING) 예약 자동 거절 지연 큐
+ * <ol>
+ *     <li>예약 요청 시 매장 설정(없으면 기본값) 시간 후의 처리 예정 시각을 DB(reservation_expiry)에 저장, 방문 시간을 넘지 않음</li>
+ *     <li>lease를 가진 서버 한 대만 처리, 곧 처리할 행(lookahead 범위)만 예정 시각 순으로 읽어 메모리 heap에 보관</li>
+ *     <li>이 서버에서 접수한 예약은 Commit 후 바로 heap에 추가, 다른 서버에서 접수한 예약은 다음 조회 때 추가</li>
+ *     <li>매 실행마다 예정 시각이 지난 항목을 꺼내 정해진 건수 단위로 REJECTED로 변경, 트랜잭션 하나에 한 번의 update</li>
+ *     <li>이미 다른 상태로 바뀐 예약은 변경하지 않음(PENDING 조건), 처리한 행은 삭제</li>
+ * </ol>
+ * <p>처리에 실패한 행은 DB에 남아 다음 조회 때 다시 처리, 서버가 재시작되어도 유실되지 않음
+ */
+@Slf4j
+@Component
+public class PendingExpiryQueue {
+
+    public static final String LEASE_NAME = "reservation-pending-expiry";
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationExpiryRepository reservationExpiryRepository;
+    private final SchedulerLease schedulerLease;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long defaultTtlMinutes;
+    private final long leaseSeconds;
+    private final long lookaheadMillis;
+    private final long refillIntervalMillis;
+    private final int maxLoaded;
+    private final int chunkSize;
+
+    private final Counter rejectedCounter;
+
+    // 예정 시각 순 heap, 요청 스레드(Commit 후 추가)와 스케줄러 스레드가 함께 사용
+    private final PriorityQueue<Item> heap = new PriorityQueue<>(Comparator.comparingLong(Item::dueAt));
+
+    private volatile boolean leader;
+    private volatile long loadedUntil;
+    private long leaseCheckedAt;
+    private long nextRefillAt;
+
+    public PendingExpiryQueue(
+            ReservationRepository reservationRepository,
+            ReservationExpiryRepository reservationExpiryRepository,
+            SchedulerLease schedulerLease,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.pending-expiry.enabled:true}") boolean enabled,
+            @Value("${reservation.pending-expiry.default-ttl-minutes:1440}") long defaultTtlMinutes,
+            @Value("${reservation.pending-expiry.lease-seconds:30}") long leaseSeconds,
+            @Value("${reservation.pending-expiry.lookahead-minutes:10}") long lookaheadMinutes,
+            @Value("${reservation.pending-expiry.refill-interval-millis:60000}") long refillIntervalMillis,
+            @Value("${reservation.pending-expiry.max-loaded:10000}") int maxLoaded,
+            @Value("${reservation.pending-expiry.chunk-size:500}") int chunkSize
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.reservationExpiryRepository = reservationExpiryRepository;
+        this.schedulerLease = schedulerLease;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.defaultTtlMinutes = defaultTtlMinutes;
+        this.leaseSeconds = leaseSeconds;
+        this.lookaheadMillis = TimeUnit.MINUTES.toMillis(lookaheadMinutes);
+        this.refillIntervalMillis = refillIntervalMillis;
+        this.maxLoaded = maxLoaded;
+        this.chunkSize = chunkSize;
+
+        this.rejectedCounter = Counter.builder("reservation.pending-expiry.rejected")
+                .register(meterRegistry);
+        Gauge.builder("reservation.pending-expiry.loaded", this, PendingExpiryQueue::getLoadedCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 예약 자동 거절 예정 시각 저장
+     * <p>예약 저장 트랜잭션 안에서 호출, Commit 후 heap에 추가
+     */
+    public void schedule(List<Reservation> reservations) {
+        if (!enabled || reservations.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ReservationExpiry> expiries = reservations.stream()
+                .map(reservation -> ReservationExpiry.builder()
+                        .reservationId(reservation.getId())
+                        .dueAt(resolveDueAt(reservation, now))
+                        .build())
+                .toList();
+
+        reservationExpiryRepository.saveAll(expiries);
+        runAfterCommit(() -> offer(expiries));
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.pending-expiry.tick-millis:1000}")
+    public void sweep() {
+        if (!enabled) return;
+
+        long now = System.currentTimeMillis();
+
+        // lease는 유지 시간의 1/3 주기로 확인(연장)
+        if (now - leaseCheckedAt >= TimeUnit.SECONDS.toMillis(leaseSeconds) / 3) {
+            leaseCheckedAt = now;
+            if (!schedulerLease.tryAcquire(LEASE_NAME, leaseSeconds)) {
+                if (leader) {
+                    log.info("[PendingExpiryQueue] lease 반납 owner={}", schedulerLease.getOwner());
+                }
+                leader = false;
+                synchronized (heap) {
+                    heap.clear();
+                }
+                return;
+            }
+            if (!leader) {
+                nextRefillAt = now;
+            }
+            leader = true;
+        }
+        if (!leader) return;
+
+        if (now >= nextRefillAt) {
+            refill(now);
+        }
+
+        reject(pollDue(now), toLocalDateTime(now));
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    public int getLoadedCount() {
+        synchronized (heap) {
+            return heap.size();
+        }
+    }
+
+    /**
+     * 매장 설정(없으면 기본값) 시간 후, 방문 시간이 더 이르면 방문 시간
+     */
+    private LocalDateTime resolveDueAt(Reservation reservation, LocalDateTime now) {
+        Integer ttlMinutes = reservation.getStore().getPendingTtlMinutes();
+        LocalDateTime dueAt = now.plusMinutes(ttlMinutes != null ? ttlMinutes : defaultTtlMinutes);
+
+        LocalDateTime visitDate = reservation.getVisitDate();
+        return visitDate != null && visitDate.isBefore(dueAt) ? visitDate : dueAt;
+    }
+
+    /**
+     * 조회한 범위 안의 항목만 heap에 추가, 범위 밖은 다음 조회 때 추가
+     */
+    private void offer(List<ReservationExpiry> expiries) {
+        if (!leader) return;
+
+        synchronized (heap) {
+            for (ReservationExpiry expiry : expiries) {
+                long dueAt = toEpochMillis(expiry.getDueAt());
+                if (dueAt < loadedUntil) {
+                    heap.add(new Item(expiry.getReservationId(), dueAt));
+                }
+            }
+        }
+    }
+
+    /**
+     * 곧 처리할 행을 예정 시각 순으로 최대 건수까지 읽어 heap 재구성
+     * <p>최대 건수를 모두 읽은 경우 마지막 행의 예정 시각까지만 조회한 것으로 처리
+     */
+    private void refill(long now) {
+        long until = now + lookaheadMillis;
+        List<ReservationExpiry> expiries = reservationExpiryRepository.findAllByDueAtBeforeOrderByDueAt(
+                toLocalDateTime(until), PageRequest.of(0, maxLoaded));
+
+        long loaded = expiries.size() < maxLoaded
+                ? until
+                : toEpochMillis(expiries.get(expiries.size() - 1).getDueAt());
+
+        synchronized (heap) {
+            heap.clear();
+            for (ReservationExpiry expiry : expiries) {
+                heap.add(new Item(expiry.getReservationId(), toEpochMillis(expiry.getDueAt())));
+            }
+            loadedUntil = loaded;
+        }
+        nextRefillAt = Math.min(loaded, now + refillIntervalMillis);
+    }
+
+    private List<Long> pollDue(long now) {
+        List<Long> due = new ArrayList<>();
+        synchronized (heap) {
+            while (!heap.isEmpty() && heap.peek().dueAt() <= now) {
+                due.add(heap.poll().reservationId());
+            }
+        }
+        return due;
+    }
+
+    /**
+     * 정해진 건수 단위로 대기 예약을 REJECTED로 변경하고 처리한 행 삭제
+     */
+    private void reject(List<Long> reservationIds, LocalDateTime now) {
+        List<Long> sorted = reservationIds.stream().distinct().sorted().toList();
+
+        for (int from = 0; from < sorted.size(); from += chunkSize) {
+            List<Long> chunk = sorted.subList(from, Math.min(from + chunkSize, sorted.size()));
+            try {
+                Integer rejected = transactionTemplate.execute(status -> {
+                    int updated = reservationRepository.updateStatus(
+                            chunk, ReservationStatus.PENDING, ReservationStatus.REJECTED, now);
+                    reservationExpiryRepository.deleteAllByReservationIdIn(chunk);
+                    return updated;
+                });
+                rejectedCounter.increment(rejected == null ? 0 : rejected);
+            } catch (RuntimeException e) {
+                log.error("[PendingExpiryQueue] 자동 거절 실패 count={}", chunk.size(), e);
+            }
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record Item(Long reservationId, long dueAt) {
+    }
+}
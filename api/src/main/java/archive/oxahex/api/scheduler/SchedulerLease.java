@@ -0,0 +1,65 @@
+package archive.oxahex.api.scheduler;
+
+import archive.oxahex.domain.repository.SchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * 여러 서버 중 한 대만 스케줄 작업을 실행하도록 DB lease(scheduler_lease) 획득, 연장
+ * <ol>
+ *     <li>서버(프로세스)마다 owner(호스트 이름:UUID) 하나, lease 이름 별로 따로 획득</li>
+ *     <li>lease를 가진 서버가 다시 획득하면 만료 시간 연장</li>
+ *     <li>DB 장애 등으로 획득하지 못한 경우 false, 다른 서버가 lease를 가져갈 수 있음</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+public class SchedulerLease {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String owner = resolveHostName() + ":" + UUID.randomUUID();
+
+    public SchedulerLease(
+            SchedulerLeaseRepository schedulerLeaseRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * lease 획득 또는 연장
+     * @param name lease 이름(스케줄 작업 별)
+     * @param leaseSeconds 유지 시간
+     * @return 이 서버가 lease를 가진 경우 true
+     */
+    public boolean tryAcquire(String name, long leaseSeconds) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                    schedulerLeaseRepository.tryAcquire(name, owner, leaseSeconds)));
+        } catch (RuntimeException e) {
+            log.warn("[SchedulerLease] lease 획득 실패 name={}, message={}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package archive.oxahex.api.security;
 
 import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.type.RoleType;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -10,32 +11,63 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.function.Supplier;
 
 @Getter
 @Setter
 @RequiredArgsConstructor
 public class AuthUser implements UserDetails {
+    private Long id;
+    private String email;
+    private RoleType role;
     private User user;
 
+    // 로그인한 기기 ID, 기기 별로 Refresh Token 세션을 둠
+    private String deviceId = TokenProvider.DEFAULT_DEVICE_ID;
+
+    // JWT Claim으로 생성된 경우 User Entity가 필요할 때 조회
+    private Supplier<User> userLoader;
+
     public AuthUser(User user) {
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.role = user.getRole();
         this.user = user;
     }
 
+    /**
+     * JWT Claim(id, email, role)으로 인증 유저 생성
+     * <p>User Entity는 {@link #getUser()} 호출 시점에 userLoader로 조회
+     */
+    public AuthUser(Long id, String email, RoleType role, Supplier<User> userLoader) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.userLoader = userLoader;
+    }
+
+    public User getUser() {
+        if (this.user == null && this.userLoader != null) {
+            this.user = this.userLoader.get();
+        }
+        return this.user;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority(this.user.getRole().name()));
+        authorities.add(new SimpleGrantedAuthority(this.role.name()));
         return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user == null ? null : user.getPassword();
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
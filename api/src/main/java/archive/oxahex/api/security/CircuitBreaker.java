@@ -0,0 +1,138 @@
+package archive.oxahex.api.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 외부 저장소(Redis) 호출 Circuit Breaker
+ * <ol>
+ *     <li>CLOSED: 정상 호출, 연속 실패(예외 또는 느린 호출)가 기준을 넘으면 OPEN</li>
+ *     <li>OPEN: 호출하지 않고 바로 실패(fail fast), 대기 시간이 지나면 HALF_OPEN</li>
+ *     <li>HALF_OPEN: 한 요청만 시험 호출, 성공 시 CLOSED, 실패 시 다시 OPEN</li>
+ * </ol>
+ * <p>상태(0: CLOSED, 1: HALF_OPEN, 2: OPEN), 호출 소요 시간, 거절 횟수를 metric으로 기록
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    private final Timer latencyTimer;
+    private final Counter rejectedCounter;
+
+    public CircuitBreaker(
+            String name,
+            int failureThreshold,
+            long slowCallMillis,
+            long openMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+
+        Gauge.builder("redis.circuit.state", state, s -> s.get().ordinal())
+                .tag("name", name)
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("redis.command.latency")
+                .tag("name", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("redis.circuit.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Circuit Breaker를 거쳐 호출
+     * @throws CircuitBreakerOpenException OPEN 상태이거나 HALF_OPEN 상태에서 다른 요청이 시험 호출 중인 경우
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (!tryAcquirePermission()) {
+            rejectedCounter.increment();
+            throw new CircuitBreakerOpenException(name);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            long elapsed = System.nanoTime() - start;
+            latencyTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (elapsed > slowCallNanos) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            return result;
+        } catch (RuntimeException e) {
+            latencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            onFailure();
+            throw e;
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) return true;
+
+        // 대기 시간이 지난 경우 한 요청만 HALF_OPEN으로 전환해 시험 호출
+        if (current == State.OPEN && System.nanoTime() - openedAt.get() >= openNanos) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("[CircuitBreaker] {} CLOSED", name);
+        }
+    }
+
+    private void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+    }
+
+    private void open() {
+        openedAt.set(System.nanoTime());
+        if (state.getAndSet(State.OPEN) != State.OPEN) {
+            log.warn("[CircuitBreaker] {} OPEN, 연속 실패={}", name, consecutiveFailures.get());
+        }
+        consecutiveFailures.set(0);
+    }
+
+    public static class CircuitBreakerOpenException extends RuntimeException {
+
+        public CircuitBreakerOpenException(String name) {
+            super("Circuit Breaker OPEN: " + name);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package archive.oxahex.api.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 프로세스 내 Refresh Token 저장소
+ * <p>Redis 없이 실행하는 테스트, 단일 서버 배포에서 사용
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    // 유저 -> (기기 ID -> 세션)
+    private final ConcurrentMap<String, ConcurrentMap<String, Session>> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public String rotate(String user, String deviceId, String token, Duration ttl) {
+        Session session = new Session(deviceId, token, System.currentTimeMillis() + ttl.toMillis());
+
+        Map<String, Session> userSessions = sessions.computeIfAbsent(user, k -> new ConcurrentHashMap<>());
+        userSessions.values().removeIf(Session::isExpired);
+        Session previous = userSessions.put(deviceId, session);
+
+        return previous == null || previous.isExpired() ? null : previous.token();
+    }
+
+    @Override
+    public String get(String user, String deviceId) {
+        Map<String, Session> userSessions = sessions.get(user);
+        Session session = userSessions == null ? null : userSessions.get(deviceId);
+        if (session == null) return null;
+
+        // 만료된 Token은 조회 시점에 제거
+        if (session.isExpired()) {
+            userSessions.remove(deviceId, session);
+            return null;
+        }
+
+        return session.token();
+    }
+
+    @Override
+    public boolean delete(String user, String deviceId) {
+        Map<String, Session> userSessions = sessions.get(user);
+        Session removed = userSessions == null ? null : userSessions.remove(deviceId);
+        return removed != null && !removed.isExpired();
+    }
+
+    @Override
+    public List<Session> findAll(String user) {
+        Map<String, Session> userSessions = sessions.get(user);
+        if (userSessions == null) return List.of();
+
+        return userSessions.values().stream()
+                .filter(session -> !session.isExpired())
+                .toList();
+    }
+
+    @Override
+    public boolean deleteAll(String user) {
+        Map<String, Session> removed = sessions.remove(user);
+        return removed != null && removed.values().stream().anyMatch(session -> !session.isExpired());
+    }
+}
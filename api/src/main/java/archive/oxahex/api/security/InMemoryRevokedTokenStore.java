@@ -0,0 +1,44 @@
+package archive.oxahex.api.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 프로세스 내 폐기 Token 저장소
+ * <p>Redis 없이 실행하는 테스트, 단일 서버 배포에서 사용
+ */
+@Component
+@ConditionalOnProperty(name = "auth.revocation.store", havingValue = "memory")
+public class InMemoryRevokedTokenStore implements RevokedTokenStore {
+
+    private final ConcurrentMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenId, long revokedAt) {
+        revokedTokens.put(tokenId, revokedAt);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    @Override
+    public List<RevokedToken> findRevokedSince(long revokedAt) {
+        return revokedTokens.entrySet().stream()
+                .filter(entry -> entry.getValue() >= revokedAt)
+                .map(entry -> new RevokedToken(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    public void removeExpired(Duration retention) {
+        long expiredBefore = System.currentTimeMillis() - retention.toMillis();
+        revokedTokens.values().removeIf(revokedAt -> revokedAt < expiredBefore);
+    }
+}
@@ -1,6 +1,10 @@
 package archive.oxahex.api.security;
 
 import archive.oxahex.api.dto.request.LoginRequest;
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.handler.ErrorResponseWriter;
+import archive.oxahex.api.interceptor.RateLimitInterceptor;
+import archive.oxahex.api.ratelimit.RateLimiter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -22,19 +26,25 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
     private static final String TOKEN_HEADER = "Authorization";
     private static final String TOKEN_PREFIX = "Bearer ";
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String DEVICE_HEADER = "X-Device-Id";
+    private static final int DEVICE_ID_MAX_LENGTH = 64;
 
     private final AuthenticationManager authenticationManager;
     private final TokenProvider tokenProvider;
+    private final RateLimiter rateLimiter;
 
 
     public JwtAuthenticationFilter(
             AuthenticationManager authenticationManager,
             TokenProvider tokenProvider,
+            RateLimiter rateLimiter,
             String loginPath
     ) {
         super.setFilterProcessesUrl(loginPath);
         this.authenticationManager = authenticationManager;
         this.tokenProvider = tokenProvider;
+        this.rateLimiter = rateLimiter;
     }
 
     /**
@@ -54,6 +64,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         ObjectMapper om = new ObjectMapper();
 
         try {
+            // 로그인 요청 허용량 확인(BCrypt 연산 전)
+            rateLimiter.acquire(RateLimiter.LOGIN, RateLimitInterceptor.resolveClient(request));
+
             LoginRequest loginRequest =
                     om.readValue(request.getInputStream(), LoginRequest.class);
 
@@ -67,6 +80,14 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             // 검증 성공 시 Authentication 객체 반환
             return authenticationManager.authenticate(authenticationToken);
 
+        } catch (CustomException e) {
+            // 요청 허용량 초과 시 429, 비밀번호 해시 대기열 초과 시 503 바로 응답
+            log.warn("JwtAuthenticationFilter.attemptAuthentication={}", e.getErrorMessage());
+            try {
+                ErrorResponseWriter.write(response, om, e, RETRY_AFTER_SECONDS);
+            } catch (IOException ioException) {
+                log.error("JwtAuthenticationFilter.attemptAuthentication", ioException);
+            }
         } catch (IOException e) {
             log.error("JwtAuthenticationFilter.attemptAuthentication", e);
         }
@@ -81,6 +102,8 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      *     <li>JWT Refresh Token 발급</li>
      *     <li>Response Header에 Access Token 전송</li>
      *     <li>Refresh Token은 Redis에 저장, 응답 Header로 전송하지 않음</li>
+     *     <li>X-Device-Id Header의 기기 별로 세션을 두어 다른 기기의 로그인 세션을 유지</li>
+     *     <li>Refresh Token 저장소 장애 시 Access Token만 발급(만료 후 재로그인 필요)</li>
      * </ol>
      */
     @Override
@@ -92,9 +115,27 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     ) throws IOException, ServletException {
 
         AuthUser authUser = (AuthUser) authResult.getPrincipal();
+        authUser.setDeviceId(resolveDeviceId(request));
         String accessToken = tokenProvider.generateAccessToken(authUser);
-        tokenProvider.generateRefreshToken(authUser);
+
+        try {
+            tokenProvider.generateRefreshToken(authUser);
+        } catch (CustomException e) {
+            log.warn("JwtAuthenticationFilter.successfulAuthentication Refresh Token 미발급={}", e.getErrorMessage());
+        }
 
         response.addHeader(TOKEN_HEADER, TOKEN_PREFIX + accessToken);
     }
+
+    /**
+     * 요청 Header에서 기기 ID를 꺼냄
+     * @return Header가 없거나 형식이 맞지 않는 경우 기본 기기 ID
+     */
+    private String resolveDeviceId(HttpServletRequest request) {
+        String deviceId = request.getHeader(DEVICE_HEADER);
+        if (deviceId == null || deviceId.isBlank() || deviceId.length() > DEVICE_ID_MAX_LENGTH) {
+            return TokenProvider.DEFAULT_DEVICE_ID;
+        }
+        return deviceId.trim();
+    }
 }
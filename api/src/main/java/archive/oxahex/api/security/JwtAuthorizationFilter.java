@@ -1,6 +1,9 @@
 package archive.oxahex.api.security;
 
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.handler.ErrorResponseWriter;
 import archive.oxahex.api.service.AuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -25,23 +28,33 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
 
     private static final String TOKEN_HEADER = "Authorization";
     private static final String TOKEN_PREFIX = "Bearer ";
-    private static final String[] EXCLUDE_PATH = {"/auth/join", "/auth/login"};
+    private static final String[] EXCLUDE_PATH = {"/auth/join", "/auth/login", "/auth/logout"};
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     AuthService authService;
     TokenProvider tokenProvider;
+    TokenReissuer tokenReissuer;
+    TokenDenylist tokenDenylist;
 
     public JwtAuthorizationFilter(
             AuthenticationManager authenticationManager,
             AuthService authService,
-            TokenProvider tokenProvider
+            TokenProvider tokenProvider,
+            TokenReissuer tokenReissuer,
+            TokenDenylist tokenDenylist
     ) {
         super(authenticationManager);
         this.authService = authService;
         this.tokenProvider = tokenProvider;
+        this.tokenReissuer = tokenReissuer;
+        this.tokenDenylist = tokenDenylist;
     }
 
     /**
      * 로그인, 회원가입의 경우 JWT 검증을 거치지 않도록 함
+     * 로그아웃의 경우 만료된 Token을 재발급하지 않고 Controller에서 직접 검증함
      */
     @Override
     protected boolean shouldNotFilter(
@@ -70,42 +83,73 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
         if (accessToken == null) {
             log.info("[JwtAuthorizationFilter] 토큰이 없음");
             chain.doFilter(request, response);
+            return;
+        }
+
+        // Token 한 번 파싱(서명 검증)
+        VerifiedToken verifiedToken = tokenProvider.verify(accessToken);
+
+        // 서명이 유효하지 않은 경우 Authentication 없이 리턴(진행)
+        if (verifiedToken == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // 폐기(로그아웃)된 Token인 경우 Authentication 없이 리턴(진행), 재발급하지 않음
+        if (tokenDenylist.isRevoked(verifiedToken.tokenId())) {
+            log.info("[JwtAuthorizationFilter] 폐기된 토큰 jti={}", verifiedToken.tokenId());
+            chain.doFilter(request, response);
+            return;
         }
 
         // 유효하지 않음(기간 지남) 경우 따로 처리
-        if (!tokenProvider.validateToken(accessToken)) {
+        if (verifiedToken.isExpired()) {
             log.info("[JwtAuthorizationFilter] 유효하지 않은 토큰={}", accessToken);
 
-            // Redis에서 username(email)로 저장된 Refresh Token이 있는지 확인
-            String email = tokenProvider.getTokenSubject(accessToken);
-            String refreshToken = tokenProvider.getRefreshToken(email);
-            log.info("refreshToken from Redis={}", refreshToken);
-
-            // Refresh Token 없는 경우 Authentication 없이 리턴(진행)
-            // 재 로그인 필요
-            if (refreshToken == null) {
+            // Refresh Token 유효 기간보다 오래전 발급된 Token은 재발급하지 않음
+            if (!tokenProvider.isReissuable(verifiedToken)) {
+                log.info("[JwtAuthorizationFilter] 재발급 기간이 지난 토큰 jti={}", verifiedToken.tokenId());
                 chain.doFilter(request, response);
+                return;
             }
 
-            // Refresh Token 있는 경우 검증하고, 새 Access Token 발급
-            if (tokenProvider.validateToken(refreshToken)) {
-                String username = tokenProvider.getTokenSubject(refreshToken);
-                AuthUser authUser = (AuthUser) authService.loadUserByUsername(username);
+            // 같은 유저, 같은 기기의 동시 재발급 요청은 한 번만 재발급
+            String subject = verifiedToken.subject();
+            String deviceId = verifiedToken.deviceId();
+            String reIssuedAccessToken;
+            try {
+                reIssuedAccessToken = tokenReissuer.reissue(
+                        subject + ":" + deviceId, () -> reissueAccessToken(subject, deviceId)
+                );
+            } catch (CustomException e) {
+                // Refresh Token 저장소 장애 시 기다리지 않고 바로 503 응답
+                log.warn("[JwtAuthorizationFilter] 재발급 불가={}", e.getErrorMessage());
+                ErrorResponseWriter.write(response, objectMapper, e, RETRY_AFTER_SECONDS);
+                return;
+            }
 
-                String reIssuedAccessToken = tokenProvider.generateAccessToken(authUser);
-                log.info("[AccessToken 재발급] Access Token={}", reIssuedAccessToken);
+            // Refresh Token 없거나 만료된 경우 Authentication 없이 리턴(진행)
+            // 재 로그인 필요
+            if (reIssuedAccessToken == null) {
+                chain.doFilter(request, response);
+                return;
+            }
 
-                // 새로 발급된 Access Token 응답 Header에 삽입
-                response.setHeader(TOKEN_HEADER, TOKEN_PREFIX + reIssuedAccessToken);
+            // 새로 발급된 Access Token 응답 Header에 삽입
+            response.setHeader(TOKEN_HEADER, TOKEN_PREFIX + reIssuedAccessToken);
 
-                // 새로 발급된 Access Token으로 기존 Access Token 교체
-                accessToken = reIssuedAccessToken;
-            }
+            // 새로 발급된 Access Token으로 기존 Access Token 교체
+            verifiedToken = tokenProvider.verify(reIssuedAccessToken);
         }
 
         // 유효한 경우 Authentication 객체 생성 후 Security Session에 객체를 등록
-        String username = tokenProvider.getTokenSubject(accessToken);
-        AuthUser authUser = (AuthUser) authService.loadUserByUsername(username);
+        // DB 조회 없이 검증된 Claim(id, email, role)으로 인증 유저 생성
+        AuthUser authUser = authService.loadUserByClaims(
+                verifiedToken.userId(),
+                verifiedToken.subject(),
+                verifiedToken.role()
+        );
+        authUser.setDeviceId(verifiedToken.deviceId());
 
         // 인증된 Authentication 객체
         Authentication authentication =
@@ -119,6 +163,35 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
         chain.doFilter(request, response);
     }
 
+    /**
+     * Refresh Token 확인 후 Access Token 재발급
+     * @param email 만료된 Access Token의 유저 Email
+     * @param deviceId 만료된 Access Token의 기기 ID
+     * @return 새 Access Token, Refresh Token이 없거나 만료된 경우 null
+     */
+    private String reissueAccessToken(String email, String deviceId) {
+
+        // Redis에서 username(email), 기기 ID로 저장된 Refresh Token이 있는지 확인
+        String refreshToken = tokenProvider.getRefreshToken(email, deviceId);
+        log.info("refreshToken from Redis={}", refreshToken);
+
+        VerifiedToken verifiedRefreshToken =
+                refreshToken == null ? null : tokenProvider.verify(refreshToken);
+
+        if (verifiedRefreshToken == null || verifiedRefreshToken.isExpired()) {
+            return null;
+        }
+
+        // 권한 정보가 바뀌었을 수 있으므로 캐시된 유저 정보로 발급
+        AuthUser authUser = new AuthUser(authService.getCachedUser(verifiedRefreshToken.subject()));
+        authUser.setDeviceId(deviceId);
+
+        String reIssuedAccessToken = tokenProvider.generateAccessToken(authUser);
+        log.info("[AccessToken 재발급] Access Token={}", reIssuedAccessToken);
+
+        return reIssuedAccessToken;
+    }
+
     /**
      * 요청으로부터 JWT Token 파싱
      * @param request 요청
@@ -0,0 +1,117 @@
+package archive.oxahex.api.security;
+
+import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.type.RoleType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인증 유저 Entity 캐시
+ * <ol>
+ *     <li>User Entity 전체가 필요한 경우에만 사용(JWT Claim으로 충분한 경우 사용하지 않음)</li>
+ *     <li>최대 크기를 넘는 경우 가장 오래 사용되지 않은 항목부터 제거(LRU)</li>
+ *     <li>TTL이 지난 항목은 조회 시점에 제거</li>
+ *     <li>Entity가 아닌 변경할 수 없는 값(UserSnapshot)으로 보관, 조회마다 새 User 객체를 만들어 요청 간에 공유하지 않음</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, CachedUser> cache;
+
+    public PrincipalCache(
+            @Value("${auth.principal-cache.max-size:10000}") int maxSize,
+            @Value("${auth.principal-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+                return size() > PrincipalCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 유저 조회
+     * @param email 유저 Email(username)
+     * @return 캐시에 없거나 TTL이 지난 경우 null, 호출마다 새 User 객체(영속 상태 아님)
+     */
+    public User get(String email) {
+        UserSnapshot snapshot;
+        synchronized (this) {
+            CachedUser cachedUser = cache.get(email);
+            if (cachedUser == null) return null;
+
+            if (cachedUser.expiredAt() < System.currentTimeMillis()) {
+                cache.remove(email);
+                return null;
+            }
+            snapshot = cachedUser.user();
+        }
+
+        return snapshot.toUser();
+    }
+
+    public void put(User user) {
+        UserSnapshot snapshot = UserSnapshot.from(user);
+        synchronized (this) {
+            cache.put(user.getEmail(), new CachedUser(snapshot, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    /**
+     * 유저 정보(권한 등)가 변경된 경우 캐시에서 제거
+     */
+    public synchronized void evict(String email) {
+        log.info("[PrincipalCache.evict] email={}", email);
+        cache.remove(email);
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    private record CachedUser(UserSnapshot user, long expiredAt) {
+    }
+
+    /**
+     * 캐시에 보관하는 유저 값(연관 Entity 제외)
+     */
+    private record UserSnapshot(
+            Long id,
+            String name,
+            String email,
+            String password,
+            String phoneNumber,
+            RoleType role,
+            LocalDateTime registeredDate
+    ) {
+
+        static UserSnapshot from(User user) {
+            return new UserSnapshot(user.getId(), user.getName(), user.getEmail(), user.getPassword(),
+                    user.getPhoneNumber(), user.getRole(), user.getRegisteredDate());
+        }
+
+        User toUser() {
+            return User.builder()
+                    .id(id)
+                    .name(name)
+                    .email(email)
+                    .password(password)
+                    .phoneNumber(phoneNumber)
+                    .role(role)
+                    .registeredDate(registeredDate)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package archive.oxahex.api.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Refresh Token 저장소
+ * <ol>
+ *     <li>유저 당 Hash 하나(key: refresh-token:{email}, field: 기기 ID, value: {만료 시간}:{Token})</li>
+ *     <li>Token 교체는 Lua Script로 Redis 서버에서 한 번에 처리(HGET + HSET + 만료된 세션 정리 + PEXPIRE)</li>
+ *     <li>Hash Key TTL은 가장 늦게 만료되는 세션 기준, 세션 별 만료는 값에 저장된 만료 시간으로 판단</li>
+ * </ol>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh-token:";
+
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local previous = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "local now = tonumber(ARGV[4]) " +
+            "local sessions = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #sessions, 2 do " +
+            "  local expiredAt = tonumber(string.match(sessions[i + 1], '^(%d+):')) " +
+            "  if expiredAt == nil or expiredAt < now then redis.call('HDEL', KEYS[1], sessions[i]) end " +
+            "end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[3]) then " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "end " +
+            "return previous",
+            String.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public String rotate(String user, String deviceId, String token, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Session session = new Session(deviceId, token, now + ttl.toMillis());
+
+        String previous = redisTemplate.execute(
+                ROTATE_SCRIPT, List.of(KEY_PREFIX + user),
+                deviceId, session.encode(), String.valueOf(ttl.toMillis()), String.valueOf(now)
+        );
+        return active(Session.decode(deviceId, previous));
+    }
+
+    @Override
+    public String get(String user, String deviceId) {
+        String value = (String) redisTemplate.opsForHash().get(KEY_PREFIX + user, deviceId);
+        return active(Session.decode(deviceId, value));
+    }
+
+    @Override
+    public boolean delete(String user, String deviceId) {
+        return redisTemplate.opsForHash().delete(KEY_PREFIX + user, deviceId) > 0;
+    }
+
+    /**
+     * HGETALL 한 번으로 모든 세션 조회
+     */
+    @Override
+    public List<Session> findAll(String user) {
+        Map<Object, Object> values = redisTemplate.opsForHash().entries(KEY_PREFIX + user);
+
+        return values.entrySet().stream()
+                .map(entry -> Session.decode((String) entry.getKey(), (String) entry.getValue()))
+                .filter(session -> !session.isExpired())
+                .toList();
+    }
+
+    /**
+     * DEL 한 번으로 모든 세션 삭제
+     */
+    @Override
+    public boolean deleteAll(String user) {
+        return Boolean.TRUE.equals(redisTemplate.delete(KEY_PREFIX + user));
+    }
+
+    private String active(Session session) {
+        return session == null || session.isExpired() ? null : session.token();
+    }
+}
@@ -0,0 +1,52 @@
+package archive.oxahex.api.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 폐기 Token 저장소
+ * <p>Sorted Set 하나로 관리(member: jti, score: 폐기 시간)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.revocation.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRevokedTokenStore implements RevokedTokenStore {
+
+    private static final String KEY = "revoked-tokens";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void revoke(String tokenId, long revokedAt) {
+        redisTemplate.opsForZSet().add(KEY, tokenId, revokedAt);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return redisTemplate.opsForZSet().score(KEY, tokenId) != null;
+    }
+
+    @Override
+    public List<RevokedToken> findRevokedSince(long revokedAt) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().rangeByScoreWithScores(KEY, revokedAt, Double.POSITIVE_INFINITY);
+        if (tuples == null) return List.of();
+
+        return tuples.stream()
+                .map(tuple -> new RevokedToken(tuple.getValue(), tuple.getScore().longValue()))
+                .toList();
+    }
+
+    @Override
+    public void removeExpired(Duration retention) {
+        long expiredBefore = System.currentTimeMillis() - retention.toMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, expiredBefore);
+    }
+}
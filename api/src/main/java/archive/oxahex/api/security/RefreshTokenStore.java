@@ -0,0 +1,73 @@
+package archive.oxahex.api.security;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Refresh Token 저장소
+ * <ul>
+ *     <li>{@link RedisRefreshTokenStore}: Redis 저장(기본값, 다중 서버)</li>
+ *     <li>{@link InMemoryRefreshTokenStore}: 프로세스 내 저장(테스트, 단일 서버)</li>
+ * </ul>
+ * <p>auth.refresh-token.store 설정값(redis, memory)으로 선택
+ * <p>유저 당 기기(device) 별 세션을 두어 여러 기기에서 동시에 로그인 가능
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 기기의 새 Refresh Token 저장(기존 Token 교체)
+     * <p>조회, 교체, TTL 설정을 하나의 원자적 연산으로 처리
+     * @param user 유저 Email(username)
+     * @param deviceId 기기 ID
+     * @return 교체된 기존 Token, 없는 경우 null
+     */
+    String rotate(String user, String deviceId, String token, Duration ttl);
+
+    String get(String user, String deviceId);
+
+    boolean delete(String user, String deviceId);
+
+    /**
+     * 유저의 모든 세션 조회(한 번의 왕복)
+     * @return 만료되지 않은 세션 목록
+     */
+    List<Session> findAll(String user);
+
+    /**
+     * 유저의 모든 세션 삭제(한 번의 왕복)
+     * @return 삭제된 세션이 있는 경우 true
+     */
+    boolean deleteAll(String user);
+
+    /**
+     * 기기 별 세션
+     * @param deviceId 기기 ID
+     * @param token Refresh Token
+     * @param expiredAt 만료 시간(epoch millis)
+     */
+    record Session(String deviceId, String token, long expiredAt) {
+
+        private static final String DELIMITER = ":";
+
+        public boolean isExpired() {
+            return expiredAt < System.currentTimeMillis();
+        }
+
+        /**
+         * 저장 형식: {만료 시간}:{Token}
+         * <p>Hash Field에는 TTL을 지정할 수 없어 만료 시간을 값에 함께 저장
+         */
+        String encode() {
+            return expiredAt + DELIMITER + token;
+        }
+
+        static Session decode(String deviceId, String value) {
+            if (value == null) return null;
+
+            int index = value.indexOf(DELIMITER);
+            return new Session(
+                    deviceId, value.substring(index + 1), Long.parseLong(value.substring(0, index))
+            );
+        }
+    }
+}
@@ -1,38 +1,81 @@
 package archive.oxahex.api.security;
 
-import lombok.RequiredArgsConstructor;
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
 
+/**
+ * Refresh Token 저장소 접근
+ * <ol>
+ *     <li>저장소 호출은 Circuit Breaker를 거침</li>
+ *     <li>저장소 장애(연결 실패, 시간 초과) 또는 Circuit Breaker OPEN 시 바로 503(TOKEN_STORE_UNAVAILABLE)</li>
+ *     <li>장애 중에도 유효한 Access Token은 저장소를 거치지 않으므로 계속 사용 가능(재발급, 로그인만 거절)</li>
+ * </ol>
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RefreshTokenUtil {
-    private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24;   // 24h
-    private final RedisTemplate<String, String> redisTemplate;
+    private static final Duration REFRESH_TOKEN_EXPIRE_TIME = Duration.ofHours(24);   // 24h
+    private final RefreshTokenStore refreshTokenStore;
+    private final CircuitBreaker circuitBreaker;
 
-    @Transactional
-    public void set(String key, String value) {
-        // 기존에 있으면 제거
-        if (get(key) != null) delete(key);
-
-        log.info("[RefreshTokenRedisHandler.set] key={}, value={}", key, value);
-        redisTemplate.opsForValue().set(
-                key, value, REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS
+    public RefreshTokenUtil(
+            RefreshTokenStore refreshTokenStore,
+            MeterRegistry meterRegistry,
+            @Value("${auth.refresh-token.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${auth.refresh-token.circuit-breaker.slow-call-millis:200}") long slowCallMillis,
+            @Value("${auth.refresh-token.circuit-breaker.open-millis:10000}") long openMillis
+    ) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.circuitBreaker = new CircuitBreaker(
+                "refresh-token", failureThreshold, slowCallMillis, openMillis, meterRegistry
         );
     }
 
-    @Transactional(readOnly = true)
-    public String get(String key) {
-        return redisTemplate.opsForValue().get(key);
+    /**
+     * 기기 별 Refresh Token 저장
+     * <p>기존 Token 조회, 교체, TTL 설정을 한 번에 처리
+     * @return 교체된 기존 Token, 없는 경우 null
+     */
+    public String set(String key, String deviceId, String value) {
+        log.info("[RefreshTokenRedisHandler.set] key={}, deviceId={}, value={}", key, deviceId, value);
+        return call(() -> refreshTokenStore.rotate(key, deviceId, value, REFRESH_TOKEN_EXPIRE_TIME));
+    }
+
+    public String get(String key, String deviceId) {
+        return call(() -> refreshTokenStore.get(key, deviceId));
+    }
+
+    public boolean delete(String key, String deviceId) {
+        return call(() -> refreshTokenStore.delete(key, deviceId));
+    }
+
+    public List<RefreshTokenStore.Session> findAll(String key) {
+        return call(() -> refreshTokenStore.findAll(key));
+    }
+
+    public boolean deleteAll(String key) {
+        return call(() -> refreshTokenStore.deleteAll(key));
+    }
+
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
     }
 
-    @Transactional
-    public boolean delete(String key) {
-        return Boolean.TRUE.equals(redisTemplate.delete(key));
+    private <T> T call(Supplier<T> storeCall) {
+        try {
+            return circuitBreaker.execute(storeCall);
+        } catch (CircuitBreaker.CircuitBreakerOpenException | DataAccessException e) {
+            log.warn("[RefreshTokenUtil] 저장소 사용 불가 message={}", e.getMessage());
+            throw new CustomException(ErrorType.TOKEN_STORE_UNAVAILABLE);
+        }
     }
 }
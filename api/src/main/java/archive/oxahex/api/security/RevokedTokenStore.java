@@ -0,0 +1,37 @@
+package archive.oxahex.api.security;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 폐기된 Access Token ID(jti) 저장소
+ * <ul>
+ *     <li>{@link RedisRevokedTokenStore}: Redis Sorted Set 저장(기본값, 다중 서버)</li>
+ *     <li>{@link InMemoryRevokedTokenStore}: 프로세스 내 저장(테스트, 단일 서버)</li>
+ * </ul>
+ * <p>auth.revocation.store 설정값(redis, memory)으로 선택
+ */
+public interface RevokedTokenStore {
+
+    /**
+     * Token ID 폐기
+     * @param revokedAt 폐기 시간(epoch millis), 증분 동기화 기준
+     */
+    void revoke(String tokenId, long revokedAt);
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * 지정 시간 이후 폐기된 Token 목록(증분 동기화)
+     */
+    List<RevokedToken> findRevokedSince(long revokedAt);
+
+    /**
+     * 보관 기간이 지난 항목 제거
+     * <p>Access Token 유효 기간이 지나면 폐기 여부를 확인할 필요가 없음
+     */
+    void removeExpired(Duration retention);
+
+    record RevokedToken(String tokenId, long revokedAt) {
+    }
+}
@@ -0,0 +1,130 @@
+package archive.oxahex.api.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 폐기된 Access Token 확인
+ * <ol>
+ *     <li>폐기된 Token ID(jti)는 {@link RevokedTokenStore}에 저장</li>
+ *     <li>서버마다 저장소 전체를 담은 Bloom Filter를 보유, 주기적으로 증분 동기화</li>
+ *     <li>Bloom Filter에 없는 Token(대부분의 요청)은 저장소 조회 없이 통과</li>
+ *     <li>Bloom Filter에 있는 Token만 저장소에서 정확히 확인(오탐 제거)</li>
+ *     <li>만료된 항목을 비우기 위해 일정 주기로 Bloom Filter 전체 재생성</li>
+ *     <li>만료된 Access Token으로도 재발급을 요청할 수 있으므로 Refresh Token 유효 기간 동안 보관</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+public class TokenDenylist {
+
+    // 동기화 조회 구간을 겹쳐 서버 간 시간 차이로 누락되는 항목 방지
+    private static final long SYNC_OVERLAP_MILLIS = 1000;
+
+    private final RevokedTokenStore revokedTokenStore;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration retention;
+    private final long rebuildIntervalMillis;
+
+    // 첫 동기화 전에는 null, 이 경우 저장소에서 직접 확인
+    private volatile BloomFilter bloomFilter;
+    private volatile long syncedAt;
+    private volatile long rebuiltAt;
+
+    public TokenDenylist(
+            RevokedTokenStore revokedTokenStore,
+            @Value("${auth.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${auth.revocation.retention-minutes:1440}") long retentionMinutes,
+            @Value("${auth.revocation.rebuild-interval-minutes:10}") long rebuildIntervalMinutes
+    ) {
+        this.revokedTokenStore = revokedTokenStore;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.rebuildIntervalMillis = Duration.ofMinutes(rebuildIntervalMinutes).toMillis();
+    }
+
+    /**
+     * Token 폐기
+     * <p>저장소에 기록 후 현재 서버의 Bloom Filter에 바로 반영, 다른 서버는 다음 동기화 시 반영
+     */
+    public void revoke(String tokenId) {
+        if (tokenId == null) return;
+
+        log.info("[TokenDenylist.revoke] jti={}", tokenId);
+        revokedTokenStore.revoke(tokenId, System.currentTimeMillis());
+
+        BloomFilter current = bloomFilter;
+        if (current != null) current.put(tokenId);
+    }
+
+    /**
+     * 폐기된 Token인지 확인
+     * <p>jti가 없는 이전 발급 Token은 폐기 대상이 아님
+     * <p>저장소에 연결할 수 없는 경우 폐기되지 않은 것으로 처리(가용성 우선)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) return false;
+
+        BloomFilter current = bloomFilter;
+        if (current != null && !current.mightContain(tokenId)) return false;
+
+        try {
+            return revokedTokenStore.isRevoked(tokenId);
+        } catch (RuntimeException e) {
+            log.warn("[TokenDenylist.isRevoked] 저장소 조회 실패 jti={}, message={}", tokenId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 저장소와 Bloom Filter 동기화
+     * <p>재생성 주기가 지난 경우 전체 재생성, 그 외에는 마지막 동기화 이후 폐기된 항목만 추가
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-millis:5000}")
+    public void sync() {
+        try {
+            long now = System.currentTimeMillis();
+            if (bloomFilter == null || now - rebuiltAt >= rebuildIntervalMillis) {
+                rebuild(now);
+                return;
+            }
+
+            List<RevokedTokenStore.RevokedToken> revokedTokens =
+                    revokedTokenStore.findRevokedSince(syncedAt - SYNC_OVERLAP_MILLIS);
+
+            BloomFilter current = bloomFilter;
+            revokedTokens.forEach(revokedToken -> current.put(revokedToken.tokenId()));
+            syncedAt = now;
+        } catch (RuntimeException e) {
+            log.warn("[TokenDenylist.sync] 동기화 실패 message={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 항목을 지우고 Bloom Filter 재생성
+     * <p>폐기 건수가 예상치를 넘으면 오탐률이 유지되도록 크기를 늘려 생성
+     */
+    private void rebuild(long now) {
+        revokedTokenStore.removeExpired(retention);
+        List<RevokedTokenStore.RevokedToken> revokedTokens = revokedTokenStore.findRevokedSince(0);
+
+        BloomFilter rebuilt = new BloomFilter(
+                Math.max(expectedInsertions, revokedTokens.size() * 2L), falsePositiveRate
+        );
+        revokedTokens.forEach(revokedToken -> rebuilt.put(revokedToken.tokenId()));
+
+        this.bloomFilter = rebuilt;
+        this.syncedAt = now;
+        this.rebuiltAt = now;
+
+        log.info("[TokenDenylist.rebuild] revoked={}, bytes={}", revokedTokens.size(), rebuilt.sizeInBytes());
+    }
+}
@@ -2,12 +2,19 @@ package archive.oxahex.api.security;
 
 import io.jsonwebtoken.*;
 
+import archive.oxahex.domain.type.RoleType;
+import io.jsonwebtoken.io.Decoders;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -15,6 +22,7 @@ import java.util.Date;
 public class TokenProvider {
 
     private final RefreshTokenUtil refreshTokenRedisHandler;
+    private final VerifiedTokenCache verifiedTokenCache;
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60;   // 1h
 //    private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60;   // 1분 test
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24;   // 24h
@@ -22,37 +30,66 @@ public class TokenProvider {
     private static final String KEY_EMAIL = "email";
     private static final String KEY_ID = "id";
     private static final String KEY_ROLE = "role";
+    private static final String KEY_DEVICE = "device";
+
+    // 기기 ID 없이 로그인한 경우, 기기 ID가 없는 이전 발급 Token의 세션
+    public static final String DEFAULT_DEVICE_ID = "default";
 
     @Value("${spring.jwt.secret}")
     private String key;
 
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+
+    /**
+     * 서명 Key, Parser는 요청마다 생성하지 않고 한 번만 생성해 재사용
+     * <p>기존 발급 Token과 호환되도록 secret은 Base64로 디코딩해 사용
+     */
+    @PostConstruct
+    public void init() {
+        this.secretKey = new SecretKeySpec(
+                Decoders.BASE64.decode(this.key), SignatureAlgorithm.HS256.getJcaName()
+        );
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
+    }
+
     /**
      * 토큰 생성(발급)
-     * <p>id, email, role 정보 포함
+     * <p>id, email, role, 기기 ID 정보 포함
+     * <p>폐기(로그아웃) 확인을 위해 Token ID(jti) 포함
      */
     public String generateAccessToken(AuthUser authUser) {
         log.info("TokenProvider generateAccessToken user.email = {}", authUser.getUsername());
         Claims claims = Jwts.claims().setSubject(authUser.getUsername());
-        claims.put(KEY_ID, authUser.getUser().getId());
+        claims.put(KEY_ID, authUser.getId());
+        claims.put(KEY_ROLE, authUser.getRole().name());
+        claims.put(KEY_DEVICE, authUser.getDeviceId());
 
         Date now = new Date(System.currentTimeMillis());
         Date expiredDate = new Date(now.getTime() + ACCESS_TOKEN_EXPIRE_TIME);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)   // 생성
                 .setExpiration(expiredDate)     // 만료
-                .signWith(SignatureAlgorithm.HS256, key)
+                .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     };
 
+    /**
+     * Refresh Token 생성(발급)
+     * <p>유저의 기기 별 세션에 저장, 같은 기기의 기존 Token만 교체
+     */
     public String generateRefreshToken(AuthUser authUser) {
 
         log.info("TokenProvider generateRefreshToken user.email = {}", authUser.getUsername());
 
         Claims claims = Jwts.claims().setSubject(authUser.getUsername());
-        claims.put(KEY_ID, authUser.getUser().getId());
-
+        claims.put(KEY_ID, authUser.getId());
+        claims.put(KEY_DEVICE, authUser.getDeviceId());
 
         Date now = new Date();
         Date expireDate = new Date(now.getTime() + REFRESH_TOKEN_EXPIRE_TIME);
@@ -61,50 +98,110 @@ public class TokenProvider {
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(expireDate)
-                .signWith(SignatureAlgorithm.HS256, key)
+                .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
 
         // 새 Token Redis 저장
-        refreshTokenRedisHandler.set(authUser.getUsername(), refreshToken);
+        refreshTokenRedisHandler.set(authUser.getUsername(), authUser.getDeviceId(), refreshToken);
 
         return refreshToken;
     }
 
-    public String getRefreshToken(String key) {
-        return refreshTokenRedisHandler.get(key);
+    public String getRefreshToken(String key, String deviceId) {
+        return refreshTokenRedisHandler.get(key, deviceId);
+    }
+
+    public boolean deleteRefreshToken(String key, String deviceId) {
+        return refreshTokenRedisHandler.delete(key, deviceId);
     }
 
     /**
-     * Token으로부터 Email(Username)을 꺼냄
+     * 유저의 모든 기기 세션 조회
      */
-    public String getTokenSubject(String token) {
-        Claims claims = parseClaims(token);
-        return claims.getSubject();
+    public List<RefreshTokenStore.Session> getSessions(String key) {
+        return refreshTokenRedisHandler.findAll(key);
     }
 
-
     /**
-     * 토큰 유효기간 확인
-     * @param token
-     * @return 유효한 경우 true, 유효 기간 만료 토큰인 경우 false
+     * 유저의 모든 기기 세션 삭제(모든 기기 로그아웃)
      */
-    public boolean validateToken(String token) {
-        Claims claims = this.parseClaims(token);
-        return !claims.getExpiration().before(new Date());
+    public boolean deleteSessions(String key) {
+        return refreshTokenRedisHandler.deleteAll(key);
     }
 
     /**
-     * Claim의 Body를 파싱
+     * Token 서명 검증 및 파싱
+     * <ol>
+     *     <li>Token 당 한 번만 파싱해 필요한 Claim을 모두 담아 반환</li>
+     *     <li>최근 검증한 Token은 캐시에서 반환(서명 검증 생략)</li>
+     *     <li>만료된 Token도 서명이 유효하면 반환(Refresh Token 재발급에 사용)</li>
+     * </ol>
+     * @return 서명이 유효하지 않거나 형식이 잘못된 Token인 경우 null
      */
-    private Claims parseClaims(String token) {
+    public VerifiedToken verify(String token) {
+
+        VerifiedToken cachedToken = verifiedTokenCache.get(token);
+        if (cachedToken != null) return cachedToken;
+
+        Claims claims;
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(this.key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            claims = jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
-            return e.getClaims();
+            return toVerifiedToken(e.getClaims());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("[TokenProvider.verify] 유효하지 않은 토큰={}", e.getMessage());
+            return null;
         }
+
+        VerifiedToken verifiedToken = toVerifiedToken(claims);
+        verifiedTokenCache.put(token, verifiedToken);
+
+        return verifiedToken;
+    }
+
+    /**
+     * 만료된 Access Token으로 재발급 가능한지 확인
+     * <ol>
+     *     <li>Access Token은 같은 세션의 Refresh Token보다 먼저 발급되지 않음</li>
+     *     <li>발급 후 Refresh Token 유효 기간이 지난 Token은 세션도 만료되었으므로 재발급하지 않음</li>
+     *     <li>폐기 목록 보관 기간이 지나 폐기 기록이 지워진 Token도 재발급되지 않음</li>
+     * </ol>
+     */
+    public boolean isReissuable(VerifiedToken verifiedToken) {
+        long issuedAt = verifiedToken.expiredAt() - ACCESS_TOKEN_EXPIRE_TIME;
+        return System.currentTimeMillis() - issuedAt < REFRESH_TOKEN_EXPIRE_TIME;
+    }
+
+    /**
+     * Token으로부터 Email(Username)을 꺼냄
+     */
+    public String getTokenSubject(String token) {
+        VerifiedToken verifiedToken = verify(token);
+        return verifiedToken == null ? null : verifiedToken.subject();
+    }
+
+    /**
+     * 토큰 유효기간 확인
+     * @param token
+     * @return 유효한 경우 true, 유효 기간 만료 토큰 또는 유효하지 않은 토큰인 경우 false
+     */
+    public boolean validateToken(String token) {
+        VerifiedToken verifiedToken = verify(token);
+        return verifiedToken != null && !verifiedToken.isExpired();
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        Object id = claims.get(KEY_ID);
+        String role = claims.get(KEY_ROLE, String.class);
+        String deviceId = claims.get(KEY_DEVICE, String.class);
+
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                deviceId == null ? DEFAULT_DEVICE_ID : deviceId,
+                id == null ? null : ((Number) id).longValue(),
+                role == null ? null : RoleType.valueOf(role),
+                claims.getExpiration().getTime()
+        );
     }
 }
@@ -0,0 +1,120 @@
+package archive.oxahex.api.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Access Token 재발급 중복 제거(single-flight)
+ * <ol>
+ *     <li>같은 유저(subject)의 재발급 요청이 동시에 들어오는 경우 한 번만 재발급하고 대기 중인 요청은 같은 Token을 받음</li>
+ *     <li>재발급 직후 짧은 시간(grace) 동안 들어오는 요청은 새로 발급하지 않고 방금 발급한 Token을 재사용</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+public class TokenReissuer {
+
+    private final long graceMillis;
+    private final long waitTimeoutMillis;
+    private final int maxSize;
+
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlights = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, IssuedToken> graceCache = new ConcurrentHashMap<>();
+
+    public TokenReissuer(
+            @Value("${auth.reissue.grace-seconds:10}") long graceSeconds,
+            @Value("${auth.reissue.wait-timeout-millis:3000}") long waitTimeoutMillis,
+            @Value("${auth.reissue.max-size:10000}") int maxSize
+    ) {
+        this.graceMillis = graceSeconds * 1000;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Access Token 재발급
+     * @param subject 유저 Email(username)
+     * @param issuer 실제 재발급 로직(Refresh Token 확인 후 새 Access Token 발급), 재발급 불가 시 null 반환
+     * @return 새 Access Token, 재발급 불가한 경우 null
+     */
+    public String reissue(String subject, Supplier<String> issuer) {
+
+        String issuedToken = getIssuedToken(subject);
+        if (issuedToken != null) return issuedToken;
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = inFlights.putIfAbsent(subject, future);
+
+        // 이미 재발급 중인 경우 결과를 기다림
+        if (inFlight != null) {
+            return await(subject, inFlight);
+        }
+
+        try {
+            // 대기열 등록 직전에 다른 요청이 재발급을 마친 경우
+            String token = getIssuedToken(subject);
+            if (token == null) {
+                token = issuer.get();
+                if (token != null) putIssuedToken(subject, token);
+            }
+
+            future.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlights.remove(subject, future);
+        }
+    }
+
+    private String await(String subject, CompletableFuture<String> inFlight) {
+        try {
+            return inFlight.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (TimeoutException e) {
+            log.warn("[TokenReissuer] 재발급 대기 시간 초과 subject={}", subject);
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private String getIssuedToken(String subject) {
+        IssuedToken issuedToken = graceCache.get(subject);
+        if (issuedToken == null) return null;
+
+        if (issuedToken.isExpired()) {
+            graceCache.remove(subject, issuedToken);
+            return null;
+        }
+
+        return issuedToken.token();
+    }
+
+    private void putIssuedToken(String subject, String token) {
+        // 크기 초과 시 grace 기간이 지난 항목 정리
+        if (graceCache.size() >= maxSize) {
+            graceCache.values().removeIf(IssuedToken::isExpired);
+        }
+        if (graceCache.size() < maxSize) {
+            graceCache.put(subject, new IssuedToken(token, System.currentTimeMillis() + graceMillis));
+        }
+    }
+
+    private record IssuedToken(String token, long expiredAt) {
+
+        boolean isExpired() {
+            return expiredAt < System.currentTimeMillis();
+        }
+    }
+}
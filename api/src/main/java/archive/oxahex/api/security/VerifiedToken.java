@@ -0,0 +1,30 @@
+package archive.oxahex.api.security;
+
+import archive.oxahex.domain.type.RoleType;
+
+/**
+ * 서명 검증을 마친 JWT Token 정보
+ * <ol>
+ *     <li>Token 한 번 파싱으로 subject(email), id, role, 만료 시간을 모두 담음</li>
+ *     <li>만료 여부는 조회 시점 기준으로 판단</li>
+ * </ol>
+ * @param tokenId Token ID(jti, 이전 발급 Token인 경우 null)
+ * @param subject 유저 Email(username)
+ * @param deviceId 기기 ID(이전 발급 Token인 경우 기본 기기)
+ * @param userId 유저 ID
+ * @param role 권한(이전 발급 Token인 경우 null)
+ * @param expiredAt 만료 시간(epoch millis)
+ */
+public record VerifiedToken(
+        String tokenId,
+        String subject,
+        String deviceId,
+        Long userId,
+        RoleType role,
+        long expiredAt
+) {
+
+    public boolean isExpired() {
+        return expiredAt < System.currentTimeMillis();
+    }
+}
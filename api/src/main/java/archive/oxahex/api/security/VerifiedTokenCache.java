@@ -0,0 +1,84 @@
+package archive.oxahex.api.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 검증한 JWT Token 캐시
+ * <ol>
+ *     <li>같은 Token으로 반복 요청하는 경우 서명 검증(HMAC), 파싱을 생략</li>
+ *     <li>Token 원문 대신 SHA-256 digest를 key로 사용</li>
+ *     <li>최대 크기를 넘는 경우 가장 오래 사용되지 않은 항목부터 제거(LRU)</li>
+ *     <li>만료된 Token은 조회 시점에 제거</li>
+ * </ol>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            @Value("${auth.token-cache.max-size:10000}") int maxSize
+    ) {
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return 캐시에 없거나 만료된 Token인 경우 null
+     */
+    public VerifiedToken get(String token) {
+        String digest = digest(token);
+
+        synchronized (this) {
+            VerifiedToken verifiedToken = cache.get(digest);
+            if (verifiedToken == null) return null;
+
+            if (verifiedToken.isExpired()) {
+                cache.remove(digest);
+                return null;
+            }
+
+            return verifiedToken;
+        }
+    }
+
+    /**
+     * 유효 기간 내의 Token만 저장
+     */
+    public void put(String token, VerifiedToken verifiedToken) {
+        if (verifiedToken.isExpired()) return;
+
+        String digest = digest(token);
+        synchronized (this) {
+            cache.put(digest, verifiedToken);
+        }
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
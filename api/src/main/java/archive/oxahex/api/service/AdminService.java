@@ -1,7 +1,10 @@
 package archive.oxahex.api.service;
 
+import archive.oxahex.api.cache.StoreResponseCache;
+import archive.oxahex.api.dto.SortType;
 import archive.oxahex.api.exception.CustomException;
 import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.ranking.StoreRanking;
 import archive.oxahex.domain.entity.Review;
 import archive.oxahex.domain.entity.User;
 import archive.oxahex.domain.repository.ReviewRepository;
@@ -17,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminService {
 
     private final ReviewRepository reviewRepository;
+    private final StoreResponseCache storeResponseCache;
+    private final StoreRanking storeRanking;
 
     /**
      * 관리자 리뷰 삭제 기능(따로 검증하지 않음)
@@ -30,9 +35,14 @@ public class AdminService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new CustomException(ErrorType.REVIEW_NOT_FOUND));
 
-        review.getStore().decreaseReviewCount();
+        review.getStore().decreaseReviewCount(review.getRating());
         reviewRepository.delete(review);
 
+        // 리뷰 수, 별점 합계가 바뀌므로 순위 반영, 순위 정렬 목록, 매장 상세 무효화
+        storeRanking.update(review.getStore());
+        storeResponseCache.invalidateList(SortType.REVIEW_COUNT, SortType.RATING);
+        storeResponseCache.invalidateStore(review.getStore().getId());
+
         return review;
     }
 }
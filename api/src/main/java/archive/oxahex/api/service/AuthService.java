@@ -5,6 +5,7 @@ import archive.oxahex.api.exception.ErrorType;
 import archive.oxahex.api.exception.CustomException;
 
 import archive.oxahex.api.security.AuthUser;
+import archive.oxahex.api.security.PrincipalCache;
 import archive.oxahex.domain.entity.Partners;
 import archive.oxahex.domain.entity.User;
 import archive.oxahex.domain.repository.PartnersRepository;
@@ -13,9 +14,9 @@ import archive.oxahex.domain.type.RoleType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,11 +27,12 @@ import java.time.LocalDateTime;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class AuthService implements UserDetailsService {
+public class AuthService implements UserDetailsService, UserDetailsPasswordService {
 
-    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final PartnersRepository partnersRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(
@@ -44,6 +46,60 @@ public class AuthService implements UserDetailsService {
         return new AuthUser(user);
     }
 
+    /**
+     * 비밀번호 재해시 저장
+     * <p>로그인 성공 시 저장된 해시의 cost가 설정값과 다른 경우 호출됩니다.
+     * @param userDetails 로그인 유저
+     * @param newPassword 새 cost로 다시 해시한 비밀번호
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+
+        log.info("AuthService.updatePassword={}", userDetails.getUsername());
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new CustomException(ErrorType.USER_NOT_FOUND));
+
+        user.setPassword(newPassword);
+        principalCache.evict(user.getEmail());
+
+        return new AuthUser(user);
+    }
+
+    /**
+     * JWT Claim으로 인증 유저 생성
+     * <ol>
+     *     <li>요청마다 DB에서 유저를 조회하지 않고 검증된 Claim(id, email, role)만 사용합니다.</li>
+     *     <li>User Entity가 필요한 경우에만 캐시를 통해 조회합니다.</li>
+     *     <li>권한 정보가 없는 Token(이전 발급 Token)인 경우 캐시된 유저 정보로 생성합니다.</li>
+     * </ol>
+     */
+    public AuthUser loadUserByClaims(Long id, String email, RoleType role) {
+
+        if (id == null || role == null) {
+            return new AuthUser(getCachedUser(email));
+        }
+
+        return new AuthUser(id, email, role, () -> getCachedUser(email));
+    }
+
+    /**
+     * 캐시된 유저 조회
+     * <p>캐시에 없는 경우 DB에서 조회 후 캐시에 저장
+     * @param email 유저 Email(username)
+     */
+    public User getCachedUser(String email) {
+
+        User user = principalCache.get(email);
+        if (user != null) return user;
+
+        user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorType.USER_NOT_FOUND));
+        principalCache.put(user);
+
+        return user;
+    }
+
     /**
      * 유저 생성
      * <ol>
@@ -79,10 +135,11 @@ public class AuthService implements UserDetailsService {
      * <ol>
      *     <li>ROLE_USER의 경우 파트너스로 등록 가능합니다.</li>
      *     <li>파트너스 이름은 중복될 수 없습니다.</li>
+     *     <li>인증 유저 객체(캐시에서 만든 객체일 수 있음)가 아닌 DB에서 새로 조회한 유저의 권한을 변경합니다.</li>
      * </ol>
      * @param user 로그인 유저 객체
      * @param partnersName 파트너스 이름
-     * @return 생성된 파트너스 객체
+     * @return 생성된 파트너스 객체(getUser()는 권한이 ROLE_PARTNERS로 변경된 유저)
      */
     @Transactional
     public Partners createPartners(User user, String partnersName) {
@@ -94,12 +151,15 @@ public class AuthService implements UserDetailsService {
         }
 
         // 유저 권한 업데이트
-        user.setRole(RoleType.ROLE_PARTNERS);
-        userRepository.save(user);
+        User managedUser = userRepository.findByEmail(user.getEmail())
+                .orElseThrow(() -> new CustomException(ErrorType.USER_NOT_FOUND));
+        managedUser.setRole(RoleType.ROLE_PARTNERS);
+        userRepository.save(managedUser);
+        principalCache.evict(managedUser.getEmail());
 
         Partners partners = Partners.builder()
                 .name(partnersName).build();
-        partners.setUser(user);
+        partners.setUser(managedUser);
 
         // 파트너스 등록
         return partnersRepository.save(partners);
@@ -0,0 +1,81 @@
+package archive.oxahex.api.service;
+
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 매장 테이블 수 변경(예약 승인, 취소) 트랜잭션 실행
+ * <ol>
+ *     <li>시도마다 새 트랜잭션으로 실행</li>
+ *     <li>Lock 획득 실패, Deadlock 등 동시성 충돌 시 최대 횟수까지 재시도</li>
+ *     <li>재시도 간격은 시도마다 두 배로 늘리고 그 안에서 무작위로 선택(jitter), 동시에 재시도해 다시 충돌하지 않도록 함</li>
+ *     <li>매장 별 충돌, 재시도 횟수를 metric으로 기록</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+public class CapacityUpdateExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public CapacityUpdateExecutor(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.capacity.max-attempts:5}") int maxAttempts,
+            @Value("${reservation.capacity.backoff-millis:10}") long backoffMillis
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * @param storeId metric 구분용 매장 ID
+     * @param action 트랜잭션 안에서 실행할 로직
+     * @throws CustomException 재시도 횟수를 모두 사용한 경우 CAPACITY_UPDATE_CONFLICT
+     */
+    public <T> T execute(Long storeId, Supplier<T> action) {
+        String store = String.valueOf(storeId);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (ConcurrencyFailureException e) {
+                meterRegistry.counter("reservation.capacity.conflicts", "store", store).increment();
+                log.warn("[CapacityUpdateExecutor] 동시성 충돌 store={}, attempt={}, message={}",
+                        storeId, attempt, e.getMessage());
+
+                if (attempt >= maxAttempts) {
+                    throw new CustomException(ErrorType.CAPACITY_UPDATE_CONFLICT);
+                }
+
+                meterRegistry.counter("reservation.capacity.retries", "store", store).increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long bound = backoffMillis << (attempt - 1);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorType.CAPACITY_UPDATE_CONFLICT);
+        }
+    }
+}
@@ -57,7 +57,8 @@ public class KioskService {
      * <ol>
      *     <li>예약 시간보다 늦게 확인하는 경우 매장 이용 불가</li>
      *     <li>각 매장의 키오스크는 해당 매장의 ID 정보를 가지고 있는 것으로 정의(API에 매장 ID를 함께 요청)</li>
-     *     <li>매장 이용 확인 시 매장 테이블 수 원복</li>
+     *     <li>이용 확인된 예약은 방문 시간대 테이블을 계속 차지, 테이블 수를 원복하지 않음</li>
+     *     <li>승인 상태인 경우에만 조건부 UPDATE로 변경, 노쇼 처리 등 다른 상태 변경과 겹쳐도 한 쪽만 반영</li>
      * </ol>
      */
     @Transactional
@@ -79,12 +80,15 @@ public class KioskService {
             throw new CustomException(ErrorType.TOO_LATE_TO_USE);
         }
 
-        // 유효 시간 내에 도착한 경우
-        // 테이블 수 원복
-        reservation.getStore().addTableCount(reservation.getUseTableCount());
-        // 예약 상태 변경
-        reservation.setStatus(ReservationStatus.CONFIRMED);
+        // 유효 시간 내에 도착한 경우 예약 상태 변경
+        int updated = reservationRepository.updateStatusIfMatches(
+                reservationId, ReservationStatus.ALLOWED, ReservationStatus.CONFIRMED, now
+        );
+        if (updated != 1) {
+            throw new CustomException(ErrorType.INVALID_RESERVATION);
+        }
 
-        return reservation;
+        return reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new CustomException(ErrorType.RESERVATION_NOT_FOUND));
     }
 }
@@ -1,26 +1,33 @@
 package archive.oxahex.api.service;
 
+import archive.oxahex.api.capacity.SlotCapacityStore;
+import archive.oxahex.api.dto.CursorPage;
+import archive.oxahex.api.dto.ReservationCursor;
 import archive.oxahex.api.dto.ReservationDto;
 import archive.oxahex.api.dto.ReservationSearchType;
 import archive.oxahex.api.dto.request.ReservationRequest;
 import archive.oxahex.api.exception.CustomException;
 import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.scheduler.PendingExpiryQueue;
 import archive.oxahex.domain.entity.Partners;
 import archive.oxahex.domain.entity.Reservation;
 import archive.oxahex.domain.entity.Store;
 import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.projection.ReservationSummary;
 import archive.oxahex.domain.repository.ReservationRepository;
 import archive.oxahex.domain.repository.StoreRepository;
 import archive.oxahex.domain.repository.UserRepository;
 import archive.oxahex.domain.type.ReservationStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,15 +35,21 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ReservationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
     private final ReservationRepository reservationRepository;
+    private final SlotCapacityStore slotCapacityStore;
+    private final CapacityUpdateExecutor capacityUpdateExecutor;
+    private final PendingExpiryQueue pendingExpiryQueue;
 
     /**
      * 상점 예약 요청
      * <ol>
-     *     <li>상점 ID로 등록된 상점을 찾아 남아 있는 자리를 확인</li>
+     *     <li>상점 ID로 등록된 상점을 찾아 방문 시간대에 남아 있는 자리를 확인</li>
      *     <li>프론트단에서 처리하더라도, 값 변경 가능하므로 다시 확인</li>
+     *     <li>매장 설정 시간 동안 승인/거절하지 않으면 자동 거절되도록 등록</li>
      * </ol>
      */
     @Transactional
@@ -48,8 +61,70 @@ public class ReservationService {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorType.STORE_NOT_FOUND));
 
+        Reservation reservation = reservationRepository.save(createReservation(user, store, request));
+        pendingExpiryQueue.schedule(List.of(reservation));
+
+        return reservation;
+    }
+
+    /**
+     * 같은 매장 예약 요청 일괄 처리(비동기 접수)
+     * <ol>
+     *     <li>한 트랜잭션에서 처리, 매장은 한 번만 조회</li>
+     *     <li>요청 별로 남은 자리 확인, 실패한 요청을 제외한 나머지는 한 번에 저장</li>
+     * </ol>
+     * @return 요청 순서대로 처리 결과
+     */
+    @Transactional
+    public List<ReservationDto.BatchResult> requestReservations(
+            Long storeId, List<ReservationIntake> intakes
+    ) {
+        Store store = storeRepository.findById(storeId).orElse(null);
+
+        List<Reservation> reservations = new ArrayList<>(intakes.size());
+        List<String> errorMessages = new ArrayList<>(intakes.size());
+        for (ReservationIntake intake : intakes) {
+            try {
+                if (store == null) {
+                    throw new CustomException(ErrorType.STORE_NOT_FOUND);
+                }
+                reservations.add(createReservation(intake.user(), store, intake.request()));
+                errorMessages.add(null);
+            } catch (CustomException e) {
+                reservations.add(null);
+                errorMessages.add(e.getErrorMessage());
+            }
+        }
+
+        List<Reservation> saved = reservationRepository.saveAll(reservations.stream().filter(Objects::nonNull).toList());
+        pendingExpiryQueue.schedule(saved);
+
+        List<ReservationDto.BatchResult> results = new ArrayList<>(intakes.size());
+        for (int i = 0; i < intakes.size(); i++) {
+            results.add(reservations.get(i) != null
+                    ? ReservationDto.fromEntityToBatchResult(reservations.get(i))
+                    : ReservationDto.fromErrorToBatchResult(null, errorMessages.get(i)));
+        }
+
+        return results;
+    }
+
+    /**
+     * 비동기 접수된 예약 요청
+     */
+    public record ReservationIntake(User user, ReservationRequest request) {
+    }
+
+    /**
+     * 방문 시간대에 남은 자리를 확인하고 PENDING 상태 예약 생성(저장 전)
+     */
+    private Reservation createReservation(User user, Store store, ReservationRequest request) {
+
+        // 방문 시간대에 남은 테이블 수
+        int remainingCount = slotCapacityStore.getRemainingCount(store, request.getVisitedDate());
+
         // 요청한 테이블 수 > 가용 테이블인 경우 예외
-        if (request.getUseTableCount() > store.getTableCount()) {
+        if (request.getUseTableCount() > remainingCount) {
             throw new CustomException(ErrorType.TABLE_SOLD_OUT);
         }
 
@@ -61,33 +136,45 @@ public class ReservationService {
                 .visitDate(request.getVisitedDate())
                 .useTableCount(request.getUseTableCount()).build();
 
-        return reservationRepository.save(reservation);
+        return reservation;
     }
 
-    // TODO: 같은 데이터를 조회하는데 조건이 다양한 경우 어떻게 처리하면 좋을지?
-
     /**
-     * 유저가 진행한 모든 예약 내역 조회
+     * 유저가 진행한 예약 내역 조회
      * <ol>
-     *     <li>유저 정보(user id)와 상태 정보로 예약 정보를 가져옴</li>
-     *     <li>예약 대시/승인/거절 상태별로 조회 가능</li>
-     *     <li>status가 없는 경우 전체 조회 처리</li>
+     *     <li>유저 정보(user id)와 상태 정보로 예약 정보를 가져옴, status가 없는 경우 전체 조회</li>
+     *     <li>매장, 유저를 join해 목록에 필요한 값만 Projection으로 조회, 지연 로딩 없음</li>
+     *     <li>최근 방문 시간 순, 커서(마지막 항목의 방문 시간, 예약 ID) 이전부터 조회, 예약 건수와 관계없이 페이지 크기만큼만 읽음</li>
      * </ol>
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
      */
-    public List<Reservation> getAllReservations(
-            User user, ReservationSearchType searchType
+    public CursorPage<ReservationSummary> getReservations(
+            User user, ReservationSearchType searchType, String cursor, int size
     ) {
 
-        List<Reservation> reservations;
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ReservationCursor before = ReservationCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest pageable = PageRequest.of(0, pageSize + 1);
+
+        List<ReservationSummary> reservations;
         if (searchType == ReservationSearchType.ALL) {
-            reservations = reservationRepository.findAllByUser(user);
+            reservations = before == null
+                    ? reservationRepository.findSummariesByUser(user.getId(), pageable)
+                    : reservationRepository.findSummariesByUserBefore(
+                            user.getId(), before.visitDate(), before.id(), pageable);
         } else {
             ReservationStatus status = ReservationStatus.valueToEnum(searchType.getCondition())
                     .orElseThrow(() -> new CustomException(ErrorType.INVALID_SEARCH_CONDITION));
-            reservations = reservationRepository.findAllByUserAndStatus(user, status);
+            reservations = before == null
+                    ? reservationRepository.findSummariesByUserAndStatus(user.getId(), status, pageable)
+                    : reservationRepository.findSummariesByUserAndStatusBefore(
+                            user.getId(), status, before.visitDate(), before.id(), pageable);
         }
 
-        return reservations;
+        return CursorPage.of(reservations, pageSize,
+                last -> new ReservationCursor(last.visitDate(), last.id()).encode());
     }
 
     /**
@@ -101,72 +188,221 @@ public class ReservationService {
 
     /**
      * 예약 대기 상태 목록 조회(파트너스)
-     * <p>등록한 파트너스로 매장 목록 반환 -> 전체 매장의 대기중 예약 목록 조회</p>
+     * <ol>
+     *     <li>파트너스의 모든 매장 대기 예약을 한 번의 쿼리로 조회(매장, 유저 join), Projection으로 반환</li>
+     *     <li>방문 시간, 예약 ID 순으로 정렬, 커서(마지막 항목의 방문 시간, 예약 ID) 다음부터 조회</li>
+     * </ol>
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
      */
-    public List<Reservation> getAllPendingReservations(Partners partners) {
-
-        // 파트너스로 등록된 모든 매장의 아이디를 가져옴
-        List<Store> stores = partners.getStores();
-        log.info("partners stores={}", stores);
-        List<Reservation> reservations = new ArrayList<>();
-        for (Store store : stores) {
-
-            // PENDING 예약건 모두 조회
-            reservations.addAll(
-                    reservationRepository.findAllByStoreAndStatus(
-                            store, ReservationStatus.PENDING
-                    )
-            );
-        }
+    public CursorPage<ReservationSummary> getPendingReservations(Partners partners, String cursor, int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ReservationCursor after = ReservationCursor.decode(cursor);
 
-        return reservations;
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest pageable = PageRequest.of(0, pageSize + 1);
+        List<ReservationSummary> reservations = after == null
+                ? reservationRepository.findSummariesByPartners(
+                        partners.getId(), ReservationStatus.PENDING, pageable)
+                : reservationRepository.findSummariesByPartnersAfter(
+                        partners.getId(), ReservationStatus.PENDING, after.visitDate(), after.id(), pageable);
+
+        return CursorPage.of(reservations, pageSize,
+                last -> new ReservationCursor(last.visitDate(), last.id()).encode());
     }
 
     /**
      * 예약 거절 또는 승인
      * 해당 예약 건과, 변경해야 하는 타입을 받아 예약 상태 변경 처리
+     * <ol>
+     *     <li>대기 중인 예약만 승인, 거절 가능, 상태 확인과 변경은 조건부 UPDATE 한 번으로 처리</li>
+     *     <li>상태가 실제로 변경된 경우에만 테이블 차감, 같은 예약을 동시에 승인해도 한 번만 차감</li>
+     *     <li>동시성 충돌 시 새 트랜잭션으로 재시도(CapacityUpdateExecutor)</li>
+     * </ol>
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Reservation changeReservationStatus(
             ReservationStatus status,
             Long reservationId
     ) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new CustomException(ErrorType.RESERVATION_NOT_FOUND));
+        Long storeId = getReservation(reservationId).getStore().getId();
+        return capacityUpdateExecutor.execute(
+                storeId, () -> applyReservationStatus(status, reservationId)
+        );
+    }
+
+    private Reservation applyReservationStatus(
+            ReservationStatus status,
+            Long reservationId
+    ) {
+        Reservation reservation = getReservation(reservationId);
 
-        // 예약 상태 변경
-        reservation.setStatus(status);
+        // 대기 중인 예약인 경우에만 예약 상태 변경
+        int updated = reservationRepository.updateStatusIfMatches(
+                reservationId, ReservationStatus.PENDING, status, LocalDateTime.now()
+        );
+        if (updated != 1) {
+            throw new CustomException(ErrorType.INVALID_RESERVATION);
+        }
 
-        // 예약 승인인 경우 해당 매장 좌석 감소
-        if (status == ReservationStatus.ALLOWED){
-            reservation.getStore().removeTableCount(reservation.getUseTableCount());
+        // 예약 승인인 경우 해당 매장, 방문 시간대 좌석 감소, 부족하면 Rollback 되어 상태 변경도 취소
+        if (status == ReservationStatus.ALLOWED) {
+            boolean reserved = slotCapacityStore.tryReserve(
+                    reservation.getStore(), reservation.getVisitDate(), reservation.getUseTableCount()
+            );
+            if (!reserved) {
+                throw new CustomException(ErrorType.TABLE_SOLD_OUT);
+            }
         }
 
-        return reservation;
+        // 변경된 상태로 다시 조회
+        return getReservation(reservationId);
+    }
+
+
+    /**
+     * 예약 일괄 승인 또는 거절(파트너스)
+     * <ol>
+     *     <li>요청한 예약 건을 매장과 함께 한 번만 조회해 매장 별로 나누고, 매장 별 처리에 그대로 넘김</li>
+     *     <li>예약 상태는 매장 별 트랜잭션 안의 조건부 UPDATE로 판단, 먼저 조회한 상태로 승인하지 않음</li>
+     *     <li>매장마다 한 트랜잭션에서 처리, 한 매장의 충돌이 다른 매장 처리에 영향을 주지 않음</li>
+     *     <li>변경된 예약 상태는 Commit 시 JDBC batch로 묶어 반영(hibernate.jdbc.batch_size)</li>
+     *     <li>일부 예약 건이 실패해도 나머지는 처리, 예약 건 별 결과를 요청 순서대로 반환</li>
+     * </ol>
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ReservationDto.BatchResult> changeReservationStatuses(
+            Partners partners,
+            ReservationStatus status,
+            List<Long> reservationIds
+    ) {
+        if (status != ReservationStatus.ALLOWED && status != ReservationStatus.REJECTED) {
+            throw new CustomException(ErrorType.INVALID_STATUS_CHANGE);
+        }
+
+        List<Long> ids = reservationIds.stream().distinct().toList();
+
+        // 매장 ID 순으로 처리, 매장 간 Lock 획득 순서를 고정
+        Map<Long, List<Reservation>> reservationsByStore = reservationRepository.findAllWithStoreByIdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        reservation -> reservation.getStore().getId(),
+                        TreeMap::new,
+                        Collectors.toList()
+                ));
+
+        Map<Long, ReservationDto.BatchResult> results = new HashMap<>();
+        reservationsByStore.forEach((storeId, storeReservations) -> {
+            try {
+                capacityUpdateExecutor.execute(
+                        storeId, () -> applyReservationStatuses(partners, status, storeReservations)
+                ).forEach(result -> results.put(result.getReservationId(), result));
+            } catch (CustomException e) {
+                storeReservations.forEach(reservation -> results.put(
+                        reservation.getId(),
+                        ReservationDto.fromErrorToBatchResult(reservation.getId(), e.getErrorMessage())
+                ));
+            }
+        });
+
+        return ids.stream()
+                .map(id -> results.getOrDefault(id, ReservationDto.fromErrorToBatchResult(
+                        id, ErrorType.RESERVATION_NOT_FOUND.getErrorMessage()
+                )))
+                .toList();
     }
 
+    /**
+     * 한 매장의 예약 건 상태 변경
+     * <ol>
+     *     <li>방문 시간 순으로 처리, 앞 시간대 예약부터 테이블 배정</li>
+     *     <li>대기 중인 예약만 조건부 UPDATE로 변경, 실제로 변경된 예약만 테이블 차감</li>
+     *     <li>테이블이 부족한 경우 해당 예약만 대기 상태로 되돌림</li>
+     * </ol>
+     */
+    private List<ReservationDto.BatchResult> applyReservationStatuses(
+            Partners partners,
+            ReservationStatus status,
+            List<Reservation> storeReservations
+    ) {
+        List<Reservation> reservations = new ArrayList<>(storeReservations);
+        reservations.sort(Comparator.comparing(Reservation::getVisitDate).thenComparing(Reservation::getId));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ReservationDto.BatchResult> results = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            ErrorType error = null;
+
+            // 해당 매장 소유주가 아닌 경우
+            if (!Objects.equals(reservation.getStore().getPartners().getId(), partners.getId())) {
+                error = ErrorType.STORE_ACCESS_DENIED;
+            // 대기 중인 예약만 승인, 거절 가능
+            } else if (reservationRepository.updateStatusIfMatches(
+                    reservation.getId(), ReservationStatus.PENDING, status, now
+            ) != 1) {
+                error = ErrorType.INVALID_RESERVATION;
+            } else if (status == ReservationStatus.ALLOWED && !slotCapacityStore.tryReserve(
+                    reservation.getStore(), reservation.getVisitDate(), reservation.getUseTableCount()
+            )) {
+                reservationRepository.updateStatusIfMatches(
+                        reservation.getId(), status, ReservationStatus.PENDING, now
+                );
+                error = ErrorType.TABLE_SOLD_OUT;
+            }
+
+            if (error != null) {
+                results.add(ReservationDto.fromErrorToBatchResult(reservation.getId(), error.getErrorMessage()));
+                continue;
+            }
+
+            // 조건부 UPDATE로 이미 반영, 영속성 컨텍스트에서 분리된 Entity에 결과만 표시
+            reservation.setStatus(status);
+            results.add(ReservationDto.fromEntityToBatchResult(reservation));
+        }
+
+        return results;
+    }
 
     /**
      * 예약 취소 기능
-     * 예약 일자로부터 8시간 이전의 예약만 취소 가능
-     * 예약 취소 시 매장 테이블 수 원복 처리
+     * 예약 일자로부터 8시간 이전의 대기, 승인된 예약만 취소 가능
+     * 승인된 예약 취소 시 방문 시간대 테이블 수 원복 처리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Reservation cancelReservation(Long reservationId) {
 
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new CustomException(ErrorType.RESERVATION_NOT_FOUND));
+        Reservation reservation = getReservation(reservationId);
 
-        // 8시간 조건 확인
+        // 8시간 조건 확인, 방문 일자는 바뀌지 않으므로 트랜잭션 시작 전에 확인
         LocalDateTime cancellableTime = reservation.getVisitDate().minusHours(8);
-        if (cancellableTime.isAfter(LocalDateTime.now())) {
-
-            reservation.setStatus(ReservationStatus.CANCELLED);
-            reservation.getStore().addTableCount(reservation.getUseTableCount());
-        } else {
+        if (!cancellableTime.isAfter(LocalDateTime.now())) {
             throw new CustomException(ErrorType.CANCELLABLE_TIME_OUT);
         }
 
-        return reservation;
+        return capacityUpdateExecutor.execute(
+                reservation.getStore().getId(), () -> applyCancellation(reservationId)
+        );
+    }
+
+    private Reservation applyCancellation(Long reservationId) {
+
+        Reservation reservation = getReservation(reservationId);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 승인된 예약만 테이블을 차감했으므로 승인 -> 취소로 변경한 요청만 원복, 동시에 취소해도 한 번만 원복
+        if (reservationRepository.updateStatusIfMatches(
+                reservationId, ReservationStatus.ALLOWED, ReservationStatus.CANCELLED, now
+        ) == 1) {
+            slotCapacityStore.release(
+                    reservation.getStore(), reservation.getVisitDate(), reservation.getUseTableCount()
+            );
+        // 대기 중인 예약은 원복 없이 취소, 그 외 상태(이미 취소, 거절, 이용 확인 등)는 취소 불가
+        } else if (reservationRepository.updateStatusIfMatches(
+                reservationId, ReservationStatus.PENDING, ReservationStatus.CANCELLED, now
+        ) != 1) {
+            throw new CustomException(ErrorType.INVALID_RESERVATION);
+        }
+
+        // 변경된 상태로 다시 조회
+        return getReservation(reservationId);
     }
 }
@@ -1,8 +1,11 @@
 package archive.oxahex.api.service;
 
+import archive.oxahex.api.cache.StoreResponseCache;
+import archive.oxahex.api.dto.SortType;
 import archive.oxahex.api.dto.request.ReviewModifyRequest;
 import archive.oxahex.api.exception.CustomException;
 import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.ranking.StoreRanking;
 import archive.oxahex.domain.entity.Reservation;
 import archive.oxahex.domain.entity.Review;
 import archive.oxahex.domain.entity.Store;
@@ -28,6 +31,8 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
+    private final StoreResponseCache storeResponseCache;
+    private final StoreRanking storeRanking;
 
     /**
      * 리뷰 작성
@@ -57,6 +62,11 @@ public class ReviewService {
 
         reviewRepository.save(review);
 
+        // 리뷰 수, 별점 합계가 바뀌므로 순위 반영, 순위 정렬 목록, 매장 상세 무효화
+        storeRanking.update(review.getStore());
+        storeResponseCache.invalidateList(SortType.REVIEW_COUNT, SortType.RATING);
+        storeResponseCache.invalidateStore(review.getStore().getId());
+
         return review;
     }
 
@@ -73,6 +83,10 @@ public class ReviewService {
 
         review.modifyReview(request.getRating(), request.getContent());
 
+        // 별점 합계가 바뀌므로 평균 별점 순위 반영
+        storeRanking.update(review.getStore());
+        storeResponseCache.invalidateList(SortType.RATING);
+
         return reviewRepository.save(review);
 
     }
@@ -89,9 +103,13 @@ public class ReviewService {
         // 리뷰
         Review review = validateReviewByUser(user, reviewId);
 
-        review.getStore().decreaseReviewCount();
+        review.getStore().decreaseReviewCount(review.getRating());
         reviewRepository.delete(review);
 
+        storeRanking.update(review.getStore());
+        storeResponseCache.invalidateList(SortType.REVIEW_COUNT, SortType.RATING);
+        storeResponseCache.invalidateStore(review.getStore().getId());
+
         return review;
     }
 
@@ -1,33 +1,60 @@
 package archive.oxahex.api.service;
 
+import archive.oxahex.api.cache.StoreResponseCache;
+import archive.oxahex.api.capacity.SlotCapacityStore;
+import archive.oxahex.api.dto.CursorPage;
+import archive.oxahex.api.dto.NearbyCursor;
 import archive.oxahex.api.dto.SortType;
+import archive.oxahex.api.dto.StoreCursor;
+import archive.oxahex.api.dto.StoreDto;
 import archive.oxahex.api.dto.request.StoreModifyRequest;
 import archive.oxahex.api.dto.request.StoreRegisterRequest;
 import archive.oxahex.api.exception.ErrorType;
 import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.geo.GeoEntry;
+import archive.oxahex.api.geo.StoreGeoIndex;
+import archive.oxahex.api.ranking.RankingEntry;
+import archive.oxahex.api.ranking.RankingType;
+import archive.oxahex.api.ranking.StoreRanking;
 import archive.oxahex.domain.entity.Partners;
 import archive.oxahex.domain.entity.Reservation;
 import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.entity.StoreSlotCapacity;
 import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.projection.StoreSummary;
 import archive.oxahex.domain.repository.PartnersRepository;
 import archive.oxahex.domain.repository.ReservationRepository;
 import archive.oxahex.domain.repository.StoreRepository;
 import archive.oxahex.domain.type.ReservationStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StoreService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_AVAILABILITY_DAYS = 31;
+    private static final double MAX_NEARBY_RADIUS_METERS = 20_000;
+
     private final StoreRepository storeRepository;
     private final PartnersRepository partnersRepository;
     private final ReservationRepository reservationRepository;
+    private final SlotCapacityStore slotCapacityStore;
+    private final StoreResponseCache storeResponseCache;
+    private final StoreRanking storeRanking;
+    private final StoreGeoIndex storeGeoIndex;
 
     /**
      * 새로운 매장 등록
@@ -50,32 +77,137 @@ public class StoreService {
             throw new CustomException(ErrorType.ALREADY_EXIST_STORE);
         }
 
+        validateLocation(request.getLatitude(), request.getLongitude());
+
         Store store = Store.builder()
                 .name(request.getName())
                 .address(request.getAddress())
                 .description(request.getDescription())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .businessNumber(request.getBusinessNumber())
                 .tableCount(request.getTableCount())
+                .pendingTtlMinutes(request.getPendingTtlMinutes())
                 .partners(partners)
                 .registeredDate(LocalDateTime.now())
                 .build();
 
         // 스토어
-        return storeRepository.save(store);
+        Store savedStore = storeRepository.save(store);
+        storeRanking.update(savedStore);
+        storeGeoIndex.update(savedStore);
+        storeResponseCache.invalidateList(SortType.values());
+
+        return savedStore;
+    }
+
+    /**
+     * sortType 별로 등록된 상점 목록을 커서 기반 페이지로 반환
+     * <ol>
+     *     <li>ASC: 등록일, 매장 ID 순으로 DB에서 조회</li>
+     *     <li>REVIEW_COUNT, RATING: 매장 순위(StoreRanking)에서 기준 값 내림차순으로 매장 ID를 가져와 ID로만 조회(DB 정렬 없음)</li>
+     *     <li>커서(마지막 항목의 정렬 기준 값, 매장 ID) 다음부터 페이지 크기 + 1 건만 조회, 전체 매장 수와 관계없이 일정</li>
+     *     <li>목록에 필요한 값만 Projection으로 조회</li>
+     * </ol>
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     */
+    public CursorPage<StoreSummary> getStores(SortType sortType, String cursor, int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        StoreCursor after = StoreCursor.decode(cursor, sortType);
+
+        try {
+            return switch (sortType) {
+                case ASC -> getStoresOrderByRegisteredDate(after, pageSize);
+                case REVIEW_COUNT -> getRankedStores(sortType, RankingType.REVIEW_COUNT, after, pageSize);
+                case RATING -> getRankedStores(sortType, RankingType.RATING, after, pageSize);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new CustomException(ErrorType.INVALID_CURSOR);
+        }
+    }
+
+    private CursorPage<StoreSummary> getStoresOrderByRegisteredDate(StoreCursor after, int pageSize) {
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest pageable = PageRequest.of(0, pageSize + 1);
+
+        List<StoreSummary> stores = after == null
+                ? storeRepository.findSummariesOrderByRegisteredDate(pageable)
+                : storeRepository.findSummariesOrderByRegisteredDateAfter(
+                        LocalDateTime.parse(after.sortKey()), after.id(), pageable);
+
+        return CursorPage.of(stores, pageSize, last -> StoreCursor.of(last).encode());
+    }
+
+    private CursorPage<StoreSummary> getRankedStores(
+            SortType sortType, RankingType rankingType, StoreCursor after, int pageSize
+    ) {
+
+        RankingEntry afterEntry = after == null
+                ? null
+                : new RankingEntry(after.id(), Double.parseDouble(after.sortKey()));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        CursorPage<RankingEntry> ranking = CursorPage.of(
+                storeRanking.getRanking(rankingType, afterEntry, pageSize + 1),
+                pageSize,
+                last -> StoreCursor.of(sortType, last).encode()
+        );
+        if (ranking.getItems().isEmpty()) {
+            return CursorPage.of(List.of(), pageSize, null);
+        }
+
+        Map<Long, StoreSummary> stores = storeRepository.findSummariesByIdIn(
+                ranking.getItems().stream().map(RankingEntry::storeId).toList()
+        ).stream().collect(Collectors.toMap(StoreSummary::id, Function.identity()));
+
+        // 순위 순서대로, 순위 반영 전 삭제된 매장은 제외
+        return ranking.mapNonNull(entry -> stores.get(entry.storeId()));
     }
 
     /**
-     * sortType 별로 등록된 모든 상점 리스트를 반환
+     * 검색 위치 주변 매장을 가까운 순으로 커서 기반 페이지로 반환
+     * <ol>
+     *     <li>주변 매장 검색 색인(StoreGeoIndex)에서 반경 안의 매장을 거리, 매장 ID 순으로 페이지 크기 + 1 건만 가져옴</li>
+     *     <li>가져온 매장 ID로만 조회(DB 정렬, 거리 계산 없음), 색인 반영 전 삭제된 매장은 제외</li>
+     *     <li>커서(마지막 항목의 거리, 매장 ID)로 다음 페이지 조회, 같은 검색 위치로 요청해야 함</li>
+     * </ol>
+     * @param radiusMeters 검색 반경(m), 최대 20km
+     * @throws CustomException 위치, 반경이 범위를 벗어난 경우 INVALID_LOCATION
      */
-    public List<Store> getAllStore(SortType sortType) {
+    public CursorPage<StoreDto.NearbyInfo> getNearbyStores(
+            double latitude, double longitude, double radiusMeters, String cursor, int size
+    ) {
 
-        List<Store> stores = null;
-        switch (sortType) {
-            case ASC -> stores = storeRepository.findAllByOrderByRegisteredDateAsc();
-            case REVIEW_COUNT -> stores = storeRepository.findAllByOrderByReviewCountAsc();
+        if (!Double.isFinite(latitude) || !Double.isFinite(longitude)
+                || latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180
+                || !(radiusMeters > 0 && radiusMeters <= MAX_NEARBY_RADIUS_METERS)) {
+            throw new CustomException(ErrorType.INVALID_LOCATION);
         }
 
-        return stores;
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        NearbyCursor after = NearbyCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        CursorPage<GeoEntry> nearby = CursorPage.of(
+                storeGeoIndex.search(latitude, longitude, radiusMeters,
+                        after == null ? null : after.toEntry(), pageSize + 1),
+                pageSize,
+                last -> NearbyCursor.of(last).encode()
+        );
+        if (nearby.getItems().isEmpty()) {
+            return CursorPage.of(List.of(), pageSize, null);
+        }
+
+        Map<Long, StoreSummary> stores = storeRepository.findSummariesByIdIn(
+                nearby.getItems().stream().map(GeoEntry::storeId).toList()
+        ).stream().collect(Collectors.toMap(StoreSummary::id, Function.identity()));
+
+        return nearby.mapNonNull(entry -> {
+            StoreSummary store = stores.get(entry.storeId());
+            return store == null ? null : StoreDto.fromSummaryToNearbyInfo(store, entry.distanceMeters());
+        });
     }
 
     /**
@@ -86,6 +218,32 @@ public class StoreService {
                 .orElseThrow(() -> new CustomException(ErrorType.STORE_NOT_FOUND));
     }
 
+    /**
+     * 매장 시간대 별 남은 테이블 수 조회
+     * <ol>
+     *     <li>시작일부터 주어진 일수(최대 31일) 동안, 현재 시간대 이후만 반환</li>
+     *     <li>남은 테이블 수는 테이블 수 저장소(SlotCapacityStore)에서 날짜 별 배열로 한 번에 읽음</li>
+     *     <li>남은 테이블 수가 minTableCount보다 적은 시간대는 제외</li>
+     * </ol>
+     * @param from 시작일, 없으면 오늘
+     */
+    public StoreDto.Availability getAvailability(Long storeId, LocalDate from, int dayCount, int minTableCount) {
+
+        if (dayCount < 1 || dayCount > MAX_AVAILABILITY_DAYS) {
+            throw new CustomException(ErrorType.INVALID_DATE_RANGE);
+        }
+
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new CustomException(ErrorType.STORE_NOT_FOUND));
+
+        LocalDateTime now = StoreSlotCapacity.toSlotTime(LocalDateTime.now());
+        LocalDate start = from == null || from.isBefore(now.toLocalDate()) ? now.toLocalDate() : from;
+
+        int[][] remainingCounts = slotCapacityStore.getRemainingCounts(store, start, dayCount);
+
+        return StoreDto.fromRemainingCountsToAvailability(store, start, remainingCounts, now, minTableCount);
+    }
+
     /**
      * 매장 정보 수정
      * @param storeId 변경할 매장 ID
@@ -106,15 +264,25 @@ public class StoreService {
             throw new CustomException(ErrorType.STORE_ACCESS_DENIED);
         }
 
+        validateLocation(request.getLatitude(), request.getLongitude());
+
         System.out.println(request.getAddress());
         store.modifyStoreInfo(
                 request.getName(),
                 request.getAddress(),
                 request.getDescription(),
-                request.getTableCount()
+                request.getLatitude(),
+                request.getLongitude(),
+                request.getTableCount(),
+                request.getPendingTtlMinutes()
         );
 
-        return storeRepository.save(store);
+        Store savedStore = storeRepository.save(store);
+        storeGeoIndex.update(savedStore);
+        storeResponseCache.invalidateList(SortType.values());
+        storeResponseCache.invalidateStore(storeId);
+
+        return savedStore;
     }
 
     /**
@@ -147,9 +315,21 @@ public class StoreService {
         }
 
         storeRepository.delete(store);
+        storeRanking.remove(storeId);
+        storeGeoIndex.remove(storeId);
+        storeResponseCache.invalidateList(SortType.values());
+        storeResponseCache.invalidateStore(storeId);
 
         return store;
 
     }
 
-}
\ No newline at end of file
+    /**
+     * 매장 위치는 위도, 경도를 함께 입력하거나 모두 비워야 함
+     */
+    private void validateLocation(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new CustomException(ErrorType.INCOMPLETE_LOCATION);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package archive.oxahex.api.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션 완료 후 실행할 작업 등록
+ * <ol>
+ *     <li>메모리 색인, 캐시 등 DB 밖의 상태는 트랜잭션 결과에 맞춰 변경</li>
+ *     <li>트랜잭션 밖에서 호출한 경우 Commit 후 작업은 바로 실행, Rollback 후 작업은 실행하지 않음</li>
+ * </ol>
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 트랜잭션이 Commit 된 후 실행
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 Rollback 된 후 실행
+     */
+    public static void runAfterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package archive.oxahex.api.cache;
+
+import archive.oxahex.api.controller.StoreController;
+import archive.oxahex.api.dto.SortType;
+import archive.oxahex.api.service.StoreService;
+import archive.oxahex.domain.entity.Partners;
+import archive.oxahex.domain.entity.Store;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class StoreResponseCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private StoreResponseCache createCache(long maxBytes) {
+        return new StoreResponseCache(objectMapper, meterRegistry, true, maxBytes, 300);
+    }
+
+    @Test
+    @DisplayName("같은 페이지는 한 번만 조회, 직렬화하고 같은 ETag를 반환한다.")
+    void getList_hit() {
+        // given
+        StoreResponseCache cache = createCache(1024);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        StoreResponseCache.CachedResponse first = cache.getList(SortType.ASC, null, 20,
+                () -> List.of("store" + loads.incrementAndGet()));
+        StoreResponseCache.CachedResponse second = cache.getList(SortType.ASC, null, 20,
+                () -> List.of("store" + loads.incrementAndGet()));
+
+        // then
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals(1, meterRegistry.counter("store.cache.hits").count());
+        assertEquals(1, meterRegistry.counter("store.cache.misses").count());
+    }
+
+    @Test
+    @DisplayName("정렬 타입 목록을 무효화하면 해당 정렬 타입만 다시 조회하고 ETag가 바뀐다.")
+    void invalidateList() {
+        // given
+        StoreResponseCache cache = createCache(1024);
+        AtomicInteger loads = new AtomicInteger();
+        StoreResponseCache.CachedResponse before = cache.getList(SortType.REVIEW_COUNT, null, 20,
+                () -> List.of("store" + loads.incrementAndGet()));
+        cache.getList(SortType.ASC, null, 20, () -> List.of("store" + loads.incrementAndGet()));
+
+        // when
+        cache.invalidateList(SortType.REVIEW_COUNT);
+        StoreResponseCache.CachedResponse after = cache.getList(SortType.REVIEW_COUNT, null, 20,
+                () -> List.of("store" + loads.incrementAndGet()));
+        cache.getList(SortType.ASC, null, 20, () -> List.of("store" + loads.incrementAndGet()));
+
+        // then
+        assertEquals(3, loads.get());
+        assertNotEquals(before.eTag(), after.eTag());
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화된 매장 상세는 저장하지 않는다.")
+    void getStore_invalidated_while_loading() {
+        // given
+        StoreResponseCache cache = createCache(1024);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.getStore(1L, () -> {
+            cache.invalidateStore(1L);
+            return "stale" + loads.incrementAndGet();
+        });
+        cache.getStore(1L, () -> "fresh" + loads.incrementAndGet());
+        cache.getStore(1L, () -> "fresh" + loads.incrementAndGet());
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("전체 본문 크기가 최대값을 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.")
+    void eviction() {
+        // given
+        StoreResponseCache cache = createCache(30);
+        cache.getStore(1L, () -> "0123456789");     // 12 bytes
+        cache.getStore(2L, () -> "0123456789");
+        cache.getStore(1L, () -> "0123456789");     // 1 사용
+
+        // when
+        cache.getStore(3L, () -> "0123456789");
+
+        // then
+        assertEquals(2, cache.size());
+        assertEquals(24, cache.getTotalBytes());
+        assertEquals(1, meterRegistry.counter("store.cache.evictions").count());
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.getStore(1L, () -> "x" + loads.incrementAndGet());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 ETag와 같으면 본문 없이 304를 반환한다.")
+    void getStore_not_modified() throws Exception {
+        // given
+        StoreService storeService = mock(StoreService.class);
+        Store store = Store.builder()
+                .id(1L)
+                .name("store")
+                .partners(Partners.builder().build())
+                .tableCount(10)
+                .build();
+        given(storeService.getStore(1L)).willReturn(store);
+
+        MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new StoreController(storeService, createCache(1024)))
+                .build();
+
+        String eTag = mockMvc.perform(get("/stores/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("store"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when, then
+        mockMvc.perform(get("/stores/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(storeService, times(1)).getStore(1L);
+    }
+}
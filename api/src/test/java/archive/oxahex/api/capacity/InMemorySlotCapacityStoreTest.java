@@ -0,0 +1,213 @@
+package archive.oxahex.api.capacity;
+
+import archive.oxahex.domain.entity.Partners;
+import archive.oxahex.domain.entity.Reservation;
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.entity.StoreSlotCapacity;
+import archive.oxahex.domain.repository.ReservationRepository;
+import archive.oxahex.domain.repository.StoreSlotCapacityRepository;
+import archive.oxahex.domain.type.ReservationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+class InMemorySlotCapacityStoreTest {
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final StoreSlotCapacityRepository storeSlotCapacityRepository = mock(StoreSlotCapacityRepository.class);
+
+    private final Store store = Store.builder()
+            .id(1L)
+            .partners(Partners.builder().build())
+            .tableCount(10)
+            .build();
+    private final LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+
+    private InMemorySlotCapacityStore createStore() {
+        InMemorySlotCapacityStore slotCapacityStore = new InMemorySlotCapacityStore(
+                reservationRepository, storeSlotCapacityRepository,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry()
+        );
+        slotCapacityStore.rebuild();
+        return slotCapacityStore;
+    }
+
+    @Test
+    @DisplayName("시간대 테이블 수만큼 차감하고 이후 요청은 거절한다, 다른 시간대와는 따로 계산한다.")
+    void tryReserve_capacity() {
+        // given
+        InMemorySlotCapacityStore slotCapacityStore = createStore();
+
+        // when
+        int reserved = 0;
+        for (int i = 0; i < 15; i++) {
+            if (slotCapacityStore.tryReserve(store, visitDate, 1)) reserved++;
+        }
+
+        // then
+        assertEquals(10, reserved);
+        assertEquals(0, slotCapacityStore.getRemainingCount(store, visitDate));
+        assertEquals(10, slotCapacityStore.getRemainingCount(store, visitDate.plusHours(1)));
+        assertTrue(slotCapacityStore.tryReserve(store, visitDate.plusHours(1), 10));
+    }
+
+    @Test
+    @DisplayName("반환한 테이블은 다시 예약할 수 있고, 전체 테이블 수를 넘지 않는다.")
+    void release() {
+        // given
+        InMemorySlotCapacityStore slotCapacityStore = createStore();
+        slotCapacityStore.tryReserve(store, visitDate, 10);
+
+        // when
+        slotCapacityStore.release(store, visitDate, 3);
+        slotCapacityStore.release(store, visitDate, 30);
+
+        // then
+        assertEquals(10, slotCapacityStore.getRemainingCount(store, visitDate));
+    }
+
+    @Test
+    @DisplayName("날짜 범위 조회 시 시간대 별 남은 테이블 수를 반환하고 예약이 없는 날짜는 전체 테이블 수로 계산한다.")
+    void getRemainingCounts() {
+        // given
+        InMemorySlotCapacityStore slotCapacityStore = createStore();
+        LocalDate date = visitDate.toLocalDate();
+        slotCapacityStore.tryReserve(store, date.atTime(12, 30), 4);
+        slotCapacityStore.tryReserve(store, date.atTime(12, 0), 2);
+        slotCapacityStore.tryReserve(store, date.atTime(18, 0), 10);
+        slotCapacityStore.release(store, date.atTime(18, 0), 3);
+
+        // when
+        int[][] remainingCounts = slotCapacityStore.getRemainingCounts(store, date, 2);
+
+        // then
+        assertEquals(4, remainingCounts[0][12]);
+        assertEquals(3, remainingCounts[0][18]);
+        assertEquals(10, remainingCounts[0][13]);
+        assertTrue(Arrays.stream(remainingCounts[1]).allMatch(count -> count == 10));
+    }
+
+    @Test
+    @DisplayName("예약이 없는 날짜의 남은 테이블 수 조회는 메모리에 날짜를 만들지 않는다.")
+    void getRemainingCount_no_reservation() {
+        // given
+        InMemorySlotCapacityStore slotCapacityStore = createStore();
+
+        // when
+        int remainingCount = slotCapacityStore.getRemainingCount(store, visitDate.plusDays(30));
+
+        // then
+        assertEquals(10, remainingCount);
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(slotCapacityStore, "days")).isEmpty());
+    }
+
+
+    @Test
+    @DisplayName("변경된 시간대만 DB에 반영하고, 반영 실패 시 다음 주기에 다시 반영한다.")
+    void flush() {
+        // given
+        InMemorySlotCapacityStore slotCapacityStore = createStore();
+        LocalDateTime slotTime = StoreSlotCapacity.toSlotTime(visitDate);
+        slotCapacityStore.tryReserve(store, visitDate, 2);
+        slotCapacityStore.tryReserve(store, visitDate, 1);
+
+        willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(1)
+                .given(storeSlotCapacityRepository).upsert(anyLong(), any(), anyInt(), anyInt());
+
+        // when
+        slotCapacityStore.flush();
+        int unflushedAfterFailure = slotCapacityStore.getUnflushedCount();
+        slotCapacityStore.flush();
+        slotCapacityStore.flush();
+
+        // then
+        assertEquals(1, unflushedAfterFailure);
+        assertEquals(0, slotCapacityStore.getUnflushedCount());
+        verify(storeSlotCapacityRepository, times(2)).upsert(1L, slotTime, 10, 7);
+    }
+
+    @Test
+    @DisplayName("DB에 반영하기 전에 서버가 종료되어도, 재시작 시 승인된 예약으로 다시 계산해 초과 승인하지 않는다.")
+    void rebuild_after_crash() {
+        // given
+        List<Reservation> allowedReservations = new ArrayList<>();
+        InMemorySlotCapacityStore beforeCrash = createStore();
+        for (int i = 0; i < 7; i++) {
+            if (beforeCrash.tryReserve(store, visitDate, 1)) {
+                allowedReservations.add(Reservation.builder()
+                        .store(store)
+                        .status(ReservationStatus.ALLOWED)
+                        .visitDate(visitDate)
+                        .useTableCount(1)
+                        .build());
+            }
+        }
+        // flush() 호출 없이 종료, DB 시간대 행에는 반영되지 않음
+        verify(storeSlotCapacityRepository, never()).upsert(anyLong(), any(), anyInt(), anyInt());
+
+        given(reservationRepository.findAllOccupyingSince(any()))
+                .willReturn(allowedReservations);
+
+        // when
+        InMemorySlotCapacityStore afterRestart = createStore();
+        int reserved = 0;
+        for (int i = 0; i < 10; i++) {
+            if (afterRestart.tryReserve(store, visitDate, 1)) reserved++;
+        }
+        afterRestart.flush();
+
+        // then
+        assertEquals(3, reserved);
+        assertEquals(0, afterRestart.getRemainingCount(store, visitDate));
+        verify(storeSlotCapacityRepository).upsert(1L, StoreSlotCapacity.toSlotTime(visitDate), 10, 0);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 시간대에 동시에 차감해도 테이블 수를 넘기지 않는다.")
+    void tryReserve_concurrent() throws InterruptedException {
+        // given
+        InMemorySlotCapacityStore slotCapacityStore = createStore();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(8);
+        int[] reserved = new int[8];
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (slotCapacityStore.tryReserve(store, visitDate, 1)) reserved[thread]++;
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        int total = 0;
+        for (int count : reserved) total += count;
+        assertEquals(10, total);
+    }
+}
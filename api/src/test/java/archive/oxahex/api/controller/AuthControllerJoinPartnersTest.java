@@ -0,0 +1,107 @@
+package archive.oxahex.api.controller;
+
+import archive.oxahex.api.dto.request.JoinPartnersRequest;
+import archive.oxahex.api.dto.response.JoinPartnersResponse;
+import archive.oxahex.api.security.AuthUser;
+import archive.oxahex.api.security.RefreshTokenUtil;
+import archive.oxahex.api.security.TokenDenylist;
+import archive.oxahex.api.security.TokenProvider;
+import archive.oxahex.api.security.VerifiedTokenCache;
+import archive.oxahex.api.service.AuthService;
+import archive.oxahex.domain.entity.Partners;
+import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.type.RoleType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 파트너스 등록 시 발급되는 Token 권한 검증
+ * <p>AuthControllerTest는 MockMvc 응답만 확인하므로, 실제 TokenProvider로 발급된 Token을 직접 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthControllerJoinPartnersTest {
+
+    private static final String SECRET =
+            Base64.getEncoder().encodeToString("store-reservation-test-secret-key-0123456789".getBytes());
+
+    @Mock
+    AuthService authService;
+
+    @Mock
+    TokenDenylist tokenDenylist;
+
+    @Mock
+    RefreshTokenUtil refreshTokenUtil;
+
+    TokenProvider tokenProvider;
+    AuthController authController;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new TokenProvider(refreshTokenUtil, new VerifiedTokenCache(100));
+        ReflectionTestUtils.setField(tokenProvider, "key", SECRET);
+        tokenProvider.init();
+
+        authController = new AuthController(authService, tokenProvider, tokenDenylist);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("파트너스 등록 후 발급된 Token과 응답에는 변경된 ROLE_PARTNERS 권한이 담긴다.")
+    void joinPartners_token_role() {
+        // given
+        // 인증 유저 객체는 캐시에서 만든 ROLE_USER 유저
+        User cachedUser = generateUser(RoleType.ROLE_USER);
+        AuthUser authUser = new AuthUser(cachedUser);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities()));
+
+        // DB에서 조회 후 권한이 변경된 유저
+        User managedUser = generateUser(RoleType.ROLE_PARTNERS);
+        Partners partners = Partners.builder().name("파트너스 이름").build();
+        partners.setUser(managedUser);
+        given(authService.createPartners(eq(cachedUser), eq("파트너스 이름"))).willReturn(partners);
+
+        JoinPartnersRequest request = new JoinPartnersRequest();
+        request.setName("파트너스 이름");
+
+        // when
+        ResponseEntity<JoinPartnersResponse> response = authController.joinPartners(request);
+
+        // then
+        JoinPartnersResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals(RoleType.ROLE_PARTNERS, tokenProvider.verify(body.getToken()).role());
+        assertEquals(RoleType.ROLE_PARTNERS, body.getPartners().getUser().getRole());
+        assertEquals(RoleType.ROLE_PARTNERS, authUser.getRole());
+        assertEquals("Bearer " + body.getToken(), response.getHeaders().getFirst("Authorization"));
+    }
+
+    private User generateUser(RoleType role) {
+        return User.builder()
+                .id(1L)
+                .name("user")
+                .email("user@gmail.com")
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package archive.oxahex.api.geo;
+
+import archive.oxahex.domain.entity.Partners;
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.projection.StoreLocation;
+import archive.oxahex.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class StoreGeoIndexTest {
+
+    private final StoreRepository storeRepository = mock(StoreRepository.class);
+
+    private StoreGeoIndex createIndex(List<StoreLocation> locations) {
+        given(storeRepository.findLocations()).willReturn(locations);
+        StoreGeoIndex storeGeoIndex = new StoreGeoIndex(storeRepository, new SimpleMeterRegistry(), 0.01);
+        storeGeoIndex.rebuild();
+        return storeGeoIndex;
+    }
+
+    /**
+     * 서울 주변(위도 37.3 ~ 37.7, 경도 126.8 ~ 127.2) 임의 위치
+     */
+    private List<StoreLocation> randomLocations(int count, Random random) {
+        List<StoreLocation> locations = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            locations.add(new StoreLocation(id, 37.3 + random.nextDouble() * 0.4, 126.8 + random.nextDouble() * 0.4));
+        }
+        return locations;
+    }
+
+    private List<GeoEntry> bruteForce(List<StoreLocation> locations, double latitude, double longitude, double radius) {
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        return locations.stream()
+                .map(location -> new GeoEntry(location.id(), StoreGeoIndex.distanceMeters(
+                        latitude, longitude, cosLatitude, location.latitude(), location.longitude())))
+                .filter(entry -> entry.distanceMeters() <= radius)
+                .sorted(Comparator.comparingDouble(GeoEntry::distanceMeters).thenComparing(GeoEntry::storeId))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("두 지점 사이 거리를 계산한다(서울시청 - 강남역 약 8.8km).")
+    void distanceMeters() {
+        // when
+        double distance = StoreGeoIndex.distanceMeters(
+                37.5663, 126.9779, Math.cos(Math.toRadians(37.5663)), 37.4979, 127.0276);
+
+        // then
+        assertEquals(8_770, distance, 80);
+    }
+
+    @Test
+    @DisplayName("반경 안의 가장 가까운 매장을 전체 비교 결과와 같은 순서로 반환한다.")
+    void search_nearest() {
+        // given
+        Random random = new Random(42);
+        List<StoreLocation> locations = randomLocations(20_000, random);
+        StoreGeoIndex storeGeoIndex = createIndex(locations);
+
+        for (int i = 0; i < 50; i++) {
+            double latitude = 37.3 + random.nextDouble() * 0.4;
+            double longitude = 126.8 + random.nextDouble() * 0.4;
+            double radius = 200 + random.nextDouble() * 5_000;
+
+            // when
+            List<GeoEntry> nearest = storeGeoIndex.search(latitude, longitude, radius, null, 10);
+
+            // then
+            List<GeoEntry> expected = bruteForce(locations, latitude, longitude, radius);
+            assertEquals(expected.subList(0, Math.min(10, expected.size())), nearest);
+        }
+    }
+
+    @Test
+    @DisplayName("이전 페이지 마지막 항목 다음부터 조회하면 반경 안의 모든 매장을 중복 없이 순서대로 반환한다.")
+    void search_paging() {
+        // given
+        List<StoreLocation> locations = randomLocations(5_000, new Random(7));
+        StoreGeoIndex storeGeoIndex = createIndex(locations);
+
+        // when
+        List<GeoEntry> all = new ArrayList<>();
+        GeoEntry after = null;
+        while (true) {
+            List<GeoEntry> page = storeGeoIndex.search(37.5, 127.0, 3_000, after, 7);
+            if (page.isEmpty()) break;
+            all.addAll(page);
+            after = page.get(page.size() - 1);
+        }
+
+        // then
+        List<GeoEntry> expected = bruteForce(locations, 37.5, 127.0, 3_000);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, all);
+    }
+
+    @Test
+    @DisplayName("경도 ±180도 경계 근처에서 검색하면 경계 건너편 매장도 반환한다.")
+    void search_antimeridian() {
+        // given
+        List<StoreLocation> locations = List.of(
+                new StoreLocation(1L, -17.0, 179.998),
+                new StoreLocation(2L, -17.0, -179.998),
+                new StoreLocation(3L, -17.0, 180.0),
+                new StoreLocation(4L, -17.0, -179.9)
+        );
+        StoreGeoIndex storeGeoIndex = createIndex(locations);
+
+        // when
+        List<GeoEntry> east = storeGeoIndex.search(-17.0, 179.999, 1_000, null, 10);
+        List<GeoEntry> west = storeGeoIndex.search(-17.0, -179.999, 1_000, null, 10);
+
+        // then
+        assertEquals(bruteForce(locations, -17.0, 179.999, 1_000), east);
+        assertEquals(bruteForce(locations, -17.0, -179.999, 1_000), west);
+        assertEquals(3, east.size());
+    }
+
+    @Test
+    @DisplayName("극지방에서 경도 칸 전체를 탐색해도 같은 매장을 중복으로 반환하지 않는다.")
+    void search_near_pole() {
+        // given
+        List<StoreLocation> locations = new ArrayList<>();
+        for (long id = 1; id <= 36; id++) {
+            locations.add(new StoreLocation(id, 89.999, -180.0 + id * 10));
+        }
+        StoreGeoIndex storeGeoIndex = createIndex(locations);
+
+        // when
+        List<GeoEntry> nearest = storeGeoIndex.search(89.9995, 0, 1_000, null, 100);
+
+        // then
+        assertEquals(bruteForce(locations, 89.9995, 0, 1_000), nearest);
+        assertEquals(36, nearest.size());
+    }
+
+    @Test
+    @DisplayName("재구성 이후 등록, 이동, 삭제, 위치를 지운 매장도 검색에 반영한다.")
+    void update_and_remove() {
+        // given
+        StoreGeoIndex storeGeoIndex = createIndex(List.of(
+                new StoreLocation(1L, 37.5000, 127.0000),
+                new StoreLocation(2L, 37.5010, 127.0000),
+                new StoreLocation(3L, 37.5020, 127.0000),
+                new StoreLocation(4L, 37.5030, 127.0000)
+        ));
+
+        // when
+        storeGeoIndex.update(createStore(5L, 37.5005, 127.0000));   // 등록
+        storeGeoIndex.update(createStore(4L, 37.6000, 127.0000));   // 반경 밖으로 이동
+        storeGeoIndex.update(createStore(3L, null, null));          // 위치 삭제
+        storeGeoIndex.remove(2L);                                       // 매장 삭제
+
+        // then
+        List<GeoEntry> nearest = storeGeoIndex.search(37.5000, 127.0000, 1_000, null, 10);
+        assertEquals(List.of(1L, 5L), nearest.stream().map(GeoEntry::storeId).toList());
+    }
+
+    @Test
+    @DisplayName("재구성 시 이전 변경은 배열에 반영하고, 재구성 중 변경된 매장은 계속 반영한다.")
+    void rebuild() {
+        // given
+        StoreGeoIndex storeGeoIndex = createIndex(List.of(new StoreLocation(1L, 37.5, 127.0)));
+        storeGeoIndex.update(createStore(2L, 37.5001, 127.0));
+
+        // 재구성 조회 직후 매장 1이 이동(조회 결과는 이전 위치)
+        given(storeRepository.findLocations()).willAnswer(invocation -> {
+            storeGeoIndex.update(createStore(1L, 38.0, 127.0));
+            return List.of(new StoreLocation(1L, 37.5, 127.0), new StoreLocation(2L, 37.5001, 127.0));
+        });
+
+        // when
+        storeGeoIndex.rebuild();
+
+        // then
+        assertEquals(2, storeGeoIndex.size());
+        List<GeoEntry> nearest = storeGeoIndex.search(37.5, 127.0, 1_000, null, 10);
+        assertEquals(List.of(2L), nearest.stream().map(GeoEntry::storeId).toList());
+    }
+
+
+    private Store createStore(Long id, Double latitude, Double longitude) {
+        return Store.builder()
+                .id(id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .partners(Partners.builder().build())
+                .build();
+    }
+}
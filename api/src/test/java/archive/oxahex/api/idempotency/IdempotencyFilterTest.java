@@ -0,0 +1,178 @@
+package archive.oxahex.api.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyFilterTest {
+
+    private final InMemoryIdempotencyStore idempotencyStore = new InMemoryIdempotencyStore(100);
+    private final IdempotencyFilter idempotencyFilter = new IdempotencyFilter(
+            idempotencyStore, new SimpleMeterRegistry(),
+            Duration.ofMinutes(1), Duration.ofSeconds(10), Duration.ofSeconds(5)
+    );
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private FilterChain chain(int status, long delayMillis) {
+        return (request, response) -> {
+            int execution = executions.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"reservationId\":" + execution + "}");
+        };
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String idempotencyKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/reservations/stores/1");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        return request;
+    }
+
+    @Test
+    @DisplayName("같은 Key로 다시 요청하면 처리하지 않고 처음 응답을 그대로 반환한다.")
+    void replay() throws Exception {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(request("127.0.0.1", "key-1"), first, chain(200, 0));
+        idempotencyFilter.doFilter(request("127.0.0.1", "key-1"), retry, chain(200, 0));
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals(200, retry.getStatus());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("같은 Key로 동시에 요청하면 한 번만 처리하고, 나머지는 처리가 끝날 때까지 기다려 같은 응답을 받는다.")
+    void concurrent_duplicates() throws Exception {
+        // given
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                idempotencyFilter.doFilter(request("127.0.0.1", "key-1"), response, chain(200, 200));
+                return response;
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<MockHttpServletResponse> future : futures) {
+            MockHttpServletResponse response = future.get(10, TimeUnit.SECONDS);
+            assertEquals(200, response.getStatus());
+            assertEquals("{\"reservationId\":1}", response.getContentAsString());
+        }
+        executor.shutdown();
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 같은 Key로 다시 처리할 수 있다.")
+    void failure_not_cached() throws Exception {
+        // when
+        MockHttpServletResponse failed = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(request("127.0.0.1", "key-1"), failed, chain(HttpStatus.CONFLICT.value(), 0));
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(request("127.0.0.1", "key-1"), retry, chain(200, 0));
+
+        // then
+        assertEquals(2, executions.get());
+        assertEquals(409, failed.getStatus());
+        assertEquals(200, retry.getStatus());
+        assertNull(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("요청자가 다르면 같은 Key라도 따로 처리한다.")
+    void different_client() throws Exception {
+        // when
+        idempotencyFilter.doFilter(request("127.0.0.1", "key-1"), new MockHttpServletResponse(), chain(200, 0));
+        idempotencyFilter.doFilter(request("127.0.0.2", "key-1"), new MockHttpServletResponse(), chain(200, 0));
+
+        // then
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("같은 Key로 Body가 다른 요청을 보내면 처리하지 않고 422 응답한다.")
+    void different_body() throws Exception {
+        // given
+        MockHttpServletRequest first = request("127.0.0.1", "key-1");
+        first.setContent("{\"tableCount\":1}".getBytes());
+        MockHttpServletRequest retry = request("127.0.0.1", "key-1");
+        retry.setContent("{\"tableCount\":2}".getBytes());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(first, new MockHttpServletResponse(), chain(200, 0));
+        idempotencyFilter.doFilter(retry, response, chain(200, 0));
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals(422, response.getStatus());
+        assertNull(response.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Key 형식이 올바르지 않으면 처리하지 않고 400 응답한다.")
+    void invalid_key() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(request("127.0.0.1", "invalid key!"), response, chain(200, 0));
+
+        // then
+        assertEquals(0, executions.get());
+        assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("저장된 결과는 최대 크기를 넘으면 오래된 것부터 제거된다.")
+    void bounded() {
+        // given
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            store.tryStart("key-" + i, Duration.ofMinutes(1));
+            store.complete("key-" + i, new IdempotencyStore.CachedResponse(200, null, new byte[0], null), Duration.ofMinutes(1));
+        }
+
+        // then
+        assertEquals(2, store.size());
+        assertNull(store.get("key-0"));
+        assertNotNull(store.get("key-4"));
+    }
+}
@@ -0,0 +1,263 @@
+package archive.oxahex.api.intake;
+
+import archive.oxahex.api.dto.ReservationDto;
+import archive.oxahex.api.dto.request.ReservationRequest;
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.service.ReservationService;
+import archive.oxahex.api.service.ReservationService.ReservationIntake;
+import archive.oxahex.domain.entity.Reservation;
+import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.repository.StoreRepository;
+import archive.oxahex.domain.type.ReservationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReservationIntakeQueueTest {
+
+    private final ReservationService reservationService = mock(ReservationService.class);
+    private final StoreRepository storeRepository = mock(StoreRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final User user = User.builder().id(1L).email("user@gmail.com").build();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private ReservationIntakeQueue intakeQueue;
+
+    private ReservationIntakeQueue createQueue(int queueCapacity) {
+        return createQueue(queueCapacity, 600, 5);
+    }
+
+    private ReservationIntakeQueue createQueue(int queueCapacity, long queueIdleSeconds, long shutdownTimeoutSeconds) {
+        given(storeRepository.existsById(anyLong())).willReturn(true);
+        intakeQueue = new ReservationIntakeQueue(
+                reservationService, storeRepository, meterRegistry, ReservationIntakeQueue.MODE_ASYNC,
+                queueCapacity, 2, 10, 600, queueIdleSeconds, shutdownTimeoutSeconds
+        );
+        intakeQueue.start();
+        return intakeQueue;
+    }
+
+    @AfterEach
+    void tearDown() {
+        intakeQueue.stop();
+    }
+
+    private ReservationRequest request() {
+        ReservationRequest request = new ReservationRequest();
+        request.setVisitedDate(LocalDateTime.now().plusDays(1));
+        request.setUseTableCount(1);
+        return request;
+    }
+
+    private void givenSavedInOrder() {
+        AtomicLong sequence = new AtomicLong();
+        given(reservationService.requestReservations(anyLong(), anyList())).willAnswer(invocation -> {
+            List<ReservationIntake> intakes = invocation.getArgument(1);
+            synchronized (batchSizes) {
+                batchSizes.add(intakes.size());
+            }
+
+            List<ReservationDto.BatchResult> results = new ArrayList<>();
+            for (ReservationIntake ignored : intakes) {
+                Reservation reservation = Reservation.builder().status(ReservationStatus.PENDING).build();
+                ReflectionTestUtils.setField(reservation, "id", sequence.incrementAndGet());
+                results.add(ReservationDto.fromEntityToBatchResult(reservation));
+            }
+            return results;
+        });
+    }
+
+    @Test
+    @DisplayName("접수한 요청은 매장 별로 batch 크기만큼 묶어 저장하고, 접수 번호로 결과를 확인할 수 있다.")
+    void submit_and_drain() throws Exception {
+        // given
+        givenSavedInOrder();
+        ReservationIntakeQueue queue = createQueue(1000);
+
+        // when
+        List<ReservationTicket> tickets = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tickets.add(queue.submit(user, (long) (i % 3), request()));
+        }
+        CompletableFuture.allOf(tickets.stream().map(ReservationTicket::getResult).toArray(CompletableFuture[]::new))
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertTrue(tickets.stream().allMatch(ticket -> ticket.getStatus() == ReservationTicket.Status.COMPLETED));
+        assertEquals(100, tickets.stream().map(ReservationTicket::getReservationId).distinct().count());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 10));
+        assertEquals(0, queue.getDepth());
+        assertEquals(100, meterRegistry.get("reservation.intake.drain.latency").timer().count());
+
+        ReservationTicket ticket = queue.getTicket(tickets.get(0).getId(), user.getId());
+        assertEquals(ReservationTicket.Status.COMPLETED, ticket.getStatus());
+    }
+
+    @Test
+    @DisplayName("같은 매장 요청은 접수한 순서대로 저장한다.")
+    void submit_in_order() throws Exception {
+        // given
+        givenSavedInOrder();
+        ReservationIntakeQueue queue = createQueue(1000);
+
+        // when
+        List<ReservationTicket> tickets = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tickets.add(queue.submit(user, 1L, request()));
+        }
+        tickets.get(tickets.size() - 1).getResult().get(5, TimeUnit.SECONDS);
+
+        // then
+        for (int i = 1; i < tickets.size(); i++) {
+            assertTrue(tickets.get(i - 1).getReservationId() < tickets.get(i).getReservationId());
+        }
+    }
+
+    @Test
+    @DisplayName("매장 대기열이 가득 찬 경우 접수하지 않고 거절한다.")
+    void submit_failure_queue_full() throws Exception {
+        // given
+        CountDownLatch processing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(reservationService.requestReservations(anyLong(), anyList())).willAnswer(invocation -> {
+            processing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(ReservationDto.fromErrorToBatchResult(null, ErrorType.TABLE_SOLD_OUT.getErrorMessage()));
+        });
+        ReservationIntakeQueue queue = createQueue(2);
+
+        // 첫 요청 처리 중
+        queue.submit(user, 1L, request());
+        assertTrue(processing.await(5, TimeUnit.SECONDS));
+
+        // when
+        queue.submit(user, 1L, request());
+        queue.submit(user, 1L, request());
+        CustomException exception = assertThrows(CustomException.class,
+                () -> queue.submit(user, 1L, request()));
+        release.countDown();
+
+        // then
+        assertEquals(ErrorType.RESERVATION_QUEUE_FULL.getHttpStatus(), exception.getHttpStatus());
+        assertEquals(1, meterRegistry.get("reservation.intake.rejected").counter().count());
+        assertDoesNotThrow(() -> queue.submit(user, 2L, request()));
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 접수 번호는 실패 상태가 된다.")
+    void drain_failure() throws Exception {
+        // given
+        given(reservationService.requestReservations(anyLong(), anyList()))
+                .willThrow(new IllegalStateException("connection refused"));
+        ReservationIntakeQueue queue = createQueue(1000);
+
+        // when
+        ReservationTicket ticket = queue.submit(user, 1L, request());
+        ticket.getResult().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(ReservationTicket.Status.FAILED, ticket.getStatus());
+        assertEquals(ErrorType.RESERVATION_INTAKE_FAILED.getErrorMessage(), ticket.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("다른 유저의 접수 번호는 조회할 수 없다.")
+    void getTicket_failure_other_user() {
+        // given
+        givenSavedInOrder();
+        ReservationIntakeQueue queue = createQueue(1000);
+        ReservationTicket ticket = queue.submit(user, 1L, request());
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> queue.getTicket(ticket.getId(), 2L));
+
+        // then
+        assertEquals(ErrorType.TICKET_NOT_FOUND.getErrorMessage(), exception.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 매장은 대기열을 만들지 않고 거절한다.")
+    void submit_failure_store_not_found() {
+        // given
+        ReservationIntakeQueue queue = createQueue(1000);
+        given(storeRepository.existsById(99L)).willReturn(false);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> queue.submit(user, 99L, request()));
+
+        // then
+        assertEquals(ErrorType.STORE_NOT_FOUND.getErrorMessage(), exception.getErrorMessage());
+        assertEquals(0, queue.getStoreQueueCount());
+    }
+
+    @Test
+    @DisplayName("접수가 없고 처리할 요청이 없는 매장 대기열은 제거한다.")
+    void evictIdleQueues() throws Exception {
+        // given
+        givenSavedInOrder();
+        ReservationIntakeQueue queue = createQueue(1000, 0, 5);
+        ReservationTicket ticket = queue.submit(user, 1L, request());
+        ticket.getResult().get(5, TimeUnit.SECONDS);
+        assertEquals(1, queue.getStoreQueueCount());
+        Thread.sleep(10);
+
+        // when
+        queue.evictIdleQueues();
+
+        // then
+        assertEquals(0, queue.getStoreQueueCount());
+        assertDoesNotThrow(() -> queue.submit(user, 1L, request()).getResult().get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("종료 시 제한 시간 내에 처리하지 못한 요청의 접수 번호는 실패 상태가 된다.")
+    void stop_fails_remaining() throws Exception {
+        // given
+        CountDownLatch processing = new CountDownLatch(1);
+        given(reservationService.requestReservations(anyLong(), anyList())).willAnswer(invocation -> {
+            processing.countDown();
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(ReservationDto.fromErrorToBatchResult(null, ErrorType.TABLE_SOLD_OUT.getErrorMessage()));
+        });
+        ReservationIntakeQueue queue = createQueue(1000, 600, 0);
+
+        // 첫 요청 처리 중
+        queue.submit(user, 1L, request());
+        assertTrue(processing.await(5, TimeUnit.SECONDS));
+        List<ReservationTicket> remaining = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            remaining.add(queue.submit(user, 1L, request()));
+        }
+
+        // when
+        queue.stop();
+
+        // then
+        for (ReservationTicket ticket : remaining) {
+            assertEquals(ReservationTicket.Status.FAILED, ticket.getResult().get(1, TimeUnit.SECONDS).getStatus());
+        }
+        assertEquals(0, queue.getDepth());
+        assertThrows(CustomException.class, () -> queue.submit(user, 1L, request()));
+    }
+}
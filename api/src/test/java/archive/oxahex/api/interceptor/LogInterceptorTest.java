@@ -0,0 +1,110 @@
+package archive.oxahex.api.interceptor;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogInterceptorTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    LogInterceptor logInterceptor = new LogInterceptor(meterRegistry, 0.0, 1000);
+
+    @Test
+    @DisplayName("추적 ID를 MDC와 응답 Header에 담고 요청이 끝나면 MDC에서 제거한다.")
+    void requestId() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stores");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = handler();
+
+        // when
+        logInterceptor.preHandle(request, response, handler);
+        String requestId = MDC.get(LogInterceptor.MDC_KEY);
+        logInterceptor.afterCompletion(request, response, handler, null);
+
+        // then
+        assertNotNull(requestId);
+        assertEquals(requestId, response.getHeader(LogInterceptor.REQUEST_ID_HEADER));
+        assertNull(MDC.get(LogInterceptor.MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("비동기 처리가 시작되면 요청 Thread의 MDC를 비우고, 재디스패치 시 같은 추적 ID를 사용한다.")
+    void requestId_async() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reservations/tickets/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = handler();
+
+        // when
+        logInterceptor.preHandle(request, response, handler);
+        String requestId = MDC.get(LogInterceptor.MDC_KEY);
+        logInterceptor.afterConcurrentHandlingStarted(request, response, handler);
+        String afterStarted = MDC.get(LogInterceptor.MDC_KEY);
+
+        logInterceptor.preHandle(request, response, handler);
+        String redispatched = MDC.get(LogInterceptor.MDC_KEY);
+        logInterceptor.afterCompletion(request, response, handler, null);
+
+        // then
+        assertNull(afterStarted);
+        assertEquals(requestId, redispatched);
+        assertNull(MDC.get(LogInterceptor.MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("요청 Header의 추적 ID는 형식이 맞는 경우에만 그대로 사용한다.")
+    void requestId_from_header() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stores");
+        request.addHeader(LogInterceptor.REQUEST_ID_HEADER, "gateway-123");
+        MockHttpServletRequest invalidRequest = new MockHttpServletRequest("GET", "/stores");
+        invalidRequest.addHeader(LogInterceptor.REQUEST_ID_HEADER, "bad\r\nid");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletResponse invalidResponse = new MockHttpServletResponse();
+
+        // when
+        logInterceptor.preHandle(request, response, handler());
+        logInterceptor.preHandle(invalidRequest, invalidResponse, handler());
+
+        // then
+        assertEquals("gateway-123", response.getHeader(LogInterceptor.REQUEST_ID_HEADER));
+        assertNotEquals("bad\r\nid", invalidResponse.getHeader(LogInterceptor.REQUEST_ID_HEADER));
+    }
+
+    @Test
+    @DisplayName("Handler 별 처리 시간을 기록한다.")
+    void handler_latency() throws Exception {
+        // given
+        HandlerMethod handler = handler();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stores");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            logInterceptor.preHandle(request, response, handler);
+            logInterceptor.afterCompletion(request, response, handler, null);
+        }
+
+        // then
+        Timer timer = meterRegistry.get("http.handler.latency")
+                .tag("handler", "LogInterceptorTest.sampleHandler")
+                .timer();
+        assertEquals(3, timer.count());
+    }
+
+    private HandlerMethod handler() throws NoSuchMethodException {
+        return new HandlerMethod(this, LogInterceptorTest.class.getDeclaredMethod("sampleHandler"));
+    }
+
+    @SuppressWarnings("unused")
+    void sampleHandler() {
+    }
+}
@@ -0,0 +1,140 @@
+package archive.oxahex.api.ranking;
+
+import archive.oxahex.domain.entity.Partners;
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.projection.StoreRankingScore;
+import archive.oxahex.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class InMemoryStoreRankingTest {
+
+    private final StoreRepository storeRepository = mock(StoreRepository.class);
+
+    private InMemoryStoreRanking createRanking(List<StoreRankingScore> scores) {
+        given(storeRepository.findRankingScores()).willReturn(scores);
+        InMemoryStoreRanking storeRanking = new InMemoryStoreRanking(storeRepository, new SimpleMeterRegistry());
+        storeRanking.rebuild();
+        return storeRanking;
+    }
+
+    @Test
+    @DisplayName("리뷰 수 내림차순, 같은 리뷰 수는 매장 ID 순으로 반환하고 이전 항목 다음부터 조회한다.")
+    void getRanking_review_count() {
+        // given
+        InMemoryStoreRanking storeRanking = createRanking(List.of(
+                new StoreRankingScore(1L, 3, 9L),
+                new StoreRankingScore(2L, 10, 30L),
+                new StoreRankingScore(3L, 3, 15L),
+                new StoreRankingScore(4L, 0, 0L)
+        ));
+
+        // when
+        List<RankingEntry> first = storeRanking.getRanking(RankingType.REVIEW_COUNT, null, 2);
+        List<RankingEntry> second = storeRanking.getRanking(RankingType.REVIEW_COUNT, first.get(1), 2);
+
+        // then
+        assertEquals(List.of(2L, 1L), first.stream().map(RankingEntry::storeId).toList());
+        assertEquals(List.of(3L, 4L), second.stream().map(RankingEntry::storeId).toList());
+        assertEquals(10.0, first.get(0).score());
+    }
+
+    @Test
+    @DisplayName("평균 별점 내림차순으로 반환하고, 리뷰가 없는 매장은 0점이다.")
+    void getRanking_rating() {
+        // given
+        InMemoryStoreRanking storeRanking = createRanking(List.of(
+                new StoreRankingScore(1L, 3, 9L),
+                new StoreRankingScore(2L, 10, 30L),
+                new StoreRankingScore(3L, 3, 15L),
+                new StoreRankingScore(4L, 0, 0L)
+        ));
+
+        // when
+        List<RankingEntry> ranking = storeRanking.getRanking(RankingType.RATING, null, 10);
+
+        // then
+        assertEquals(List.of(3L, 1L, 2L, 4L), ranking.stream().map(RankingEntry::storeId).toList());
+        assertEquals(5.0, ranking.get(0).score());
+        assertEquals(0.0, ranking.get(3).score());
+    }
+
+    @Test
+    @DisplayName("변경된 매장만 순위를 옮기고, 삭제된 매장은 순위에서 제거한다.")
+    void update_and_remove() {
+        // given
+        InMemoryStoreRanking storeRanking = createRanking(List.of(
+                new StoreRankingScore(1L, 3, 9L),
+                new StoreRankingScore(2L, 10, 30L)
+        ));
+
+        // when
+        storeRanking.update(createStore(1L, 11, 50L));
+        storeRanking.update(createStore(5L, 1, 5L));
+        storeRanking.remove(2L);
+
+        // then
+        assertEquals(List.of(1L, 5L),
+                storeRanking.getRanking(RankingType.REVIEW_COUNT, null, 10).stream().map(RankingEntry::storeId).toList());
+        assertEquals(List.of(5L, 1L),
+                storeRanking.getRanking(RankingType.RATING, null, 10).stream().map(RankingEntry::storeId).toList());
+        assertEquals(2, storeRanking.size());
+    }
+
+    @Test
+    @DisplayName("재구성 시 DB에 없는 매장은 제거하고, 재구성 중 변경된 매장은 DB에서 읽은 값으로 덮어쓰지 않는다.")
+    void rebuild() {
+        // given
+        InMemoryStoreRanking storeRanking = createRanking(List.of(
+                new StoreRankingScore(1L, 3, 9L),
+                new StoreRankingScore(2L, 10, 30L)
+        ));
+
+        // 재구성 조회 직후 매장 1의 리뷰가 추가됨(조회 결과는 이전 값)
+        given(storeRepository.findRankingScores()).willAnswer(invocation -> {
+            storeRanking.update(createStore(1L, 4, 14L));
+            return List.of(new StoreRankingScore(1L, 3, 9L), new StoreRankingScore(3L, 1, 1L));
+        });
+
+        // when
+        storeRanking.rebuild();
+
+        // then
+        List<RankingEntry> ranking = storeRanking.getRanking(RankingType.REVIEW_COUNT, null, 10);
+        assertEquals(List.of(1L, 3L), ranking.stream().map(RankingEntry::storeId).toList());
+        assertEquals(4.0, ranking.get(0).score());
+    }
+
+    @Test
+    @DisplayName("재구성 전에 조회하면 한 번만 DB에서 불러온다.")
+    void getRanking_load() {
+        // given
+        given(storeRepository.findRankingScores()).willReturn(List.of(new StoreRankingScore(1L, 1, 5L)));
+        InMemoryStoreRanking storeRanking = new InMemoryStoreRanking(storeRepository, new SimpleMeterRegistry());
+
+        // when
+        storeRanking.getRanking(RankingType.RATING, null, 10);
+        List<RankingEntry> ranking = storeRanking.getRanking(RankingType.RATING, null, 10);
+
+        // then
+        assertEquals(1, ranking.size());
+        verify(storeRepository, times(1)).findRankingScores();
+    }
+
+
+    private Store createStore(Long id, int reviewCount, long ratingTotal) {
+        return Store.builder()
+                .id(id)
+                .reviewCount(reviewCount)
+                .ratingTotal(ratingTotal)
+                .partners(Partners.builder().build())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package archive.oxahex.api.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimitStoreTest {
+
+    @Test
+    @DisplayName("Bucket 크기만큼 허용하고 이후 요청은 거절한다.")
+    void tryAcquire_capacity() {
+        // given
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore();
+        RateLimitPolicy policy = new RateLimitPolicy(5, 0.001);
+
+        // when
+        int acquired = 0;
+        for (int i = 0; i < 10; i++) {
+            if (store.tryAcquire("login:ip:127.0.0.1", policy)) acquired++;
+        }
+
+        // then
+        assertEquals(5, acquired);
+        assertTrue(store.tryAcquire("login:ip:127.0.0.2", policy));
+    }
+
+    @Test
+    @DisplayName("같은 Key에 동시에 요청해도 Bucket 크기를 넘겨 허용하지 않는다.")
+    void tryAcquire_concurrent() throws InterruptedException {
+        // given
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore();
+        RateLimitPolicy policy = new RateLimitPolicy(100, 0.001);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(1000);
+        AtomicInteger acquired = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                if (store.tryAcquire("reservation:user:1", policy)) acquired.incrementAndGet();
+                latch.countDown();
+            });
+        }
+        latch.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertEquals(100, acquired.get());
+    }
+
+    @Test
+    @DisplayName("가득 찬(유휴) Bucket은 제거된다.")
+    void evictIdleBuckets() throws InterruptedException {
+        // given
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore();
+        store.tryAcquire("join:ip:127.0.0.1", new RateLimitPolicy(5, 1000));
+        store.tryAcquire("join:ip:127.0.0.2", new RateLimitPolicy(5, 0.001));
+        Thread.sleep(5);
+
+        // when
+        store.evictIdleBuckets();
+
+        // then
+        assertEquals(1, store.size());
+    }
+}
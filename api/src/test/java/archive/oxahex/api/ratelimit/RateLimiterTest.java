@@ -0,0 +1,49 @@
+package archive.oxahex.api.ratelimit;
+
+import archive.oxahex.api.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Route 별 허용량을 넘으면 TOO_MANY_REQUESTS 예외가 발생한다.")
+    void acquire_failure_too_many_requests() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(
+                new InMemoryRateLimitStore(), meterRegistry, 2, 0.001, 5, 0.001, 5, 0.001
+        );
+        rateLimiter.acquire(RateLimiter.LOGIN, "ip:127.0.0.1");
+        rateLimiter.acquire(RateLimiter.LOGIN, "ip:127.0.0.1");
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> rateLimiter.acquire(RateLimiter.LOGIN, "ip:127.0.0.1"));
+
+        // then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getHttpStatus());
+        assertEquals(1.0, meterRegistry.get("rate.limit.rejected").tag("route", RateLimiter.LOGIN).counter().count());
+        assertDoesNotThrow(() -> rateLimiter.acquire(RateLimiter.JOIN, "ip:127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("저장소 장애 시 요청을 허용한다.")
+    void acquire_store_failure() {
+        // given
+        RateLimitStore failingStore = (key, policy) -> {
+            throw new IllegalStateException("connection refused");
+        };
+        RateLimiter rateLimiter = new RateLimiter(
+                failingStore, meterRegistry, 1, 1, 1, 1, 1, 1
+        );
+
+        // when, then
+        assertDoesNotThrow(() -> rateLimiter.acquire(RateLimiter.RESERVATION, "user:1"));
+    }
+}
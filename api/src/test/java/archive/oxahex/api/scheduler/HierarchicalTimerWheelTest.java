@@ -0,0 +1,84 @@
+package archive.oxahex.api.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimerWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    @DisplayName("모든 단계와 범위를 넘는 항목을 만료 시각에 정확히 반환한다.")
+    void advance_all_levels() {
+        // given
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 60, 3, 0);
+        long[] deadlines = {5 * TICK, 70 * TICK, 3_700 * TICK, 300_000 * TICK};
+        for (long deadline : deadlines) {
+            wheel.add(String.valueOf(deadline), deadline);
+        }
+
+        // when, then
+        for (long deadline : deadlines) {
+            assertTrue(wheel.advance(deadline - TICK).isEmpty());
+            assertEquals(List.of(String.valueOf(deadline)), wheel.advance(deadline));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("만료 시각을 tick 단위로 올려 만료 시각보다 먼저 반환하지 않는다.")
+    void advance_round_up() {
+        // given
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 60, 3, 0);
+        wheel.add("a", 5_500);
+
+        // when, then
+        assertTrue(wheel.advance(5_000).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(6_000));
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록한 항목은 다음 진행 시 바로 반환한다.")
+    void advance_past_deadline() {
+        // given
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 60, 3, 100 * TICK);
+        wheel.add("past", 10 * TICK);
+        wheel.add("now", 100 * TICK);
+        wheel.add("future", 101 * TICK);
+
+        // when
+        List<String> expired = wheel.advance(100 * TICK);
+
+        // then
+        assertEquals(List.of("past", "now"), expired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    @DisplayName("진행 중 등록한 항목도 위 단계에서 내려와 만료 시각에 반환한다.")
+    void add_after_advance() {
+        // given
+        HierarchicalTimerWheel<Integer> wheel = new HierarchicalTimerWheel<>(TICK, 60, 3, 0);
+        wheel.advance(59 * TICK);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            wheel.add(i, (60 + i * 7L) * TICK);
+        }
+
+        // then
+        int count = 0;
+        for (long now = 60; now <= 60 + 999 * 7; now++) {
+            List<Integer> expired = wheel.advance(now * TICK);
+            for (Integer item : expired) {
+                assertEquals(60 + item * 7L, now);
+            }
+            count += expired.size();
+        }
+        assertEquals(1000, count);
+    }
+}
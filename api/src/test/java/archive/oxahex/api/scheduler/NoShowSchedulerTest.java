@@ -0,0 +1,139 @@
+package archive.oxahex.api.scheduler;
+
+import archive.oxahex.api.capacity.SlotCapacityStore;
+import archive.oxahex.domain.entity.Partners;
+import archive.oxahex.domain.entity.Reservation;
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.entity.StoreSlotCapacity;
+import archive.oxahex.domain.repository.ReservationRepository;
+import archive.oxahex.domain.repository.SchedulerLeaseRepository;
+import archive.oxahex.domain.type.ReservationStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class NoShowSchedulerTest {
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final SchedulerLeaseRepository schedulerLeaseRepository = mock(SchedulerLeaseRepository.class);
+    private final SlotCapacityStore slotCapacityStore = mock(SlotCapacityStore.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Store store = Store.builder()
+            .id(1L)
+            .partners(Partners.builder().build())
+            .tableCount(10)
+            .build();
+
+    private NoShowScheduler createScheduler() {
+        return new NoShowScheduler(
+                reservationRepository,
+                new SchedulerLease(schedulerLeaseRepository, mock(PlatformTransactionManager.class)),
+                slotCapacityStore,
+                mock(PlatformTransactionManager.class), meterRegistry,
+                60000, 180, 24, 10, 2
+        );
+    }
+
+    private Reservation createReservation(Long id, LocalDateTime visitDate, int useTableCount) {
+        Reservation reservation = Reservation.builder()
+                .store(store)
+                .status(ReservationStatus.ALLOWED)
+                .visitDate(visitDate)
+                .useTableCount(useTableCount)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+
+    @Test
+    @DisplayName("다른 서버가 lease를 가진 경우 예약을 조회하지 않는다.")
+    void sweep_lease_not_acquired() {
+        // given
+        given(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), anyLong())).willReturn(false);
+        NoShowScheduler scheduler = createScheduler();
+
+        // when
+        scheduler.sweep();
+
+        // then
+        assertFalse(scheduler.isLeader());
+        verifyNoInteractions(reservationRepository, slotCapacityStore);
+    }
+
+    @Test
+    @DisplayName("방문 시간이 지난 승인 예약을 나눠서 NO_SHOW로 변경하고 테이블은 시간대 별로 합산해 반환한다.")
+    void sweep_expire() {
+        // given
+        LocalDateTime slotTime = StoreSlotCapacity.toSlotTime(LocalDateTime.now().minusHours(2));
+        LocalDateTime otherSlotTime = slotTime.minusHours(1);
+
+        List<Reservation> overdue = List.of(
+                createReservation(1L, slotTime.plusMinutes(10), 2),
+                createReservation(2L, slotTime.plusMinutes(20), 3),
+                createReservation(3L, otherSlotTime, 1)
+        );
+        Reservation upcoming = createReservation(4L, LocalDateTime.now().plusHours(1), 1);
+
+        given(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), anyLong())).willReturn(true);
+        given(reservationRepository.findAllByStatusAndVisitDateBefore(eq(ReservationStatus.ALLOWED), any()))
+                .willReturn(List.of(overdue.get(0), overdue.get(1), overdue.get(2), upcoming));
+        given(reservationRepository.findAllWithStoreByIdInAndStatusForUpdate(eq(List.of(1L, 2L)), any()))
+                .willReturn(List.of(overdue.get(0), overdue.get(1)));
+        given(reservationRepository.findAllWithStoreByIdInAndStatusForUpdate(eq(List.of(3L)), any()))
+                .willReturn(List.of(overdue.get(2)));
+        given(reservationRepository.updateStatus(any(), any(), any(), any()))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        NoShowScheduler scheduler = createScheduler();
+
+        // when
+        scheduler.sweep();
+
+        // then
+        assertTrue(scheduler.isLeader());
+        verify(reservationRepository).updateStatus(
+                eq(List.of(1L, 2L)), eq(ReservationStatus.ALLOWED), eq(ReservationStatus.NO_SHOW), any());
+        verify(reservationRepository).updateStatus(
+                eq(List.of(3L)), eq(ReservationStatus.ALLOWED), eq(ReservationStatus.NO_SHOW), any());
+        verify(slotCapacityStore).release(store, slotTime, 5);
+        verify(slotCapacityStore).release(store, otherSlotTime, 1);
+        verifyNoMoreInteractions(slotCapacityStore);
+
+        assertEquals(3, meterRegistry.summary("reservation.no-show.sweep.processed").totalAmount());
+        assertEquals(1, meterRegistry.timer("reservation.no-show.sweep.duration").count());
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션에서 상태가 바뀐 예약은 변경하지 않고 테이블도 반환하지 않는다.")
+    void sweep_skip_changed() {
+        // given
+        Reservation reservation = createReservation(1L, LocalDateTime.now().minusHours(1), 2);
+
+        given(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), anyLong())).willReturn(true);
+        given(reservationRepository.findAllByStatusAndVisitDateBefore(eq(ReservationStatus.ALLOWED), any()))
+                .willReturn(List.of(reservation));
+        given(reservationRepository.findAllWithStoreByIdInAndStatusForUpdate(any(), any()))
+                .willReturn(List.of());
+
+        NoShowScheduler scheduler = createScheduler();
+
+        // when
+        scheduler.sweep();
+
+        // then
+        verify(reservationRepository, never()).updateStatus(any(), any(), any(), any());
+        verifyNoInteractions(slotCapacityStore);
+    }
+}
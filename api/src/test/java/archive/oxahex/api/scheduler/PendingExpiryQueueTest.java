@@ -0,0 +1,163 @@
+package archive.oxahex.api.scheduler;
+
+import archive.oxahex.domain.entity.Partners;
+import archive.oxahex.domain.entity.Reservation;
+import archive.oxahex.domain.entity.ReservationExpiry;
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.repository.ReservationExpiryRepository;
+import archive.oxahex.domain.repository.ReservationRepository;
+import archive.oxahex.domain.repository.SchedulerLeaseRepository;
+import archive.oxahex.domain.type.ReservationStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class PendingExpiryQueueTest {
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final ReservationExpiryRepository reservationExpiryRepository = mock(ReservationExpiryRepository.class);
+    private final SchedulerLeaseRepository schedulerLeaseRepository = mock(SchedulerLeaseRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PendingExpiryQueue createQueue() {
+        return new PendingExpiryQueue(
+                reservationRepository, reservationExpiryRepository,
+                new SchedulerLease(schedulerLeaseRepository, mock(PlatformTransactionManager.class)),
+                mock(PlatformTransactionManager.class), meterRegistry,
+                true, 60, 30, 10, 60000, 100, 2
+        );
+    }
+
+    private Store createStore(Integer pendingTtlMinutes) {
+        return Store.builder()
+                .id(1L)
+                .partners(Partners.builder().build())
+                .tableCount(10)
+                .pendingTtlMinutes(pendingTtlMinutes)
+                .build();
+    }
+
+    private Reservation createReservation(Long id, Store store, LocalDateTime visitDate) {
+        Reservation reservation = Reservation.builder()
+                .store(store)
+                .status(ReservationStatus.PENDING)
+                .visitDate(visitDate)
+                .useTableCount(1)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+
+    private ReservationExpiry createExpiry(Long reservationId, LocalDateTime dueAt) {
+        return ReservationExpiry.builder().reservationId(reservationId).dueAt(dueAt).build();
+    }
+
+    @Test
+    @DisplayName("매장 설정 시간(없으면 기본값) 후로 예정 시각을 저장하고 방문 시간을 넘지 않는다.")
+    void schedule_due_at() {
+        // given
+        PendingExpiryQueue queue = createQueue();
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+        LocalDateTime soonVisitDate = LocalDateTime.now().plusMinutes(5);
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        queue.schedule(List.of(
+                createReservation(1L, createStore(30), visitDate),
+                createReservation(2L, createStore(null), visitDate),
+                createReservation(3L, createStore(30), soonVisitDate)
+        ));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ReservationExpiry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservationExpiryRepository).saveAll(captor.capture());
+
+        List<ReservationExpiry> expiries = captor.getValue();
+        assertEquals(30, ChronoUnit.MINUTES.between(before, expiries.get(0).getDueAt()));
+        assertEquals(60, ChronoUnit.MINUTES.between(before, expiries.get(1).getDueAt()));
+        assertEquals(soonVisitDate, expiries.get(2).getDueAt());
+        assertTrue(expiries.get(0).isNew());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 lease를 가진 경우 처리하지 않는다.")
+    void sweep_lease_not_acquired() {
+        // given
+        given(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), anyLong())).willReturn(false);
+        PendingExpiryQueue queue = createQueue();
+
+        // when
+        queue.sweep();
+
+        // then
+        assertFalse(queue.isLeader());
+        verifyNoInteractions(reservationRepository, reservationExpiryRepository);
+    }
+
+    @Test
+    @DisplayName("예정 시각이 지난 항목만 나눠서 한 번의 update로 거절하고 처리한 행을 삭제한다.")
+    void sweep_reject_due() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), anyLong())).willReturn(true);
+        given(reservationExpiryRepository.findAllByDueAtBeforeOrderByDueAt(any(), any()))
+                .willReturn(List.of(
+                        createExpiry(3L, now.minusMinutes(3)),
+                        createExpiry(1L, now.minusMinutes(2)),
+                        createExpiry(2L, now.minusMinutes(1)),
+                        createExpiry(4L, now.plusMinutes(5))
+                ));
+        given(reservationRepository.updateStatus(any(), any(), any(), any()))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        PendingExpiryQueue queue = createQueue();
+
+        // when
+        queue.sweep();
+
+        // then
+        assertTrue(queue.isLeader());
+        verify(reservationRepository).updateStatus(
+                eq(List.of(1L, 2L)), eq(ReservationStatus.PENDING), eq(ReservationStatus.REJECTED), any());
+        verify(reservationRepository).updateStatus(
+                eq(List.of(3L)), eq(ReservationStatus.PENDING), eq(ReservationStatus.REJECTED), any());
+        verify(reservationExpiryRepository).deleteAllByReservationIdIn(List.of(1L, 2L));
+        verify(reservationExpiryRepository).deleteAllByReservationIdIn(List.of(3L));
+
+        assertEquals(1, queue.getLoadedCount());
+        assertEquals(3, meterRegistry.counter("reservation.pending-expiry.rejected").count());
+    }
+
+    @Test
+    @DisplayName("처리 중인 서버에서 접수한 예약은 조회 범위 안이면 바로 heap에 추가한다.")
+    void schedule_offer_loaded() {
+        // given
+        given(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), anyLong())).willReturn(true);
+        PendingExpiryQueue queue = createQueue();
+        queue.sweep();
+
+        // when
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+        queue.schedule(List.of(
+                createReservation(1L, createStore(5), visitDate),
+                createReservation(2L, createStore(null), visitDate)
+        ));
+
+        // then
+        assertEquals(1, queue.getLoadedCount());
+    }
+}
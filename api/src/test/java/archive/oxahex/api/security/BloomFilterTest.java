@@ -0,0 +1,53 @@
+package archive.oxahex.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 항목은 항상 포함된 것으로 확인된다.")
+    void mightContain_no_false_negative() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+        String[] tokenIds = new String[1_000];
+        for (int i = 0; i < tokenIds.length; i++) {
+            tokenIds[i] = UUID.randomUUID().toString();
+            bloomFilter.put(tokenIds[i]);
+        }
+
+        // when, then
+        for (String tokenId : tokenIds) {
+            assertTrue(bloomFilter.mightContain(tokenId));
+        }
+    }
+
+    @Test
+    @DisplayName("폐기 100만 건, 오탐률 1% 설정 시 메모리는 약 1.2MB, 실제 오탐률은 1% 내외이다.")
+    void memory_and_false_positive_rate_per_million() {
+        // given
+        int insertions = 1_000_000;
+        int lookups = 100_000;
+        BloomFilter bloomFilter = new BloomFilter(insertions, 0.01);
+
+        for (int i = 0; i < insertions; i++) {
+            bloomFilter.put(UUID.randomUUID().toString());
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < lookups; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString())) falsePositives++;
+        }
+        double falsePositiveRate = (double) falsePositives / lookups;
+
+        // then
+        // 최적 bit 수 = -n * ln(p) / (ln 2)^2 ≈ 9.59 bit/건 → 100만 건 약 1.14MiB
+        assertTrue(bloomFilter.sizeInBytes() < 1_300_000);
+        assertTrue(falsePositiveRate < 0.015);
+    }
+}
@@ -0,0 +1,68 @@
+package archive.oxahex.api.security;
+
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("전용 Thread Pool에서 해시한 비밀번호를 검증할 수 있다.")
+    void encode_matches_success() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, 1, 10, meterRegistry);
+
+        // when
+        String encoded = encoder.encode("password1234");
+
+        // then
+        assertTrue(encoder.matches("password1234", encoded));
+        assertFalse(encoder.matches("wrong-password", encoded));
+        assertEquals(3, meterRegistry.get("auth.password.hashing.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("해시 대기열이 가득 찬 경우 기다리지 않고 503 예외를 던진다.")
+    void encode_failure_queue_full() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(13, 1, 1, meterRegistry);
+
+        // 실행 중 1건, 대기 1건
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("password1"));
+        Thread.sleep(50);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("password2"));
+        Thread.sleep(50);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> encoder.encode("password3"));
+
+        // then
+        assertEquals(ErrorType.PASSWORD_HASHING_BUSY.getHttpStatus(), exception.getHttpStatus());
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+        assertNotNull(running.get());
+        assertNotNull(queued.get());
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost가 설정값과 다른 경우 재해시 대상이다.")
+    void upgradeEncoding() {
+        // given
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(5, 1, 10, new SimpleMeterRegistry());
+
+        // when
+        // then
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")));
+    }
+}
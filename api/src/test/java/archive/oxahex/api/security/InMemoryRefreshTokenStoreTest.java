@@ -0,0 +1,77 @@
+package archive.oxahex.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRefreshTokenStoreTest {
+
+    InMemoryRefreshTokenStore refreshTokenStore = new InMemoryRefreshTokenStore();
+
+    @Test
+    @DisplayName("Token 교체 시 기존 Token을 반환하고 새 Token을 저장한다.")
+    void rotate_success() {
+        // given
+        String first = refreshTokenStore.rotate("test@gmail.com", "tablet", "token1", Duration.ofMinutes(1));
+
+        // when
+        String previous = refreshTokenStore.rotate("test@gmail.com", "tablet", "token2", Duration.ofMinutes(1));
+
+        // then
+        assertNull(first);
+        assertEquals("token1", previous);
+        assertEquals("token2", refreshTokenStore.get("test@gmail.com", "tablet"));
+    }
+
+    @Test
+    @DisplayName("다른 기기의 로그인은 기존 기기의 Token을 교체하지 않는다.")
+    void rotate_multi_device() {
+        // given
+        refreshTokenStore.rotate("test@gmail.com", "tablet", "token1", Duration.ofMinutes(1));
+
+        // when
+        String previous = refreshTokenStore.rotate("test@gmail.com", "kiosk", "token2", Duration.ofMinutes(1));
+
+        // then
+        assertNull(previous);
+        assertEquals("token1", refreshTokenStore.get("test@gmail.com", "tablet"));
+        assertEquals("token2", refreshTokenStore.get("test@gmail.com", "kiosk"));
+        assertEquals(2, refreshTokenStore.findAll("test@gmail.com").size());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 Token은 조회되지 않는다.")
+    void get_expired() throws InterruptedException {
+        // given
+        refreshTokenStore.rotate("test@gmail.com", "tablet", "token1", Duration.ofMillis(10));
+        Thread.sleep(20);
+
+        // when
+        // then
+        assertNull(refreshTokenStore.get("test@gmail.com", "tablet"));
+        assertTrue(refreshTokenStore.findAll("test@gmail.com").isEmpty());
+        assertNull(refreshTokenStore.rotate("test@gmail.com", "tablet", "token2", Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("기기 하나를 로그아웃하면 해당 기기 세션만 삭제되고, 전체 로그아웃하면 모든 세션이 삭제된다.")
+    void delete_and_deleteAll() {
+        // given
+        refreshTokenStore.rotate("test@gmail.com", "tablet", "token1", Duration.ofMinutes(1));
+        refreshTokenStore.rotate("test@gmail.com", "kiosk", "token2", Duration.ofMinutes(1));
+
+        // when
+        boolean deleted = refreshTokenStore.delete("test@gmail.com", "tablet");
+
+        // then
+        assertTrue(deleted);
+        assertNull(refreshTokenStore.get("test@gmail.com", "tablet"));
+        assertEquals("token2", refreshTokenStore.get("test@gmail.com", "kiosk"));
+
+        assertTrue(refreshTokenStore.deleteAll("test@gmail.com"));
+        assertTrue(refreshTokenStore.findAll("test@gmail.com").isEmpty());
+    }
+}
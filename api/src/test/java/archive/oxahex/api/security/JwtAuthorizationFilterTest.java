@@ -0,0 +1,166 @@
+package archive.oxahex.api.security;
+
+import archive.oxahex.api.service.AuthService;
+import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.type.RoleType;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthorizationFilterTest {
+
+    private static final String SECRET =
+            Base64.getEncoder().encodeToString("store-reservation-test-secret-key-0123456789".getBytes());
+    private static final String EMAIL = "test@gmail.com";
+    private static final long ACCESS_TOKEN_EXPIRE_MILLIS = Duration.ofHours(1).toMillis();
+
+    // application.yml auth.revocation.retention-minutes
+    private static final long RETENTION_MINUTES = 1440;
+
+    @Mock
+    AuthenticationManager authenticationManager;
+
+    @Mock
+    AuthService authService;
+
+    @Mock
+    RefreshTokenUtil refreshTokenUtil;
+
+    TokenProvider tokenProvider;
+    InMemoryRevokedTokenStore revokedTokenStore;
+    TokenDenylist tokenDenylist;
+    JwtAuthorizationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new TokenProvider(refreshTokenUtil, new VerifiedTokenCache(100));
+        ReflectionTestUtils.setField(tokenProvider, "key", SECRET);
+        tokenProvider.init();
+
+        revokedTokenStore = new InMemoryRevokedTokenStore();
+        tokenDenylist = new TokenDenylist(revokedTokenStore, 1_000, 0.01, RETENTION_MINUTES, 10);
+
+        filter = new JwtAuthorizationFilter(
+                authenticationManager, authService, tokenProvider,
+                new TokenReissuer(10, 3000, 100), tokenDenylist
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("만료된 Access Token은 Refresh Token이 있으면 재발급된다.")
+    void reissue_success() throws Exception {
+        // given
+        long issuedAt = System.currentTimeMillis() - Duration.ofMinutes(61).toMillis();
+        String accessToken = generateAccessToken("jti-expired", issuedAt);
+
+        User user = User.builder().id(1L).email(EMAIL).role(RoleType.ROLE_USER).build();
+        String refreshToken = tokenProvider.generateRefreshToken(new AuthUser(user));
+        given(refreshTokenUtil.get(EMAIL, TokenProvider.DEFAULT_DEVICE_ID)).willReturn(refreshToken);
+        given(authService.getCachedUser(EMAIL)).willReturn(user);
+        given(authService.loadUserByClaims(1L, EMAIL, RoleType.ROLE_USER)).willReturn(new AuthUser(user));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request(accessToken), response, new MockFilterChain());
+
+        // then
+        assertNotNull(response.getHeader("Authorization"));
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Access Token 유효 기간이 지난 뒤에도 폐기한 Token으로는 재발급할 수 없다.")
+    void reissue_failure_revoked_after_access_token_lifetime() throws Exception {
+        // given
+        // 61분 전 발급 후 바로 폐기, 이전 보관 기간(Access Token 유효 기간 60분)은 지남
+        long issuedAt = System.currentTimeMillis() - Duration.ofMinutes(61).toMillis();
+        String accessToken = generateAccessToken("jti-revoked", issuedAt);
+        revokedTokenStore.revoke("jti-revoked", issuedAt);
+        tokenDenylist.sync();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request(accessToken), response, new MockFilterChain());
+
+        // then
+        assertTrue(tokenDenylist.isRevoked("jti-revoked"));
+        assertNull(response.getHeader("Authorization"));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(refreshTokenUtil, never()).get(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("폐기 목록 보관 기간이 지나 폐기 기록이 지워진 Token으로도 재발급할 수 없다.")
+    void reissue_failure_revoked_after_retention() throws Exception {
+        // given
+        long issuedAt = System.currentTimeMillis() - Duration.ofMinutes(RETENTION_MINUTES + 1).toMillis();
+        String accessToken = generateAccessToken("jti-revoked", issuedAt);
+        revokedTokenStore.revoke("jti-revoked", issuedAt);
+        tokenDenylist.sync();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request(accessToken), response, new MockFilterChain());
+
+        // then
+        assertFalse(tokenDenylist.isRevoked("jti-revoked"));
+        assertNull(response.getHeader("Authorization"));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(refreshTokenUtil, never()).get(anyString(), anyString());
+    }
+
+    private MockHttpServletRequest request(String accessToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reservation");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        return request;
+    }
+
+    /**
+     * 지정한 시각에 발급된 Access Token 생성(TokenProvider와 같은 Claim, 유효 기간)
+     */
+    private String generateAccessToken(String tokenId, long issuedAt) {
+        return Jwts.builder()
+                .setSubject(EMAIL)
+                .claim("id", 1L)
+                .claim("role", RoleType.ROLE_USER.name())
+                .claim("device", TokenProvider.DEFAULT_DEVICE_ID)
+                .setId(tokenId)
+                .setIssuedAt(new Date(issuedAt))
+                .setExpiration(new Date(issuedAt + ACCESS_TOKEN_EXPIRE_MILLIS))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
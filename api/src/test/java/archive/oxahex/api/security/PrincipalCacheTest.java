@@ -0,0 +1,35 @@
+package archive.oxahex.api.security;
+
+import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.type.RoleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    @Test
+    @DisplayName("조회마다 새 유저 객체를 반환해, 한 요청에서 변경해도 캐시된 값은 바뀌지 않는다.")
+    void get_returns_copy() {
+        // given
+        PrincipalCache principalCache = new PrincipalCache(10, 300);
+        User user = User.builder()
+                .id(1L)
+                .email("test@gmail.com")
+                .role(RoleType.ROLE_USER)
+                .build();
+        principalCache.put(user);
+
+        // when
+        User first = principalCache.get("test@gmail.com");
+        first.setRole(RoleType.ROLE_PARTNERS);
+        user.setRole(RoleType.ROLE_ADMIN);
+        User second = principalCache.get("test@gmail.com");
+
+        // then
+        assertNotSame(first, second);
+        assertEquals(1L, second.getId());
+        assertEquals(RoleType.ROLE_USER, second.getRole());
+    }
+}
@@ -0,0 +1,140 @@
+package archive.oxahex.api.security;
+
+import archive.oxahex.api.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshTokenUtilTest {
+
+    SimpleMeterRegistry meterRegistry;
+    FakeRedisRefreshTokenStore fakeRedis;
+    RefreshTokenUtil refreshTokenUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fakeRedis = new FakeRedisRefreshTokenStore();
+        refreshTokenUtil = new RefreshTokenUtil(fakeRedis, meterRegistry, 3, 50, 100);
+    }
+
+    @Test
+    @DisplayName("저장소 응답이 느리면 Circuit Breaker가 열리고 이후 요청은 저장소를 호출하지 않고 바로 실패한다.")
+    void circuit_open_on_slow_calls() {
+        // given
+        refreshTokenUtil.set("test@gmail.com", "tablet", "token1");
+        fakeRedis.latencyMillis = 80;
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            refreshTokenUtil.get("test@gmail.com", "tablet");
+        }
+        int callsBeforeOpen = fakeRedis.calls;
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> refreshTokenUtil.get("test@gmail.com", "tablet"));
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, refreshTokenUtil.getCircuitBreakerState());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+        assertEquals(callsBeforeOpen, fakeRedis.calls);
+        assertEquals(2.0, meterRegistry.get("redis.circuit.state").tag("name", "refresh-token").gauge().value());
+        assertEquals(1.0, meterRegistry.get("redis.circuit.rejected").tag("name", "refresh-token").counter().count());
+    }
+
+    @Test
+    @DisplayName("저장소 명령 시간 초과는 TOKEN_STORE_UNAVAILABLE 예외로 변환된다.")
+    void store_timeout() {
+        // given
+        fakeRedis.failure = new QueryTimeoutException("Redis command timed out");
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> refreshTokenUtil.get("test@gmail.com", "tablet"));
+
+        // then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+        assertEquals(CircuitBreaker.State.CLOSED, refreshTokenUtil.getCircuitBreakerState());
+    }
+
+    @Test
+    @DisplayName("OPEN 대기 시간이 지나고 저장소가 회복되면 시험 호출 성공 후 CLOSED로 전환된다.")
+    void circuit_recover() throws InterruptedException {
+        // given
+        fakeRedis.failure = new QueryTimeoutException("Redis command timed out");
+        for (int i = 0; i < 3; i++) {
+            assertThrows(CustomException.class, () -> refreshTokenUtil.get("test@gmail.com", "tablet"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, refreshTokenUtil.getCircuitBreakerState());
+
+        // when
+        fakeRedis.failure = null;
+        Thread.sleep(120);
+        refreshTokenUtil.set("test@gmail.com", "tablet", "token1");
+
+        // then
+        assertEquals(CircuitBreaker.State.CLOSED, refreshTokenUtil.getCircuitBreakerState());
+        assertEquals("token1", refreshTokenUtil.get("test@gmail.com", "tablet"));
+    }
+
+    /**
+     * 지연, 장애를 주입할 수 있는 로컬 Redis 대체 저장소
+     */
+    static class FakeRedisRefreshTokenStore implements RefreshTokenStore {
+
+        private final InMemoryRefreshTokenStore delegate = new InMemoryRefreshTokenStore();
+        volatile long latencyMillis;
+        volatile RuntimeException failure;
+        volatile int calls;
+
+        @Override
+        public String rotate(String user, String deviceId, String token, Duration ttl) {
+            inject();
+            return delegate.rotate(user, deviceId, token, ttl);
+        }
+
+        @Override
+        public String get(String user, String deviceId) {
+            inject();
+            return delegate.get(user, deviceId);
+        }
+
+        @Override
+        public boolean delete(String user, String deviceId) {
+            inject();
+            return delegate.delete(user, deviceId);
+        }
+
+        @Override
+        public List<Session> findAll(String user) {
+            inject();
+            return delegate.findAll(user);
+        }
+
+        @Override
+        public boolean deleteAll(String user) {
+            inject();
+            return delegate.deleteAll(user);
+        }
+
+        private void inject() {
+            calls++;
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) throw failure;
+        }
+    }
+}
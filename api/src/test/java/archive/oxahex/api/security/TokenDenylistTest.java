@@ -0,0 +1,45 @@
+package archive.oxahex.api.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenDenylistTest {
+
+    InMemoryRevokedTokenStore revokedTokenStore;
+    TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenStore = new InMemoryRevokedTokenStore();
+        tokenDenylist = new TokenDenylist(revokedTokenStore, 1_000, 0.01, 60, 10);
+        tokenDenylist.sync();
+    }
+
+    @Test
+    @DisplayName("폐기한 Token은 폐기된 것으로 확인된다.")
+    void isRevoked_success() {
+        // given
+        tokenDenylist.revoke("jti-1");
+
+        // when, then
+        assertTrue(tokenDenylist.isRevoked("jti-1"));
+        assertFalse(tokenDenylist.isRevoked("jti-2"));
+        assertFalse(tokenDenylist.isRevoked(null));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 폐기한 Token은 동기화 후 반영된다.")
+    void sync_incremental() {
+        // given
+        revokedTokenStore.revoke("jti-other-node", System.currentTimeMillis());
+
+        // when
+        tokenDenylist.sync();
+
+        // then
+        assertTrue(tokenDenylist.isRevoked("jti-other-node"));
+    }
+}
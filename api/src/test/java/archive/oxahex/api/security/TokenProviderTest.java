@@ -0,0 +1,92 @@
+package archive.oxahex.api.security;
+
+import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.type.RoleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenProviderTest {
+
+    private static final String SECRET =
+            Base64.getEncoder().encodeToString("store-reservation-test-secret-key-0123456789".getBytes());
+
+    @Mock
+    RefreshTokenUtil refreshTokenUtil;
+
+    VerifiedTokenCache verifiedTokenCache;
+    TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(100);
+        tokenProvider = new TokenProvider(refreshTokenUtil, verifiedTokenCache);
+        ReflectionTestUtils.setField(tokenProvider, "key", SECRET);
+        tokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("Token 한 번 파싱으로 email, id, role 정보를 모두 꺼낸다.")
+    void verify_success() {
+        // given
+        String token = tokenProvider.generateAccessToken(generateAuthUser());
+
+        // when
+        VerifiedToken verifiedToken = tokenProvider.verify(token);
+
+        // then
+        assertEquals("test@gmail.com", verifiedToken.subject());
+        assertEquals(1L, verifiedToken.userId());
+        assertEquals(RoleType.ROLE_USER, verifiedToken.role());
+        assertNotNull(verifiedToken.tokenId());
+        assertEquals(TokenProvider.DEFAULT_DEVICE_ID, verifiedToken.deviceId());
+        assertFalse(verifiedToken.isExpired());
+    }
+
+    @Test
+    @DisplayName("검증한 Token은 캐시되어 다시 파싱하지 않는다.")
+    void verify_cache() {
+        // given
+        String token = tokenProvider.generateAccessToken(generateAuthUser());
+
+        // when
+        VerifiedToken first = tokenProvider.verify(token);
+        VerifiedToken second = tokenProvider.verify(token);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, verifiedTokenCache.size());
+    }
+
+    @Test
+    @DisplayName("서명이 유효하지 않은 Token은 검증에 실패한다.")
+    void verify_failure_invalid_signature() {
+        // given
+        String token = tokenProvider.generateAccessToken(generateAuthUser());
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // when
+        VerifiedToken verifiedToken = tokenProvider.verify(tampered);
+
+        // then
+        assertNull(verifiedToken);
+        assertFalse(tokenProvider.validateToken(tampered));
+    }
+
+    private AuthUser generateAuthUser() {
+        return new AuthUser(User.builder()
+                .id(1L)
+                .email("test@gmail.com")
+                .role(RoleType.ROLE_USER)
+                .build());
+    }
+}
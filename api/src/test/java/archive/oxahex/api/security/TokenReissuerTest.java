@@ -0,0 +1,92 @@
+package archive.oxahex.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenReissuerTest {
+
+    @Test
+    @DisplayName("같은 유저의 동시 재발급 요청은 한 번만 재발급하고 같은 Token을 받는다.")
+    void reissue_single_flight() throws Exception {
+        // given
+        TokenReissuer tokenReissuer = new TokenReissuer(10, 3000, 100);
+        AtomicInteger issueCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return tokenReissuer.reissue("test@gmail.com", () -> {
+                    sleep(100);
+                    return "token-" + issueCount.incrementAndGet();
+                });
+            }));
+        }
+        start.countDown();
+
+        Set<String> tokens = new HashSet<>();
+        for (Future<String> result : results) {
+            tokens.add(result.get());
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, issueCount.get());
+        assertEquals(Set.of("token-1"), tokens);
+    }
+
+    @Test
+    @DisplayName("재발급 직후 grace 기간 내 요청은 새로 발급하지 않는다.")
+    void reissue_grace() {
+        // given
+        TokenReissuer tokenReissuer = new TokenReissuer(10, 3000, 100);
+        AtomicInteger issueCount = new AtomicInteger();
+
+        // when
+        String first = tokenReissuer.reissue("test@gmail.com", () -> "token-" + issueCount.incrementAndGet());
+        String second = tokenReissuer.reissue("test@gmail.com", () -> "token-" + issueCount.incrementAndGet());
+
+        // then
+        assertEquals(first, second);
+        assertEquals(1, issueCount.get());
+    }
+
+    @Test
+    @DisplayName("재발급할 수 없는 경우(Refresh Token 없음) 결과를 저장하지 않는다.")
+    void reissue_failure_not_cached() {
+        // given
+        TokenReissuer tokenReissuer = new TokenReissuer(10, 3000, 100);
+        AtomicInteger issueCount = new AtomicInteger();
+
+        // when
+        String first = tokenReissuer.reissue("test@gmail.com", () -> {
+            issueCount.incrementAndGet();
+            return null;
+        });
+        String second = tokenReissuer.reissue("test@gmail.com", () -> "token-" + issueCount.incrementAndGet());
+
+        // then
+        assertNull(first);
+        assertEquals("token-2", second);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
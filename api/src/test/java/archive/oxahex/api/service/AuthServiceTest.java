@@ -3,6 +3,8 @@ package archive.oxahex.api.service;
 import archive.oxahex.api.dto.request.JoinRequest;
 import archive.oxahex.api.exception.CustomException;
 import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.security.AuthUser;
+import archive.oxahex.api.security.PrincipalCache;
 import archive.oxahex.domain.entity.Partners;
 import archive.oxahex.domain.entity.User;
 import archive.oxahex.domain.repository.PartnersRepository;
@@ -15,6 +17,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -24,6 +27,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -37,6 +43,12 @@ class AuthServiceTest {
     @Mock
     private PartnersRepository partnersRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     /**
      * Email(Spring Security - username) 기반으로 DB에서 해당 유저를 찾음.
      * UserDetails 객체로 감싸서 반환
@@ -128,16 +140,24 @@ class AuthServiceTest {
     void createPartners_success() {
         // given
         User user = generateUserEntity("user", RoleType.ROLE_USER);
+        User managedUser = generateUserEntity("user", RoleType.ROLE_USER);
+        given(userRepository.findByEmail(user.getEmail())).willReturn(Optional.of(managedUser));
 
-        Partners partners = generatePartnersEntity("파트너스 이름");
-        given(partnersRepository.save(any(Partners.class))).willReturn(partners);
+        given(partnersRepository.save(any(Partners.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
 
         // when
         Partners generatedPartners = authService.createPartners(user, "파트너스 이름");
 
         // then
         assertEquals("파트너스 이름", generatedPartners.getName());
-        assertEquals(RoleType.ROLE_PARTNERS, user.getRole());
+        assertEquals(RoleType.ROLE_PARTNERS, managedUser.getRole());
+        // 반환된 파트너스는 권한이 변경된 유저를 가짐
+        assertSame(managedUser, generatedPartners.getUser());
+        assertEquals(RoleType.ROLE_PARTNERS, generatedPartners.getUser().getRole());
+        // 인증 유저 객체(캐시에서 만든 객체)는 변경하지 않음
+        assertEquals(RoleType.ROLE_USER, user.getRole());
+        verify(principalCache, times(1)).evict(user.getEmail());
     }
 
     @Test
@@ -156,6 +176,68 @@ class AuthServiceTest {
         assertEquals(exception.getErrorMessage(), ErrorType.ALREADY_EXIST_PARTNERS_NAME.getErrorMessage());
     }
 
+    @Test
+    @DisplayName("로그인 시 재해시된 비밀번호로 저장된 비밀번호를 변경한다.")
+    void updatePassword_success() {
+        // given
+        User user = generateUserEntity("test1", RoleType.ROLE_USER);
+        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+
+        // when
+        UserDetails authUser = authService.updatePassword(new AuthUser(user), "rehashed");
+
+        // then
+        assertEquals("rehashed", authUser.getPassword());
+        assertEquals("rehashed", user.getPassword());
+        verify(principalCache, times(1)).evict(user.getEmail());
+    }
+
+    @Test
+    @DisplayName("JWT Claim으로 인증 유저 생성 시 DB에서 유저를 조회하지 않는다.")
+    void loadUserByClaims_without_db() {
+        // when
+        AuthUser authUser =
+                authService.loadUserByClaims(1L, "test1@gmail.com", RoleType.ROLE_PARTNERS);
+
+        // then
+        assertEquals(1L, authUser.getId());
+        assertEquals("test1@gmail.com", authUser.getUsername());
+        assertThat(authUser.getAuthorities()).hasSize(1)
+                .extracting("role").contains("ROLE_PARTNERS");
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("User Entity가 필요한 경우 캐시에 있으면 DB에서 조회하지 않는다.")
+    void getCachedUser_cache_hit() {
+        // given
+        User user = generateUserEntity("test1", RoleType.ROLE_USER);
+        given(principalCache.get(anyString())).willReturn(user);
+
+        // when
+        AuthUser authUser =
+                authService.loadUserByClaims(1L, "test1@gmail.com", RoleType.ROLE_USER);
+
+        // then
+        assertEquals(user, authUser.getUser());
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("User Entity가 필요한 경우 캐시에 없으면 DB에서 조회 후 캐시에 저장한다.")
+    void getCachedUser_cache_miss() {
+        // given
+        User user = generateUserEntity("test1", RoleType.ROLE_USER);
+        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+
+        // when
+        User cachedUser = authService.getCachedUser("test1@gmail.com");
+
+        // then
+        assertEquals(user, cachedUser);
+        verify(principalCache, times(1)).put(user);
+    }
+
     private User generateUserEntity(String name, RoleType role) {
 
         return User.builder()
@@ -167,10 +249,4 @@ class AuthServiceTest {
                 .registeredDate(LocalDateTime.now())
                 .build();
     }
-
-    private Partners generatePartnersEntity(String partnersName) {
-        return Partners.builder()
-                .name(partnersName)
-                .build();
-    }
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @Transactional
@@ -42,6 +43,7 @@ class KioskServiceTest {
     @Mock
     StoreRepository storeRepository;
 
+
     @Test
     @DisplayName("이메일로 유저를 찾을 수 없는 경우 키오스크에서 예약 내역 확인이 불가합니다.")
     void getReservation_failure_user_not_found() {
@@ -267,22 +269,36 @@ class KioskServiceTest {
         LocalDateTime now = LocalDateTime.now();
 
         // 예약 시간 = 현재 시간 11분 이후
+        LocalDateTime visitDate = now.plusMinutes(11);
         Reservation reservation = Reservation.builder()
                 .store(store)
-                .visitDate(now.plusMinutes(11))
+                .visitDate(visitDate)
                 .useTableCount(1)
                 .status(ReservationStatus.ALLOWED)
                 .build();
 
+        Reservation confirmed = Reservation.builder()
+                .store(store)
+                .visitDate(visitDate)
+                .useTableCount(1)
+                .status(ReservationStatus.CONFIRMED)
+                .build();
+
         given(reservationRepository.findById(anyLong()))
-                .willReturn(Optional.of(reservation));
+                .willReturn(Optional.of(reservation))
+                .willReturn(Optional.of(confirmed));
+        given(reservationRepository.updateStatusIfMatches(
+                eq(1L), eq(ReservationStatus.ALLOWED), eq(ReservationStatus.CONFIRMED), any(LocalDateTime.class)))
+                .willReturn(1);
 
 
         // when
         Reservation usedReservation = kioskService.checkStoreEntry(1L, 1L);
 
         // then
+        // 이용 확인된 예약은 테이블을 계속 차지
         assertEquals(usedReservation.getStatus(), ReservationStatus.CONFIRMED);
-        assertEquals(usedReservation.getStore().getTableCount(), 11);
+        verify(reservationRepository).updateStatusIfMatches(
+                eq(1L), eq(ReservationStatus.ALLOWED), eq(ReservationStatus.CONFIRMED), any(LocalDateTime.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,343 @@
+package archive.oxahex.api.service;
+
+import archive.oxahex.api.capacity.InMemorySlotCapacityStore;
+import archive.oxahex.api.dto.ReservationDto;
+import archive.oxahex.api.scheduler.PendingExpiryQueue;
+import archive.oxahex.api.exception.CustomException;
+import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.domain.entity.Partners;
+import archive.oxahex.domain.entity.Reservation;
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.repository.ReservationRepository;
+import archive.oxahex.domain.repository.StoreRepository;
+import archive.oxahex.domain.repository.StoreSlotCapacityRepository;
+import archive.oxahex.domain.repository.UserRepository;
+import archive.oxahex.domain.type.ReservationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReservationConcurrencyTest {
+
+    private static final int CAPACITY = 50;
+    private static final int REQUESTS = 300;
+    private static final int THREADS = 32;
+    private static final int ROUNDS = 40;
+
+    // 예약 상태(DB), 조건부 UPDATE는 바로 반영하고 Rollback 시 되돌림
+    private final ConcurrentMap<Long, ReservationStatus> committed = new ConcurrentHashMap<>();
+
+    // 현재 트랜잭션에서 변경한 예약의 변경 전 상태
+    private final ThreadLocal<Map<Long, ReservationStatus>> undo = ThreadLocal.withInitial(HashMap::new);
+
+    @Test
+    @DisplayName("한 매장, 한 시간대에 동시에 승인 요청이 몰려도 테이블 수를 넘겨 승인하지 않는다.")
+    void changeReservationStatus_no_oversell() throws InterruptedException {
+
+        // given
+        Store store = Store.builder()
+                .id(1L)
+                .partners(Partners.builder().build())
+                .tableCount(CAPACITY)
+                .build();
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+
+        ReservationRepository reservationRepository = reservationRepository(store, visitDate);
+
+        // 20% 확률로 Commit 시 Lock 획득 실패, Rollback
+        AbstractPlatformTransactionManager transactionManager = transactionManager(5);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemorySlotCapacityStore slotCapacityStore = new InMemorySlotCapacityStore(
+                reservationRepository, mock(StoreSlotCapacityRepository.class),
+                transactionManager, meterRegistry
+        );
+        ReservationService reservationService = new ReservationService(
+                mock(UserRepository.class),
+                mock(StoreRepository.class),
+                reservationRepository,
+                slotCapacityStore,
+                new CapacityUpdateExecutor(transactionManager, meterRegistry, 10, 1),
+                mock(PendingExpiryQueue.class)
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        AtomicInteger allowed = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        // when
+        for (long reservationId = 1; reservationId <= REQUESTS; reservationId++) {
+            long id = reservationId;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    reservationService.changeReservationStatus(ReservationStatus.ALLOWED, id);
+                    allowed.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.getErrorMessage().equals(ErrorType.TABLE_SOLD_OUT.getErrorMessage())) {
+                        soldOut.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        long allowedReservations = committed.values().stream()
+                .filter(status -> status == ReservationStatus.ALLOWED)
+                .count();
+        double conflicts = meterRegistry.get("reservation.capacity.conflicts").tag("store", "1").counter().count();
+        double retries = meterRegistry.get("reservation.capacity.retries").tag("store", "1").counter().count();
+
+        // Rollback 된 차감은 모두 반환되어 테이블 수만큼 정확히 승인
+        assertEquals(CAPACITY, allowed.get());
+        assertEquals(CAPACITY, allowedReservations);
+        assertEquals(REQUESTS - CAPACITY, soldOut.get());
+        assertEquals(0, slotCapacityStore.getRemainingCount(store, visitDate));
+        assertTrue(conflicts > 0);
+        assertTrue(retries > 0);
+    }
+
+    @Test
+    @DisplayName("같은 예약을 두 요청이 동시에 승인해도 한 요청만 성공하고 테이블은 한 번만 차감한다.")
+    void changeReservationStatus_same_reservation() throws Exception {
+
+        // given
+        Store store = Store.builder()
+                .id(1L)
+                .partners(Partners.builder().build())
+                .tableCount(CAPACITY)
+                .build();
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+
+        ReservationRepository reservationRepository = reservationRepository(store, visitDate);
+        AbstractPlatformTransactionManager transactionManager = transactionManager(0);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemorySlotCapacityStore slotCapacityStore = new InMemorySlotCapacityStore(
+                reservationRepository, mock(StoreSlotCapacityRepository.class),
+                transactionManager, meterRegistry
+        );
+        ReservationService reservationService = new ReservationService(
+                mock(UserRepository.class),
+                mock(StoreRepository.class),
+                reservationRepository,
+                slotCapacityStore,
+                new CapacityUpdateExecutor(transactionManager, meterRegistry, 10, 1),
+                mock(PendingExpiryQueue.class)
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger allowed = new AtomicInteger();
+        AtomicInteger invalid = new AtomicInteger();
+
+        // when
+        // 한 요청은 단건 승인, 다른 요청은 일괄 승인으로 같은 예약을 동시에 승인
+        for (long reservationId = 1; reservationId <= ROUNDS; reservationId++) {
+            long id = reservationId;
+            CyclicBarrier barrier = new CyclicBarrier(2);
+
+            Future<?> single = executor.submit(() -> {
+                barrier.await();
+                try {
+                    reservationService.changeReservationStatus(ReservationStatus.ALLOWED, id);
+                    allowed.incrementAndGet();
+                } catch (CustomException e) {
+                    assertEquals(ErrorType.INVALID_RESERVATION.getErrorMessage(), e.getErrorMessage());
+                    invalid.incrementAndGet();
+                }
+                return null;
+            });
+            Future<?> batch = executor.submit(() -> {
+                barrier.await();
+                ReservationDto.BatchResult result = reservationService.changeReservationStatuses(
+                        store.getPartners(), ReservationStatus.ALLOWED, List.of(id)
+                ).get(0);
+                if (result.isSuccess()) {
+                    allowed.incrementAndGet();
+                } else {
+                    assertEquals(ErrorType.INVALID_RESERVATION.getErrorMessage(), result.getErrorMessage());
+                    invalid.incrementAndGet();
+                }
+                return null;
+            });
+
+            single.get(10, TimeUnit.SECONDS);
+            batch.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(ROUNDS, allowed.get());
+        assertEquals(ROUNDS, invalid.get());
+        assertEquals(CAPACITY - ROUNDS, slotCapacityStore.getRemainingCount(store, visitDate));
+    }
+
+    @Test
+    @DisplayName("승인된 예약을 두 요청이 동시에 취소해도 한 요청만 성공하고 테이블은 한 번만 원복한다.")
+    void cancelReservation_same_reservation() throws Exception {
+
+        // given
+        Store store = Store.builder()
+                .id(1L)
+                .partners(Partners.builder().build())
+                .tableCount(CAPACITY)
+                .build();
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+
+        ReservationRepository reservationRepository = reservationRepository(store, visitDate);
+        AbstractPlatformTransactionManager transactionManager = transactionManager(0);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemorySlotCapacityStore slotCapacityStore = new InMemorySlotCapacityStore(
+                reservationRepository, mock(StoreSlotCapacityRepository.class),
+                transactionManager, meterRegistry
+        );
+        ReservationService reservationService = new ReservationService(
+                mock(UserRepository.class),
+                mock(StoreRepository.class),
+                reservationRepository,
+                slotCapacityStore,
+                new CapacityUpdateExecutor(transactionManager, meterRegistry, 10, 1),
+                mock(PendingExpiryQueue.class)
+        );
+
+        for (long reservationId = 1; reservationId <= ROUNDS; reservationId++) {
+            reservationService.changeReservationStatus(ReservationStatus.ALLOWED, reservationId);
+        }
+        assertEquals(CAPACITY - ROUNDS, slotCapacityStore.getRemainingCount(store, visitDate));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger cancelled = new AtomicInteger();
+        AtomicInteger invalid = new AtomicInteger();
+
+        // when
+        for (long reservationId = 1; reservationId <= ROUNDS; reservationId++) {
+            long id = reservationId;
+            CyclicBarrier barrier = new CyclicBarrier(2);
+
+            List<Future<?>> cancels = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                cancels.add(executor.submit(() -> {
+                    barrier.await();
+                    try {
+                        reservationService.cancelReservation(id);
+                        cancelled.incrementAndGet();
+                    } catch (CustomException e) {
+                        assertEquals(ErrorType.INVALID_RESERVATION.getErrorMessage(), e.getErrorMessage());
+                        invalid.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> cancel : cancels) {
+                cancel.get(10, TimeUnit.SECONDS);
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(ROUNDS, cancelled.get());
+        assertEquals(ROUNDS, invalid.get());
+        assertEquals(ROUNDS, committed.values().stream()
+                .filter(status -> status == ReservationStatus.CANCELLED)
+                .count());
+        assertEquals(CAPACITY, slotCapacityStore.getRemainingCount(store, visitDate));
+    }
+
+    /**
+     * 예약 조회, 조건부 상태 변경을 committed Map으로 처리하는 Repository
+     */
+    private ReservationRepository reservationRepository(Store store, LocalDateTime visitDate) {
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        given(reservationRepository.findById(anyLong())).willAnswer(invocation ->
+                Optional.of(load(invocation.getArgument(0), store, visitDate)));
+        given(reservationRepository.findAllWithStoreByIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> load(id, store, visitDate)).toList();
+        });
+        given(reservationRepository.updateStatusIfMatches(anyLong(), any(), any(), any())).willAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            ReservationStatus from = invocation.getArgument(1);
+            ReservationStatus to = invocation.getArgument(2);
+            synchronized (committed) {
+                if (committed.getOrDefault(id, ReservationStatus.PENDING) != from) return 0;
+                committed.put(id, to);
+                undo.get().putIfAbsent(id, from);
+                return 1;
+            }
+        });
+        return reservationRepository;
+    }
+
+    private Reservation load(Long id, Store store, LocalDateTime visitDate) {
+        Reservation reservation = Reservation.builder()
+                .store(store)
+                .status(committed.getOrDefault(id, ReservationStatus.PENDING))
+                .visitDate(visitDate)
+                .useTableCount(1)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+
+    /**
+     * @param failureBound 1/failureBound 확률로 Commit 시 Lock 획득 실패, 0인 경우 실패 없음
+     */
+    private AbstractPlatformTransactionManager transactionManager(int failureBound) {
+        return new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+                undo.get().clear();
+            }
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {
+                if (failureBound > 0 && ThreadLocalRandom.current().nextInt(failureBound) == 0) {
+                    throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+                }
+                undo.get().clear();
+            }
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {
+                synchronized (committed) {
+                    committed.putAll(undo.get());
+                }
+                undo.get().clear();
+            }
+        };
+    }
+}
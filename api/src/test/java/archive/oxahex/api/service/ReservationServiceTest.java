@@ -1,34 +1,54 @@
 package archive.oxahex.api.service;
 
+import archive.oxahex.api.capacity.SlotCapacityStore;
+import archive.oxahex.api.dto.CursorPage;
+import archive.oxahex.api.dto.ReservationCursor;
+import archive.oxahex.api.dto.ReservationDto;
+import archive.oxahex.api.dto.ReservationSearchType;
 import archive.oxahex.api.dto.request.ReservationRequest;
 import archive.oxahex.api.exception.CustomException;
 import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.scheduler.PendingExpiryQueue;
 import archive.oxahex.domain.entity.Partners;
 import archive.oxahex.domain.entity.Reservation;
 import archive.oxahex.domain.entity.Store;
 import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.projection.ReservationSummary;
 import archive.oxahex.domain.repository.ReservationRepository;
 import archive.oxahex.domain.repository.StoreRepository;
 import archive.oxahex.domain.repository.UserRepository;
 import archive.oxahex.domain.type.ReservationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @Transactional
@@ -46,6 +66,17 @@ class ReservationServiceTest {
     @Mock
     ReservationRepository reservationRepository;
 
+    @Mock
+    SlotCapacityStore slotCapacityStore;
+
+    @Mock
+    PendingExpiryQueue pendingExpiryQueue;
+
+    @Spy
+    CapacityUpdateExecutor capacityUpdateExecutor = new CapacityUpdateExecutor(
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 3, 1
+    );
+
     @Test
     @DisplayName("예약할 상점이 없는 경우 예약할 수 없다.")
     void requestReservation_failure_store_not_found() {
@@ -78,6 +109,7 @@ class ReservationServiceTest {
 
         ReservationRequest request = new ReservationRequest();
         request.setUseTableCount(2);
+        request.setVisitedDate(LocalDateTime.now().plusDays(1));
 
         Partners partners = Partners.builder().build();
         Store store = Store.builder()
@@ -87,6 +119,8 @@ class ReservationServiceTest {
 
         given(storeRepository.findById(anyLong()))
                 .willReturn(Optional.of(store));
+        given(slotCapacityStore.getRemainingCount(store, request.getVisitedDate()))
+                .willReturn(1);
 
         // when
         CustomException exception = assertThrows(CustomException.class,
@@ -108,6 +142,7 @@ class ReservationServiceTest {
 
         ReservationRequest request = new ReservationRequest();
         request.setUseTableCount(1);
+        request.setVisitedDate(LocalDateTime.now().plusDays(1));
 
         Partners partners = Partners.builder().build();
         Store store = Store.builder()
@@ -117,6 +152,8 @@ class ReservationServiceTest {
 
         given(storeRepository.findById(anyLong()))
                 .willReturn(Optional.of(store));
+        given(slotCapacityStore.getRemainingCount(store, request.getVisitedDate()))
+                .willReturn(1);
 
         given(reservationRepository.save(any(Reservation.class)))
                 .willReturn(Reservation.builder()
@@ -133,6 +170,48 @@ class ReservationServiceTest {
         assertEquals(createdReservation.getUseTableCount(), 1);
         assertEquals(createdReservation.getStatus(), ReservationStatus.PENDING);
         assertEquals(createdReservation.getStore().getTableCount(), 1);
+        verify(pendingExpiryQueue).schedule(List.of(createdReservation));
+    }
+
+    @Test
+    @DisplayName("같은 매장 예약 요청을 일괄 처리하는 경우 남은 자리가 없는 요청만 실패하고 나머지는 한 번에 저장한다.")
+    void requestReservations_partial_success() {
+
+        // given
+        User user = User.builder()
+                .email("user@gmail.com").build();
+        Store store = Store.builder()
+                .partners(Partners.builder().build())
+                .tableCount(2)
+                .build();
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+
+        ReservationRequest available = new ReservationRequest();
+        available.setVisitedDate(visitDate);
+        available.setUseTableCount(2);
+        ReservationRequest tooMany = new ReservationRequest();
+        tooMany.setVisitedDate(visitDate);
+        tooMany.setUseTableCount(3);
+
+        given(storeRepository.findById(anyLong()))
+                .willReturn(Optional.of(store));
+        given(slotCapacityStore.getRemainingCount(store, visitDate))
+                .willReturn(2);
+
+        // when
+        List<ReservationDto.BatchResult> results = reservationService.requestReservations(1L, List.of(
+                new ReservationService.ReservationIntake(user, available),
+                new ReservationService.ReservationIntake(user, tooMany),
+                new ReservationService.ReservationIntake(user, available)
+        ));
+
+        // then
+        assertEquals(List.of(true, false, true),
+                results.stream().map(ReservationDto.BatchResult::isSuccess).toList());
+        assertEquals(ErrorType.TABLE_SOLD_OUT.getErrorMessage(), results.get(1).getErrorMessage());
+        verify(storeRepository, times(1)).findById(1L);
+        verify(reservationRepository, times(1)).saveAll(argThat(reservations ->
+                ((List<Reservation>) reservations).size() == 2));
     }
 
     @Test
@@ -154,7 +233,7 @@ class ReservationServiceTest {
     }
 
     @Test
-    @DisplayName("예약 상태를 승인으로 변경하는 경우, 해당 상점의 자리가 예약 자리만큼 줄어든다.")
+    @DisplayName("예약 상태를 승인으로 변경하는 경우, 해당 상점 방문 시간대의 자리가 예약 자리만큼 줄어든다.")
     void changeReservationStatus_success() {
 
         // given
@@ -165,13 +244,26 @@ class ReservationServiceTest {
                 .partners(partners)
                 .tableCount(2)
                 .build();
-        
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+
         given(reservationRepository.findById(anyLong()))
                 .willReturn(Optional.of(Reservation.builder()
                         .status(ReservationStatus.PENDING)
                         .store(store)
+                        .visitDate(visitDate)
+                        .useTableCount(1)
+                        .build()))
+                .willReturn(Optional.of(Reservation.builder()
+                        .status(ReservationStatus.ALLOWED)
+                        .store(store)
+                        .visitDate(visitDate)
                         .useTableCount(1)
                         .build()));
+        given(reservationRepository.updateStatusIfMatches(
+                eq(1L), eq(ReservationStatus.PENDING), eq(ReservationStatus.ALLOWED), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(slotCapacityStore.tryReserve(store, visitDate, 1))
+                .willReturn(true);
 
 
         // when
@@ -179,10 +271,71 @@ class ReservationServiceTest {
                 reservationService.changeReservationStatus(changedStatus, 1L);
 
         // then
-        assertEquals(reservation.getStore().getTableCount(), 1);
+        verify(slotCapacityStore, times(1)).tryReserve(store, visitDate, 1);
+        assertEquals(reservation.getStore().getTableCount(), 2);
         assertEquals(reservation.getStatus(), ReservationStatus.ALLOWED);
     }
 
+    @Test
+    @DisplayName("대기 중이 아닌 예약은 승인할 수 없고 테이블도 차감하지 않는다.")
+    void changeReservationStatus_failure_not_pending() {
+
+        // given
+        Store store = Store.builder()
+                .partners(Partners.builder().build())
+                .tableCount(2)
+                .build();
+
+        given(reservationRepository.findById(anyLong()))
+                .willReturn(Optional.of(Reservation.builder()
+                        .status(ReservationStatus.REJECTED)
+                        .store(store)
+                        .visitDate(LocalDateTime.now().plusDays(1))
+                        .useTableCount(1)
+                        .build()));
+        given(reservationRepository.updateStatusIfMatches(
+                eq(1L), eq(ReservationStatus.PENDING), eq(ReservationStatus.ALLOWED), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.changeReservationStatus(ReservationStatus.ALLOWED, 1L));
+
+        // then
+        assertEquals(ErrorType.INVALID_RESERVATION.getErrorMessage(), exception.getErrorMessage());
+        verify(slotCapacityStore, never()).tryReserve(any(), any(), any(Integer.class));
+    }
+
+    @Test
+    @DisplayName("예약 승인 시 방문 시간대에 남은 자리가 없으면 승인할 수 없다.")
+    void changeReservationStatus_failure_table_sold_out() {
+
+        // given
+        Partners partners = Partners.builder().build();
+        Store store = Store.builder()
+                .partners(partners)
+                .tableCount(2)
+                .build();
+
+        given(reservationRepository.findById(anyLong()))
+                .willReturn(Optional.of(Reservation.builder()
+                        .status(ReservationStatus.PENDING)
+                        .store(store)
+                        .visitDate(LocalDateTime.now().plusDays(1))
+                        .useTableCount(3)
+                        .build()));
+        given(reservationRepository.updateStatusIfMatches(
+                eq(1L), eq(ReservationStatus.PENDING), eq(ReservationStatus.ALLOWED), any(LocalDateTime.class)))
+                .willReturn(1);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.changeReservationStatus(ReservationStatus.ALLOWED, 1L));
+
+        // then
+        assertEquals(ErrorType.TABLE_SOLD_OUT.getErrorMessage(), exception.getErrorMessage());
+    }
+
     @Test
     @DisplayName("예약 취소 시, 해당 예약 건이 존재하지 않는 경우 취소할 수 없다.")
     void cancelReservation_failure_reservation_not_found() {
@@ -222,28 +375,326 @@ class ReservationServiceTest {
     }
 
     @Test
-    @DisplayName("예약을 취소하는 경우 해당 상점의 테이블 수가 원복된다.")
+    @DisplayName("승인된 예약을 취소하는 경우 해당 상점 방문 시간대의 테이블 수가 원복된다.")
     void cancelReservation_success() {
 
         // given
         LocalDateTime now = LocalDateTime.now();
+        LocalDateTime visitDate = now.plusHours(8).plusMinutes(1);
         Partners partners = Partners.builder().build();
         Store store = Store.builder()
                 .partners(partners)
                 .tableCount(1)
                 .build();
+        Reservation allowed = Reservation.builder()
+                .status(ReservationStatus.ALLOWED)
+                .visitDate(visitDate)
+                .useTableCount(1)
+                .store(store)
+                .build();
+        Reservation cancelled = Reservation.builder()
+                .status(ReservationStatus.CANCELLED)
+                .visitDate(visitDate)
+                .useTableCount(1)
+                .store(store)
+                .build();
+        // 조건부 UPDATE 이후에는 변경된 상태로 조회
+        given(reservationRepository.findById(anyLong()))
+                .willReturn(Optional.of(allowed), Optional.of(allowed), Optional.of(cancelled));
+        given(reservationRepository.updateStatusIfMatches(
+                eq(1L), eq(ReservationStatus.ALLOWED), eq(ReservationStatus.CANCELLED), any(LocalDateTime.class)))
+                .willReturn(1);
+
+        // when
+        Reservation reservation = reservationService.cancelReservation(1L);
+
+        // then
+        assertEquals(reservation.getStatus(), ReservationStatus.CANCELLED);
+        verify(slotCapacityStore, times(1)).release(store, visitDate, 1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 예약을 취소하는 경우 테이블 수를 원복하지 않는다.")
+    void cancelReservation_success_pending() {
+
+        // given
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+        Store store = Store.builder()
+                .partners(Partners.builder().build())
+                .tableCount(1)
+                .build();
         given(reservationRepository.findById(anyLong()))
                 .willReturn(Optional.of(Reservation.builder()
-                        .visitDate(now.plusHours(8).plusMinutes(1))
+                        .status(ReservationStatus.PENDING)
+                        .visitDate(visitDate)
                         .useTableCount(1)
                         .store(store)
                         .build()));
+        given(reservationRepository.updateStatusIfMatches(
+                eq(1L), eq(ReservationStatus.ALLOWED), eq(ReservationStatus.CANCELLED), any(LocalDateTime.class)))
+                .willReturn(0);
+        given(reservationRepository.updateStatusIfMatches(
+                eq(1L), eq(ReservationStatus.PENDING), eq(ReservationStatus.CANCELLED), any(LocalDateTime.class)))
+                .willReturn(1);
 
         // when
-        Reservation reservation = reservationService.cancelReservation(1L);
+        reservationService.cancelReservation(1L);
 
         // then
-        assertEquals(reservation.getStatus(), ReservationStatus.CANCELLED);
-        assertEquals(reservation.getStore().getTableCount(), 2);
+        verify(slotCapacityStore, never()).release(any(Store.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("이미 취소되었거나 대기, 승인 상태가 아닌 예약은 취소할 수 없다.")
+    void cancelReservation_failure_invalid_status() {
+
+        // given
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+        Store store = Store.builder()
+                .partners(Partners.builder().build())
+                .tableCount(1)
+                .build();
+        given(reservationRepository.findById(anyLong()))
+                .willReturn(Optional.of(Reservation.builder()
+                        .status(ReservationStatus.CANCELLED)
+                        .visitDate(visitDate)
+                        .useTableCount(1)
+                        .store(store)
+                        .build()));
+        given(reservationRepository.updateStatusIfMatches(
+                eq(1L), any(ReservationStatus.class), eq(ReservationStatus.CANCELLED), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.cancelReservation(1L));
+
+        // then
+        assertEquals(ErrorType.INVALID_RESERVATION.getErrorMessage(), exception.getErrorMessage());
+        verify(slotCapacityStore, never()).release(any(Store.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("여러 예약을 일괄 승인하는 경우 예약 건 별 결과를 요청 순서대로 반환하고, 실패한 예약 건은 변경하지 않는다.")
+    void changeReservationStatuses_partial_success() {
+
+        // given
+        Partners partners = Partners.builder().build();
+        Partners otherPartners = Partners.builder().build();
+        ReflectionTestUtils.setField(partners, "id", 1L);
+        ReflectionTestUtils.setField(otherPartners, "id", 2L);
+
+        Store store = Store.builder().id(1L).partners(partners).tableCount(2).build();
+        Store otherStore = Store.builder().id(2L).partners(otherPartners).tableCount(2).build();
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+
+        Reservation pending = createReservation(1L, store, ReservationStatus.PENDING, visitDate);
+        Reservation soldOut = createReservation(2L, store, ReservationStatus.PENDING, visitDate.plusMinutes(30));
+        Reservation allowed = createReservation(3L, store, ReservationStatus.ALLOWED, visitDate);
+        Reservation notOwned = createReservation(4L, otherStore, ReservationStatus.PENDING, visitDate);
+
+        given(reservationRepository.findAllWithStoreByIdIn(List.of(1L, 2L, 3L, 4L, 5L)))
+                .willReturn(List.of(pending, soldOut, allowed, notOwned));
+        given(slotCapacityStore.tryReserve(store, visitDate, 1))
+                .willReturn(true);
+        given(slotCapacityStore.tryReserve(store, visitDate.plusMinutes(30), 1))
+                .willReturn(false);
+        given(reservationRepository.updateStatusIfMatches(
+                eq(1L), eq(ReservationStatus.PENDING), eq(ReservationStatus.ALLOWED), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(reservationRepository.updateStatusIfMatches(
+                eq(2L), eq(ReservationStatus.PENDING), eq(ReservationStatus.ALLOWED), any(LocalDateTime.class)))
+                .willReturn(1);
+        // 이미 승인된 예약은 변경되지 않음
+        given(reservationRepository.updateStatusIfMatches(
+                eq(3L), eq(ReservationStatus.PENDING), eq(ReservationStatus.ALLOWED), any(LocalDateTime.class)))
+                .willReturn(0);
+        given(reservationRepository.updateStatusIfMatches(
+                eq(2L), eq(ReservationStatus.ALLOWED), eq(ReservationStatus.PENDING), any(LocalDateTime.class)))
+                .willReturn(1);
+
+        // when
+        List<ReservationDto.BatchResult> results = reservationService.changeReservationStatuses(
+                partners, ReservationStatus.ALLOWED, List.of(1L, 2L, 3L, 4L, 5L, 1L)
+        );
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L),
+                results.stream().map(ReservationDto.BatchResult::getReservationId).toList());
+        assertEquals(List.of(true, false, false, false, false),
+                results.stream().map(ReservationDto.BatchResult::isSuccess).toList());
+        assertEquals(ErrorType.TABLE_SOLD_OUT.getErrorMessage(), results.get(1).getErrorMessage());
+        assertEquals(ErrorType.INVALID_RESERVATION.getErrorMessage(), results.get(2).getErrorMessage());
+        assertEquals(ErrorType.STORE_ACCESS_DENIED.getErrorMessage(), results.get(3).getErrorMessage());
+        assertEquals(ErrorType.RESERVATION_NOT_FOUND.getErrorMessage(), results.get(4).getErrorMessage());
+
+        assertEquals(ReservationStatus.ALLOWED, pending.getStatus());
+        assertEquals(ReservationStatus.PENDING, soldOut.getStatus());
+        assertEquals(ReservationStatus.PENDING, notOwned.getStatus());
+
+        // 테이블이 부족한 예약은 대기 상태로 되돌리고, 이미 승인된 예약은 테이블을 차감하지 않음
+        verify(reservationRepository, times(1)).updateStatusIfMatches(
+                eq(2L), eq(ReservationStatus.ALLOWED), eq(ReservationStatus.PENDING), any(LocalDateTime.class));
+        verify(slotCapacityStore, times(1)).tryReserve(store, visitDate, 1);
+
+        // 예약 건은 한 번만 조회
+        verify(reservationRepository, times(1)).findAllWithStoreByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("승인, 거절 이외의 상태로는 일괄 변경할 수 없다.")
+    void changeReservationStatuses_failure_invalid_status() {
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.changeReservationStatuses(
+                        Partners.builder().build(), ReservationStatus.CONFIRMED, List.of(1L)
+                ));
+
+        // then
+        assertEquals(ErrorType.INVALID_STATUS_CHANGE.getHttpStatus(), exception.getHttpStatus());
+        assertEquals(ErrorType.INVALID_STATUS_CHANGE.getErrorMessage(), exception.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("대기 예약 목록은 매장 수와 관계없이 한 번의 쿼리로 조회하고 다음 페이지 커서를 반환한다.")
+    void getPendingReservations_single_query() {
+
+        // given
+        Partners partners = spy(Partners.builder().build());
+        ReflectionTestUtils.setField(partners, "id", 1L);
+
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+        List<ReservationSummary> summaries = List.of(
+                createSummary(1L, 1L, visitDate),
+                createSummary(2L, 2L, visitDate),
+                createSummary(3L, 3L, visitDate.plusHours(1))
+        );
+        given(reservationRepository.findSummariesByPartners(
+                eq(1L), eq(ReservationStatus.PENDING), any(Pageable.class)))
+                .willReturn(summaries);
+
+        // when
+        CursorPage<ReservationSummary> page = reservationService.getPendingReservations(partners, null, 2);
+
+        // then
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(reservationRepository, times(1)).findSummariesByPartners(eq(1L), eq(ReservationStatus.PENDING), captor.capture());
+        verifyNoMoreInteractions(reservationRepository);
+        verify(partners, never()).getStores();
+
+        assertEquals(3, captor.getValue().getPageSize());
+        assertEquals(List.of(1L, 2L), page.getItems().stream().map(ReservationSummary::id).toList());
+        assertTrue(page.isHasNext());
+        assertEquals(new ReservationCursor(visitDate, 2L), ReservationCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서 다음부터 조회하고 마지막 페이지에는 커서가 없다.")
+    void getPendingReservations_after_cursor() {
+
+        // given
+        Partners partners = Partners.builder().build();
+        ReflectionTestUtils.setField(partners, "id", 1L);
+
+        LocalDateTime visitDate = LocalDateTime.now().plusDays(1);
+        String cursor = new ReservationCursor(visitDate, 2L).encode();
+
+        given(reservationRepository.findSummariesByPartnersAfter(
+                eq(1L), eq(ReservationStatus.PENDING), eq(visitDate), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(createSummary(3L, 1L, visitDate)));
+
+        // when
+        CursorPage<ReservationSummary> page = reservationService.getPendingReservations(partners, cursor, 2);
+
+        // then
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 커서로는 조회할 수 없다.")
+    void getPendingReservations_failure_invalid_cursor() {
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.getPendingReservations(Partners.builder().build(), "invalid", 20));
+
+        // then
+        assertEquals(ErrorType.INVALID_CURSOR.getHttpStatus(), exception.getHttpStatus());
+        assertEquals(ErrorType.INVALID_CURSOR.getErrorMessage(), exception.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("예약 내역은 페이지 크기 + 1 건만 한 번의 쿼리로 조회한다.")
+    void getReservations_all_first_page() {
+
+        // given
+        User user = User.builder().id(1L).name("user").build();
+        LocalDateTime visitDate = LocalDateTime.now();
+
+        given(reservationRepository.findSummariesByUser(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(
+                        createSummary(3L, 1L, visitDate),
+                        createSummary(2L, 1L, visitDate),
+                        createSummary(1L, 1L, visitDate.minusDays(1))
+                ));
+
+        // when
+        CursorPage<ReservationSummary> page =
+                reservationService.getReservations(user, ReservationSearchType.ALL, null, 2);
+
+        // then
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(reservationRepository).findSummariesByUser(eq(1L), captor.capture());
+        verifyNoMoreInteractions(reservationRepository);
+
+        assertEquals(3, captor.getValue().getPageSize());
+        assertEquals(List.of(3L, 2L), page.getItems().stream().map(ReservationSummary::id).toList());
+        assertEquals(new ReservationCursor(visitDate, 2L), ReservationCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("상태와 커서가 있으면 해당 상태 예약을 커서 이전부터 조회한다.")
+    void getReservations_status_before_cursor() {
+
+        // given
+        User user = User.builder().id(1L).name("user").build();
+        LocalDateTime visitDate = LocalDateTime.now();
+        String cursor = new ReservationCursor(visitDate, 2L).encode();
+
+        given(reservationRepository.findSummariesByUserAndStatusBefore(
+                eq(1L), eq(ReservationStatus.ALLOWED), eq(visitDate), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(createSummary(1L, 1L, visitDate.minusDays(1))));
+
+        // when
+        CursorPage<ReservationSummary> page =
+                reservationService.getReservations(user, ReservationSearchType.ALLOWED, cursor, 20);
+
+        // then
+        verifyNoMoreInteractions(reservationRepository);
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasNext());
+    }
+
+    private ReservationSummary createSummary(Long id, Long storeId, LocalDateTime visitDate) {
+        return new ReservationSummary(
+                id, "user", storeId, "store" + storeId, ReservationStatus.PENDING, visitDate, 1
+        );
+    }
+
+    private Reservation createReservation(
+            Long id, Store store, ReservationStatus status, LocalDateTime visitDate
+    ) {
+        Reservation reservation = Reservation.builder()
+                .store(store)
+                .status(status)
+                .visitDate(visitDate)
+                .useTableCount(1)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+
+        return reservation;
     }
 }
\ No newline at end of file
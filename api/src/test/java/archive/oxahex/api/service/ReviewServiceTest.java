@@ -1,8 +1,10 @@
 package archive.oxahex.api.service;
 
+import archive.oxahex.api.cache.StoreResponseCache;
 import archive.oxahex.api.dto.request.ReviewModifyRequest;
 import archive.oxahex.api.exception.CustomException;
 import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.ranking.StoreRanking;
 import archive.oxahex.domain.entity.*;
 import archive.oxahex.domain.repository.ReservationRepository;
 import archive.oxahex.domain.repository.ReviewRepository;
@@ -39,6 +41,12 @@ class ReviewServiceTest {
     @Mock
     StoreRepository storeRepository;
 
+    @Mock
+    StoreResponseCache storeResponseCache;
+
+    @Mock
+    StoreRanking storeRanking;
+
     @Test
     @DisplayName("리뷰 작성 시 해당 예약 건이 없으면 리뷰를 작성할 수 없다.")
     void addReview_failure_reservation_not_found() {
@@ -116,6 +124,8 @@ class ReviewServiceTest {
 
         // then
         assertEquals(review.getStore().getReviewCount(), 2);
+        assertEquals(3L, review.getStore().getRatingTotalOrZero());
+        verify(storeRanking, times(1)).update(store);
     }
 
     @Test
@@ -210,6 +220,8 @@ class ReviewServiceTest {
         // then
         assertEquals(modifiedReview.getContent(), "새로운 리뷰 내용으로 수정");
         assertEquals(modifiedReview.getRating(), 5);
+        assertEquals(5L, store.getRatingTotalOrZero());
+        verify(storeRanking, times(1)).update(store);
     }
 
     @Test
@@ -292,5 +304,7 @@ class ReviewServiceTest {
 
         verify(reviewRepository, times(1)).delete(captor.capture());
         System.out.println(captor.getValue().getStore().getReviewCount());
+        assertEquals(0L, store.getRatingTotalOrZero());
+        verify(storeRanking, times(1)).update(store);
     }
 }
\ No newline at end of file
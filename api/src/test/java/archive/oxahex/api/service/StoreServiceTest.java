@@ -1,14 +1,26 @@
 package archive.oxahex.api.service;
 
+import archive.oxahex.api.cache.StoreResponseCache;
+import archive.oxahex.api.capacity.SlotCapacityStore;
+import archive.oxahex.api.dto.CursorPage;
+import archive.oxahex.api.dto.NearbyCursor;
 import archive.oxahex.api.dto.SortType;
+import archive.oxahex.api.dto.StoreCursor;
+import archive.oxahex.api.dto.StoreDto;
 import archive.oxahex.api.dto.request.StoreModifyRequest;
 import archive.oxahex.api.dto.request.StoreRegisterRequest;
 import archive.oxahex.api.exception.CustomException;
 import archive.oxahex.api.exception.ErrorType;
+import archive.oxahex.api.geo.GeoEntry;
+import archive.oxahex.api.geo.StoreGeoIndex;
+import archive.oxahex.api.ranking.RankingEntry;
+import archive.oxahex.api.ranking.RankingType;
+import archive.oxahex.api.ranking.StoreRanking;
 import archive.oxahex.domain.entity.Partners;
 import archive.oxahex.domain.entity.Reservation;
 import archive.oxahex.domain.entity.Store;
 import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.projection.StoreSummary;
 import archive.oxahex.domain.repository.PartnersRepository;
 import archive.oxahex.domain.repository.ReservationRepository;
 import archive.oxahex.domain.repository.StoreRepository;
@@ -16,11 +28,15 @@ import archive.oxahex.domain.type.ReservationStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -41,12 +57,24 @@ class StoreServiceTest {
     @Mock
     StoreRepository storeRepository;
 
+    @Mock
+    StoreResponseCache storeResponseCache;
+
+    @Mock
+    StoreRanking storeRanking;
+
     @Mock
     PartnersRepository partnersRepository;
 
     @Mock
     ReservationRepository reservationRepository;
 
+    @Mock
+    SlotCapacityStore slotCapacityStore;
+
+    @Mock
+    StoreGeoIndex storeGeoIndex;
+
     @Test
     @DisplayName("기존에 파트너스 등록을 하지 않은 경우 매장을 등록할 수 없다.")
     void registerStore_failure_partners_not_found() {
@@ -124,9 +152,34 @@ class StoreServiceTest {
         // then
         assertTrue(savedStore.getPartners().getStores().contains(store));
         assertEquals(savedStore.getPartners().getName(), "파트너스");
+        verify(storeGeoIndex, times(1)).update(store);
 
     }
 
+    @Test
+    @DisplayName("매장 등록 시 위도, 경도 중 하나만 입력하면 등록할 수 없다.")
+    void registerStore_failure_incomplete_location() {
+
+        // given
+        User user = User.builder().build();
+        StoreRegisterRequest request = new StoreRegisterRequest();
+        request.setBusinessNumber("12345678901");
+        request.setLatitude(37.5);
+
+        given(partnersRepository.findByUser(any(User.class)))
+                .willReturn(Optional.of(Partners.builder().build()));
+        given(storeRepository.existsByBusinessNumber(anyString()))
+                .willReturn(Boolean.FALSE);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> storeService.registerStore(user, request));
+
+        // then
+        assertEquals(ErrorType.INCOMPLETE_LOCATION.getErrorMessage(), exception.getErrorMessage());
+        verify(storeRepository, times(0)).save(any());
+    }
+
     @Test
     @DisplayName("유저의 파트너스 정보가 없는 경우 매장 수정이 불가능하다.")
     void modifyStore_failure_partners_not_found() {
@@ -396,33 +449,156 @@ class StoreServiceTest {
     }
 
     @Test
-    @DisplayName("ASC 타입 조회 시 등록 순서대로 상점리스트를 반환한다.")
-    void getAllStore_asc() {
+    @DisplayName("ASC 타입 조회 시 등록 순서대로 상점 목록을 페이지 크기 + 1 건만 조회한다.")
+    void getStores_asc() {
 
         // given
         SortType sortType = SortType.ASC;
+        LocalDateTime registeredDate = LocalDateTime.now();
+        given(storeRepository.findSummariesOrderByRegisteredDate(any(Pageable.class)))
+                .willReturn(List.of(
+                        createSummary(1L, registeredDate, 0),
+                        createSummary(2L, registeredDate, 0),
+                        createSummary(3L, registeredDate.plusDays(1), 0)
+                ));
 
         // when
-        List<Store> stores = storeService.getAllStore(sortType);
+        CursorPage<StoreSummary> stores = storeService.getStores(sortType, null, 2);
 
         // then
-        verify(storeRepository, times(1)).findAllByOrderByRegisteredDateAsc();
-        verify(storeRepository, times(0)).findAllByOrderByReviewCountAsc();
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(storeRepository, times(1)).findSummariesOrderByRegisteredDate(captor.capture());
+        verify(storeRanking, times(0)).getRanking(any(), any(), anyInt());
+        assertEquals(3, captor.getValue().getPageSize());
+        assertEquals(List.of(1L, 2L), stores.getItems().stream().map(StoreSummary::id).toList());
+
+        StoreCursor cursor = StoreCursor.decode(stores.getNextCursor(), sortType);
+        assertEquals(registeredDate.toString(), cursor.sortKey());
+        assertEquals(2L, cursor.id());
     }
 
     @Test
-    @DisplayName("REVIEW_COUNT 타입 조회 시 리뷰 수가 많은 순서대로 상점 리스트를 반환한다.")
-    void getAllStore_review_count() {
+    @DisplayName("REVIEW_COUNT 타입 조회 시 매장 순위에서 커서 다음부터 가져온 순서대로 반환한다.")
+    void getStores_review_count() {
 
         // given
         SortType sortType = SortType.REVIEW_COUNT;
+        String cursor = new StoreCursor(sortType, "5.0", 10L).encode();
+        given(storeRanking.getRanking(RankingType.REVIEW_COUNT, new RankingEntry(10L, 5.0), 3))
+                .willReturn(List.of(
+                        new RankingEntry(11L, 5.0),
+                        new RankingEntry(3L, 4.0),
+                        new RankingEntry(7L, 2.0)
+                ));
+        // ID로만 조회하므로 순서가 다를 수 있음
+        given(storeRepository.findSummariesByIdIn(List.of(11L, 3L)))
+                .willReturn(List.of(
+                        createSummary(3L, LocalDateTime.now(), 4),
+                        createSummary(11L, LocalDateTime.now(), 5)
+                ));
+
+        // when
+        CursorPage<StoreSummary> stores = storeService.getStores(sortType, cursor, 2);
+
+        // then
+        verify(storeRepository, times(0)).findSummariesOrderByRegisteredDateAfter(any(), any(), any());
+        assertEquals(List.of(11L, 3L), stores.getItems().stream().map(StoreSummary::id).toList());
+        assertTrue(stores.isHasNext());
+
+        StoreCursor nextCursor = StoreCursor.decode(stores.getNextCursor(), sortType);
+        assertEquals("4.0", nextCursor.sortKey());
+        assertEquals(3L, nextCursor.id());
+    }
+
+    @Test
+    @DisplayName("RATING 타입 조회 시 순위 반영 전 삭제된 매장은 제외한다.")
+    void getStores_rating_deleted_store() {
+
+        // given
+        given(storeRanking.getRanking(RankingType.RATING, null, 21))
+                .willReturn(List.of(new RankingEntry(1L, 4.5), new RankingEntry(2L, 4.0)));
+        given(storeRepository.findSummariesByIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(createSummary(2L, LocalDateTime.now(), 1)));
 
         // when
-        List<Store> stores = storeService.getAllStore(sortType);
+        CursorPage<StoreSummary> stores = storeService.getStores(SortType.RATING, null, 20);
 
         // then
-        verify(storeRepository, times(0)).findAllByOrderByRegisteredDateAsc();
-        verify(storeRepository, times(1)).findAllByOrderByReviewCountAsc();
+        assertEquals(List.of(2L), stores.getItems().stream().map(StoreSummary::id).toList());
+        assertFalse(stores.isHasNext());
+    }
+
+    @Test
+    @DisplayName("주변 매장 조회 시 색인에서 가져온 거리 순서대로 매장 ID로만 조회해 반환한다.")
+    void getNearbyStores() {
+
+        // given
+        given(storeGeoIndex.search(37.5, 127.0, 3000, null, 3))
+                .willReturn(List.of(
+                        new GeoEntry(5L, 120.04),
+                        new GeoEntry(2L, 870.5),
+                        new GeoEntry(9L, 1500.0)
+                ));
+        given(storeRepository.findSummariesByIdIn(List.of(5L, 2L)))
+                .willReturn(List.of(
+                        createSummary(2L, LocalDateTime.now(), 0),
+                        createSummary(5L, LocalDateTime.now(), 0)
+                ));
+
+        // when
+        CursorPage<StoreDto.NearbyInfo> stores = storeService.getNearbyStores(37.5, 127.0, 3000, null, 2);
+
+        // then
+        assertEquals(List.of(5L, 2L), stores.getItems().stream().map(StoreDto.NearbyInfo::getId).toList());
+        assertEquals(120.0, stores.getItems().get(0).getDistanceMeters());
+        assertTrue(stores.isHasNext());
+
+        NearbyCursor cursor = NearbyCursor.decode(stores.getNextCursor());
+        assertEquals(new GeoEntry(2L, 870.5), cursor.toEntry());
+    }
+
+    @Test
+    @DisplayName("주변 매장 조회 시 검색 반경이 20km를 넘으면 조회할 수 없다.")
+    void getNearbyStores_failure_radius() {
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> storeService.getNearbyStores(37.5, 127.0, 20_001, null, 20));
+
+        // then
+        assertEquals(ErrorType.INVALID_LOCATION.getErrorMessage(), exception.getErrorMessage());
+        verify(storeGeoIndex, times(0)).search(anyDouble(), anyDouble(), anyDouble(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("주변 매장 조회 시 검색 위치가 숫자가 아니면(NaN, Infinity) 조회할 수 없다.")
+    void getNearbyStores_failure_not_finite() {
+
+        // when
+        CustomException nan = assertThrows(CustomException.class,
+                () -> storeService.getNearbyStores(Double.NaN, 127.0, 3000, null, 20));
+        CustomException infinite = assertThrows(CustomException.class,
+                () -> storeService.getNearbyStores(37.5, Double.POSITIVE_INFINITY, 3000, null, 20));
+
+        // then
+        assertEquals(ErrorType.INVALID_LOCATION.getErrorMessage(), nan.getErrorMessage());
+        assertEquals(ErrorType.INVALID_LOCATION.getErrorMessage(), infinite.getErrorMessage());
+        verify(storeGeoIndex, times(0)).search(anyDouble(), anyDouble(), anyDouble(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 정렬 타입의 커서로는 조회할 수 없다.")
+    void getStores_failure_cursor_sort_type() {
+
+        // given
+        String cursor = new StoreCursor(SortType.REVIEW_COUNT, "5", 10L).encode();
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> storeService.getStores(SortType.ASC, cursor, 20));
+
+        // then
+        assertEquals(ErrorType.INVALID_CURSOR.getErrorMessage(), exception.getErrorMessage());
     }
 
     @Test
@@ -441,4 +617,53 @@ class StoreServiceTest {
         assertEquals(ErrorType.STORE_NOT_FOUND.getHttpStatus(), exception.getHttpStatus());
         assertEquals(ErrorType.STORE_NOT_FOUND.getErrorMessage(), exception.getErrorMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("시간대 별 남은 테이블 수 조회 시 지난 시간대와 남은 테이블이 부족한 시간대는 제외한다.")
+    void getAvailability_success() {
+
+        // given
+        Store store = Store.builder()
+                .id(1L)
+                .partners(Partners.builder().build())
+                .tableCount(10)
+                .build();
+        LocalDate from = LocalDate.now().plusDays(1);
+
+        int[][] remainingCounts = new int[2][24];
+        remainingCounts[0][12] = 4;
+        remainingCounts[0][13] = 3;
+        remainingCounts[1][18] = 10;
+
+        given(storeRepository.findById(anyLong()))
+                .willReturn(Optional.of(store));
+        given(slotCapacityStore.getRemainingCounts(store, from, 2))
+                .willReturn(remainingCounts);
+
+        // when
+        StoreDto.Availability availability = storeService.getAvailability(1L, from, 2, 4);
+
+        // then
+        assertEquals(10, availability.getTableCount());
+        assertEquals(List.of(from.atTime(12, 0), from.plusDays(1).atTime(18, 0)),
+                availability.getSlots().stream().map(StoreDto.SlotAvailability::getSlotTime).toList());
+        assertEquals(4, availability.getSlots().get(0).getRemainingCount());
+    }
+
+    @Test
+    @DisplayName("조회 기간이 31일을 넘는 경우 조회할 수 없다.")
+    void getAvailability_failure_invalid_range() {
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> storeService.getAvailability(1L, null, 32, 0));
+
+        // then
+        assertEquals(ErrorType.INVALID_DATE_RANGE.getHttpStatus(), exception.getHttpStatus());
+        assertEquals(ErrorType.INVALID_DATE_RANGE.getErrorMessage(), exception.getErrorMessage());
+    }
+
+    private StoreSummary createSummary(Long id, LocalDateTime registeredDate, int reviewCount) {
+        return new StoreSummary(id, "store" + id, "address", "description", 37.5, 127.0, 10, registeredDate, reviewCount);
+    }
+}
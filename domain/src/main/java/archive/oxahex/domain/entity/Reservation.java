@@ -7,7 +7,15 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservation")
+@Table(
+        name = "reservation",
+        indexes = {
+                @Index(name = "idx_reservation_status_visit_date", columnList = "status, visit_date"),
+                @Index(name = "idx_reservation_store_status_visit_date", columnList = "store_id, status, visit_date"),
+                @Index(name = "idx_reservation_user_status_visit_date", columnList = "user_id, status, visit_date"),
+                @Index(name = "idx_reservation_user_visit_date", columnList = "user_id, visit_date")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reservation extends BaseEntity {
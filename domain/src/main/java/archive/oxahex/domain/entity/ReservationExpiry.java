@@ -0,0 +1,58 @@
+package archive.oxahex.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기(PENDING) 예약 자동 거절 예정 시각
+ * <ol>
+ *     <li>예약 당 한 행, 예약 요청 트랜잭션에서 함께 저장</li>
+ *     <li>예정 시각은 저장 시점의 매장 설정으로 계산, 이후 매장 설정을 바꿔도 변하지 않음</li>
+ *     <li>처리(자동 거절 또는 이미 다른 상태) 후 삭제, 남아 있는 행은 모두 처리 대기 중</li>
+ * </ol>
+ * <p>ID를 직접 지정하므로 저장 전 조회(merge)하지 않도록 새 행 여부를 직접 관리
+ */
+@Entity
+@Table(
+        name = "reservation_expiry",
+        indexes = @Index(name = "idx_reservation_expiry_due_at", columnList = "due_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationExpiry implements Persistable<Long> {
+
+    @Id
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    private ReservationExpiry(Long reservationId, LocalDateTime dueAt) {
+        this.reservationId = reservationId;
+        this.dueAt = dueAt;
+    }
+
+    @Override
+    public Long getId() {
+        return reservationId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -32,7 +32,7 @@ public class Review extends BaseEntity {
     public Review(Reservation reservation, Integer rating, String content) {
         this.user = reservation.getUser();
 
-        reservation.getStore().increaseReviewCount();
+        reservation.getStore().increaseReviewCount(rating);
         this.store = reservation.getStore();
 
         this.rating = rating;
@@ -42,6 +42,7 @@ public class Review extends BaseEntity {
     }
 
     public void modifyReview(Integer rating, String content) {
+        this.store.changeRating(this.rating, rating);
         this.rating = rating;
         this.content = content;
     }
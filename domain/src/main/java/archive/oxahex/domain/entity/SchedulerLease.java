@@ -0,0 +1,30 @@
+package archive.oxahex.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 실행 권한(lease)
+ * <ol>
+ *     <li>스케줄러 당 한 행, 만료 시각 전까지 owner 서버만 실행</li>
+ *     <li>owner 서버는 실행할 때마다 만료 시각 연장, 서버 장애 시 만료 후 다른 서버가 가져감</li>
+ * </ol>
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "lease_name", length = 50)
+    private String name;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "expired_at")
+    private LocalDateTime expiredAt;
+}
@@ -9,7 +9,12 @@ import java.text.DecimalFormat;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "store")
+@Table(
+        name = "store",
+        indexes = {
+                @Index(name = "idx_store_registered_date", columnList = "registered_date, store_id")
+        }
+)
 @DynamicInsert
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,36 +32,57 @@ public class Store extends BaseEntity {
     private String address;
     private String description;
 
+    // 매장 위치(WGS84), 없으면 주변 매장 검색에서 제외
+    private Double latitude;
+    private Double longitude;
+
     @Column(name = "business_number", length = 10, unique = true)
     private String businessNumber;
 
+    // 시간대 당 테이블 수, 시간대 별 남은 테이블 수는 StoreSlotCapacity
     @Column(name = "table_count")
     private Integer tableCount;
 
     @Column(name = "review_count", columnDefinition = "int default 0")
     private Integer reviewCount;
 
+    // 리뷰 별점 합계, 평균 별점 = 별점 합계 / 리뷰 수
+    @Column(name = "rating_total", columnDefinition = "bigint default 0")
+    private Long ratingTotal;
+
+    // 대기(PENDING) 예약 자동 거절까지의 시간(분), 없으면 기본값 사용
+    @Column(name = "pending_ttl_minutes")
+    private Integer pendingTtlMinutes;
+
     @Column(name = "registered_date")
     private LocalDateTime registeredDate;
 
 
-    // 예약 승인 시 테이블 수 감소 처리
-    public void removeTableCount(int useTableCount) {
-        this.tableCount -= useTableCount;
+    // 리뷰 개수 증가, 별점 합계에 더함
+    public void increaseReviewCount(Integer rating) {
+        this.reviewCount++;
+        this.ratingTotal = getRatingTotalOrZero() + valueOf(rating);
+    }
+
+    // 리뷰 개수 감소, 별점 합계에서 뺌
+    public void decreaseReviewCount(Integer rating) {
+        this.reviewCount--;
+        this.ratingTotal = getRatingTotalOrZero() - valueOf(rating);
     }
 
-    // 예약 취소 시 테이블 수 증가 처리
-    public void addTableCount(int useTableCount) {
-        this.tableCount += useTableCount;
+    // 리뷰 별점 변경
+    public void changeRating(Integer before, Integer after) {
+        this.ratingTotal = getRatingTotalOrZero() - valueOf(before) + valueOf(after);
     }
 
-    // 리뷰 개수 증가
-    public void increaseReviewCount() {
-        this.reviewCount++;
+    // 등록 직후(DB 기본값 반영 전)에는 null
+    public long getRatingTotalOrZero() {
+        return ratingTotal == null ? 0 : ratingTotal;
     }
 
-    // 리뷰 개수 감소
-    public void decreaseReviewCount() { this.reviewCount--; }
+    private static int valueOf(Integer rating) {
+        return rating == null ? 0 : rating;
+    }
 
 
     @Builder
@@ -65,9 +91,13 @@ public class Store extends BaseEntity {
             String name,
             String address,
             String description,
+            Double latitude,
+            Double longitude,
             String businessNumber,
             Integer tableCount,
             Integer reviewCount,
+            Long ratingTotal,
+            Integer pendingTtlMinutes,
             Partners partners,
             LocalDateTime registeredDate
     ) {
@@ -75,9 +105,13 @@ public class Store extends BaseEntity {
         this.name = name;
         this.address = address;
         this.description = description;
+        this.latitude = latitude;
+        this.longitude = longitude;
         this.businessNumber = businessNumber;
         this.tableCount = tableCount;
         this.reviewCount = reviewCount;
+        this.ratingTotal = ratingTotal;
+        this.pendingTtlMinutes = pendingTtlMinutes;
 
         partners.getStores().add(this);
         this.partners = partners;
@@ -86,12 +120,16 @@ public class Store extends BaseEntity {
     }
 
     public void modifyStoreInfo(
-            String name, String address, String description, Integer tableCount
+            String name, String address, String description, Double latitude, Double longitude,
+            Integer tableCount, Integer pendingTtlMinutes
     ) {
 
         this.name = name;
         this.address = address;
         this.description = description;
+        this.latitude = latitude;
+        this.longitude = longitude;
         this.tableCount = tableCount;
+        this.pendingTtlMinutes = pendingTtlMinutes;
     }
 }
@@ -0,0 +1,62 @@
+package archive.oxahex.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 매장 시간대(slot) 별 테이블 수
+ * <ol>
+ *     <li>매장, 시간대 당 한 행(store_id, slot_time unique)</li>
+ *     <li>시간대는 방문 시간을 시 단위로 절삭한 값</li>
+ *     <li>예약 승인 시 해당 시간대 행만 조건부로 감소, 다른 시간대 예약과 경합하지 않음</li>
+ * </ol>
+ */
+@Entity
+@Table(
+        name = "store_slot_capacity",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"store_id", "slot_time"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreSlotCapacity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "store_slot_capacity_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id")
+    private Store store;
+
+    @Column(name = "slot_time")
+    private LocalDateTime slotTime;
+
+    @Column(name = "total_count")
+    private Integer totalCount;
+
+    @Column(name = "remaining_count")
+    private Integer remainingCount;
+
+    @Builder
+    private StoreSlotCapacity(
+            Store store,
+            LocalDateTime slotTime,
+            Integer totalCount,
+            Integer remainingCount
+    ) {
+        this.store = store;
+        this.slotTime = slotTime;
+        this.totalCount = totalCount;
+        this.remainingCount = remainingCount;
+    }
+
+    /**
+     * 방문 시간이 속한 시간대
+     */
+    public static LocalDateTime toSlotTime(LocalDateTime visitDate) {
+        return visitDate.truncatedTo(ChronoUnit.HOURS);
+    }
+}
@@ -44,6 +44,11 @@ public class User extends BaseEntity {
         this.role = role;
     }
 
+    // 비밀번호 재해시(cost 변경) 시 사용
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
     public void setPartners(Partners partners) {
         this.partners = partners;
     }
@@ -0,0 +1,20 @@
+package archive.oxahex.domain.projection;
+
+import archive.oxahex.domain.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 목록 조회용 Projection
+ * <p>예약, 매장, 유저를 한 번의 쿼리로 조회, Entity를 만들지 않으므로 지연 로딩 없음
+ */
+public record ReservationSummary(
+        Long id,
+        String userName,
+        Long storeId,
+        String storeName,
+        ReservationStatus status,
+        LocalDateTime visitDate,
+        Integer useTableCount
+) {
+}
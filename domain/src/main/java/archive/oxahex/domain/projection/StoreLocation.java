@@ -0,0 +1,12 @@
+package archive.oxahex.domain.projection;
+
+/**
+ * 주변 매장 검색 색인 재구성용 Projection
+ * <p>매장 ID와 위치(위도, 경도)만 조회
+ */
+public record StoreLocation(
+        Long id,
+        Double latitude,
+        Double longitude
+) {
+}
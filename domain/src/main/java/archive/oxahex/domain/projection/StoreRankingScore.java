@@ -0,0 +1,12 @@
+package archive.oxahex.domain.projection;
+
+/**
+ * 매장 순위 재구성용 Projection
+ * <p>매장 ID와 순위 계산에 필요한 값(리뷰 수, 별점 합계)만 조회
+ */
+public record StoreRankingScore(
+        Long id,
+        Integer reviewCount,
+        Long ratingTotal
+) {
+}
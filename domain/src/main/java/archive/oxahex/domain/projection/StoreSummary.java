@@ -0,0 +1,20 @@
+package archive.oxahex.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 목록 조회용 Projection
+ * <p>목록에 필요한 값과 정렬 기준 값(등록일, 리뷰 수)만 조회
+ */
+public record StoreSummary(
+        Long id,
+        String name,
+        String address,
+        String description,
+        Double latitude,
+        Double longitude,
+        Integer tableCount,
+        LocalDateTime registeredDate,
+        Integer reviewCount
+) {
+}
@@ -0,0 +1,27 @@
+package archive.oxahex.domain.repository;
+
+import archive.oxahex.domain.entity.ReservationExpiry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReservationExpiryRepository extends JpaRepository<ReservationExpiry, Long> {
+
+    /**
+     * 주어진 시각 이전에 처리할 행을 예정 시각 순으로 조회(due_at 인덱스 사용)
+     */
+    List<ReservationExpiry> findAllByDueAtBeforeOrderByDueAt(LocalDateTime until, Pageable pageable);
+
+    /**
+     * 처리한 행 한 번에 삭제
+     */
+    @Modifying
+    @Query("delete from ReservationExpiry e where e.reservationId in :reservationIds")
+    int deleteAllByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+}
@@ -3,21 +3,175 @@ package archive.oxahex.domain.repository;
 import archive.oxahex.domain.entity.Reservation;
 import archive.oxahex.domain.entity.Store;
 import archive.oxahex.domain.entity.User;
+import archive.oxahex.domain.projection.ReservationSummary;
 import archive.oxahex.domain.type.ReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     List<Reservation> findAllByStoreAndStatus(Store store, ReservationStatus status);
-    List<Reservation> findAllByUser(User user);
-    List<Reservation> findAllByUserAndStatus(User user, ReservationStatus status);
 
     @Query("select r from Reservation r where r.store = :store and r.user = :user and r.status = archive.oxahex.domain.type.ReservationStatus.ALLOWED")
     List<Reservation> getReservationsOnKiosk(
             @Param("store") Store store,
             @Param("user") User user
     );
+
+    /**
+     * 해당 시각 이후 방문하는 테이블을 차지한 예약(승인, 이용 확인) 조회(매장 포함)
+     */
+    @Query("select r from Reservation r join fetch r.store where r.status in (archive.oxahex.domain.type.ReservationStatus.ALLOWED, archive.oxahex.domain.type.ReservationStatus.CONFIRMED) and r.visitDate >= :from")
+    List<Reservation> findAllOccupyingSince(@Param("from") LocalDateTime from);
+
+    /**
+     * 여러 예약 건을 매장과 함께 한 번에 조회
+     */
+    @Query("select r from Reservation r join fetch r.store where r.id in :ids")
+    List<Reservation> findAllWithStoreByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 해당 상태이면서 주어진 시각 이전에 방문하는 예약 조회
+     * <p>(status, visit_date) 인덱스 사용
+     */
+    List<Reservation> findAllByStatusAndVisitDateBefore(ReservationStatus status, LocalDateTime until);
+
+    /**
+     * 여러 예약 건 중 해당 상태인 예약을 매장과 함께 조회, 상태 변경 전까지 다른 트랜잭션이 변경하지 못하도록 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r join fetch r.store where r.id in :ids and r.status = :status")
+    List<Reservation> findAllWithStoreByIdInAndStatusForUpdate(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") ReservationStatus status
+    );
+
+    /**
+     * 여러 예약 건의 상태를 한 번에 변경, 변경 전 상태가 일치하는 행만 변경
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Reservation r set r.status = :to, r.modifiedDate = :now where r.id in :ids and r.status = :from")
+    int updateStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") ReservationStatus from,
+            @Param("to") ReservationStatus to,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 예약 건 하나의 상태를 변경 전 상태가 일치하는 경우에만 변경
+     * <ol>
+     *     <li>상태 확인과 변경을 UPDATE 한 번으로 처리, 같은 예약을 동시에 변경해도 한 요청만 성공</li>
+     *     <li>변경 후 영속성 컨텍스트를 비워 이후 조회 시 변경된 상태를 읽음</li>
+     * </ol>
+     * @return 변경된 행 수(0 또는 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Reservation r set r.status = :to, r.modifiedDate = :now where r.id = :id and r.status = :from")
+    int updateStatusIfMatches(
+            @Param("id") Long id,
+            @Param("from") ReservationStatus from,
+            @Param("to") ReservationStatus to,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 파트너스의 모든 매장에서 해당 상태인 예약을 방문 시간, ID 순으로 조회(첫 페이지)
+     */
+    @Query("select new archive.oxahex.domain.projection.ReservationSummary(" +
+            "r.id, u.name, s.id, s.name, r.status, r.visitDate, r.useTableCount) " +
+            "from Reservation r join r.store s join r.user u " +
+            "where s.partners.id = :partnersId and r.status = :status " +
+            "order by r.visitDate, r.id")
+    List<ReservationSummary> findSummariesByPartners(
+            @Param("partnersId") Long partnersId,
+            @Param("status") ReservationStatus status,
+            Pageable pageable
+    );
+
+    /**
+     * 파트너스의 모든 매장에서 해당 상태인 예약을 (방문 시간, ID) 커서 다음부터 조회
+     */
+    @Query("select new archive.oxahex.domain.projection.ReservationSummary(" +
+            "r.id, u.name, s.id, s.name, r.status, r.visitDate, r.useTableCount) " +
+            "from Reservation r join r.store s join r.user u " +
+            "where s.partners.id = :partnersId and r.status = :status " +
+            "and (r.visitDate > :visitDate or (r.visitDate = :visitDate and r.id > :id)) " +
+            "order by r.visitDate, r.id")
+    List<ReservationSummary> findSummariesByPartnersAfter(
+            @Param("partnersId") Long partnersId,
+            @Param("status") ReservationStatus status,
+            @Param("visitDate") LocalDateTime visitDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 유저의 모든 예약을 최근 방문 시간 순으로 조회(첫 페이지)
+     */
+    @Query("select new archive.oxahex.domain.projection.ReservationSummary(" +
+            "r.id, u.name, s.id, s.name, r.status, r.visitDate, r.useTableCount) " +
+            "from Reservation r join r.store s join r.user u " +
+            "where u.id = :userId " +
+            "order by r.visitDate desc, r.id desc")
+    List<ReservationSummary> findSummariesByUser(
+            @Param("userId") Long userId,
+            Pageable pageable
+    );
+
+    /**
+     * 유저의 모든 예약을 (방문 시간, ID) 커서 이전부터 최근 방문 시간 순으로 조회
+     */
+    @Query("select new archive.oxahex.domain.projection.ReservationSummary(" +
+            "r.id, u.name, s.id, s.name, r.status, r.visitDate, r.useTableCount) " +
+            "from Reservation r join r.store s join r.user u " +
+            "where u.id = :userId " +
+            "and (r.visitDate < :visitDate or (r.visitDate = :visitDate and r.id < :id)) " +
+            "order by r.visitDate desc, r.id desc")
+    List<ReservationSummary> findSummariesByUserBefore(
+            @Param("userId") Long userId,
+            @Param("visitDate") LocalDateTime visitDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 유저의 해당 상태 예약을 최근 방문 시간 순으로 조회(첫 페이지)
+     */
+    @Query("select new archive.oxahex.domain.projection.ReservationSummary(" +
+            "r.id, u.name, s.id, s.name, r.status, r.visitDate, r.useTableCount) " +
+            "from Reservation r join r.store s join r.user u " +
+            "where u.id = :userId and r.status = :status " +
+            "order by r.visitDate desc, r.id desc")
+    List<ReservationSummary> findSummariesByUserAndStatus(
+            @Param("userId") Long userId,
+            @Param("status") ReservationStatus status,
+            Pageable pageable
+    );
+
+    /**
+     * 유저의 해당 상태 예약을 (방문 시간, ID) 커서 이전부터 최근 방문 시간 순으로 조회
+     */
+    @Query("select new archive.oxahex.domain.projection.ReservationSummary(" +
+            "r.id, u.name, s.id, s.name, r.status, r.visitDate, r.useTableCount) " +
+            "from Reservation r join r.store s join r.user u " +
+            "where u.id = :userId and r.status = :status " +
+            "and (r.visitDate < :visitDate or (r.visitDate = :visitDate and r.id < :id)) " +
+            "order by r.visitDate desc, r.id desc")
+    List<ReservationSummary> findSummariesByUserAndStatusBefore(
+            @Param("userId") Long userId,
+            @Param("status") ReservationStatus status,
+            @Param("visitDate") LocalDateTime visitDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,42 @@
+package archive.oxahex.domain.repository;
+
+import archive.oxahex.domain.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * lease 행이 없는 경우 만료된 상태로 생성(이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = "insert ignore into scheduler_lease (lease_name, owner, expired_at) " +
+            "values (:name, '', now())", nativeQuery = true)
+    int createIfAbsent(@Param("name") String name);
+
+    /**
+     * 만료되었거나 이미 가진 lease인 경우 owner, 만료 시각 갱신
+     * <p>서버 간 시간 차이가 없도록 DB 시각 기준으로 비교
+     * @return 획득(연장)한 경우 1, 다른 서버가 가진 경우 0
+     */
+    @Modifying
+    @Query(value = "update scheduler_lease " +
+            "set owner = :owner, expired_at = date_add(now(), interval :seconds second) " +
+            "where lease_name = :name and (owner = :owner or expired_at < now())", nativeQuery = true)
+    int acquire(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("seconds") long seconds
+    );
+
+    /**
+     * lease 획득 또는 연장
+     * @return 다른 서버가 가진 경우 false
+     */
+    default boolean tryAcquire(String name, String owner, long seconds) {
+        createIfAbsent(name);
+        return acquire(name, owner, seconds) > 0;
+    }
+}
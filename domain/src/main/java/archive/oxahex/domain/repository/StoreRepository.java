@@ -2,17 +2,68 @@ package archive.oxahex.domain.repository;
 
 import archive.oxahex.domain.entity.Partners;
 import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.projection.StoreLocation;
+import archive.oxahex.domain.projection.StoreRankingScore;
+import archive.oxahex.domain.projection.StoreSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
     boolean existsByBusinessNumber(String businessNumber);
-    List<Store> findAllByOrderByRegisteredDateAsc();
-    List<Store> findAllByOrderByReviewCountAsc();
 
     List<Store> findAllByPartners(Partners partners);
 
     Store findByBusinessNumber(String businessNumber);
+
+    /**
+     * 등록일, ID 순으로 매장 목록 조회(첫 페이지)
+     */
+    @Query("select new archive.oxahex.domain.projection.StoreSummary(" +
+            "s.id, s.name, s.address, s.description, s.latitude, s.longitude, s.tableCount, s.registeredDate, s.reviewCount) " +
+            "from Store s order by s.registeredDate, s.id")
+    List<StoreSummary> findSummariesOrderByRegisteredDate(Pageable pageable);
+
+    /**
+     * 등록일, ID 순으로 커서 다음부터 매장 목록 조회
+     */
+    @Query("select new archive.oxahex.domain.projection.StoreSummary(" +
+            "s.id, s.name, s.address, s.description, s.latitude, s.longitude, s.tableCount, s.registeredDate, s.reviewCount) " +
+            "from Store s " +
+            "where s.registeredDate > :registeredDate or (s.registeredDate = :registeredDate and s.id > :id) " +
+            "order by s.registeredDate, s.id")
+    List<StoreSummary> findSummariesOrderByRegisteredDateAfter(
+            @Param("registeredDate") LocalDateTime registeredDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 매장 ID로 매장 목록 조회(정렬하지 않음)
+     * <p>순위 정렬은 StoreRanking에서 처리, ID(PK)로만 조회
+     */
+    @Query("select new archive.oxahex.domain.projection.StoreSummary(" +
+            "s.id, s.name, s.address, s.description, s.latitude, s.longitude, s.tableCount, s.registeredDate, s.reviewCount) " +
+            "from Store s where s.id in :ids")
+    List<StoreSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체 매장 순위 계산 값 조회(순위 재구성용)
+     */
+    @Query("select new archive.oxahex.domain.projection.StoreRankingScore(s.id, s.reviewCount, s.ratingTotal) " +
+            "from Store s")
+    List<StoreRankingScore> findRankingScores();
+
+    /**
+     * 위치가 등록된 전체 매장 위치 조회(주변 매장 검색 색인 재구성용)
+     */
+    @Query("select new archive.oxahex.domain.projection.StoreLocation(s.id, s.latitude, s.longitude) " +
+            "from Store s where s.latitude is not null and s.longitude is not null")
+    List<StoreLocation> findLocations();
 }
@@ -0,0 +1,95 @@
+package archive.oxahex.domain.repository;
+
+import archive.oxahex.domain.entity.Store;
+import archive.oxahex.domain.entity.StoreSlotCapacity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoreSlotCapacityRepository extends JpaRepository<StoreSlotCapacity, Long> {
+
+    Optional<StoreSlotCapacity> findByStoreAndSlotTime(Store store, LocalDateTime slotTime);
+
+    /**
+     * 기간 내 매장 시간대 행 조회(store_id, slot_time unique 인덱스 사용)
+     */
+    List<StoreSlotCapacity> findAllByStoreAndSlotTimeGreaterThanEqualAndSlotTimeLessThan(
+            Store store, LocalDateTime from, LocalDateTime to
+    );
+
+    /**
+     * 시간대 행이 없는 경우 매장 테이블 수로 생성(이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = "insert ignore into store_slot_capacity (store_id, slot_time, total_count, remaining_count) " +
+            "values (:storeId, :slotTime, :totalCount, :totalCount)", nativeQuery = true)
+    int createIfAbsent(
+            @Param("storeId") Long storeId,
+            @Param("slotTime") LocalDateTime slotTime,
+            @Param("totalCount") int totalCount
+    );
+
+    /**
+     * 시간대 행의 테이블 수를 주어진 값으로 저장(없으면 생성)
+     * <p>메모리에서 계산한 값을 모아서 반영할 때 사용, 같은 값을 여러 번 반영해도 결과가 같음
+     */
+    @Modifying
+    @Query(value = "insert into store_slot_capacity (store_id, slot_time, total_count, remaining_count) " +
+            "values (:storeId, :slotTime, :totalCount, :remainingCount) " +
+            "on duplicate key update total_count = :totalCount, remaining_count = :remainingCount", nativeQuery = true)
+    int upsert(
+            @Param("storeId") Long storeId,
+            @Param("slotTime") LocalDateTime slotTime,
+            @Param("totalCount") int totalCount,
+            @Param("remainingCount") int remainingCount
+    );
+
+    /**
+     * 남은 테이블 수가 충분한 경우에만 감소
+     * @return 감소한 경우 1, 테이블이 부족한 경우 0
+     */
+    @Modifying
+    @Query("update StoreSlotCapacity c set c.remainingCount = c.remainingCount - :count " +
+            "where c.store.id = :storeId and c.slotTime = :slotTime and c.remainingCount >= :count")
+    int decrease(
+            @Param("storeId") Long storeId,
+            @Param("slotTime") LocalDateTime slotTime,
+            @Param("count") int count
+    );
+
+    /**
+     * 전체 테이블 수를 넘지 않는 범위에서 증가
+     * @return 증가한 경우 1, 해당 시간대 행이 없거나 전체 테이블 수를 넘는 경우 0
+     */
+    @Modifying
+    @Query("update StoreSlotCapacity c set c.remainingCount = c.remainingCount + :count " +
+            "where c.store.id = :storeId and c.slotTime = :slotTime and c.remainingCount + :count <= c.totalCount")
+    int increase(
+            @Param("storeId") Long storeId,
+            @Param("slotTime") LocalDateTime slotTime,
+            @Param("count") int count
+    );
+
+    /**
+     * 방문 시간대의 테이블 차감(예약 승인)
+     * <p>시간대 행 생성 후 조건부 감소, 해당 시간대 행 하나만 잠금
+     * @return 테이블이 부족한 경우 false
+     */
+    default boolean reserve(Store store, LocalDateTime visitDate, int count) {
+        LocalDateTime slotTime = StoreSlotCapacity.toSlotTime(visitDate);
+        createIfAbsent(store.getId(), slotTime, store.getTableCount());
+        return decrease(store.getId(), slotTime, count) > 0;
+    }
+
+    /**
+     * 방문 시간대의 테이블 반환(승인 예약 취소, 노쇼)
+     */
+    default void release(Store store, LocalDateTime visitDate, int count) {
+        increase(store.getId(), StoreSlotCapacity.toSlotTime(visitDate), count);
+    }
+}
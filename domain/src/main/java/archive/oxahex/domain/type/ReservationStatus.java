@@ -14,7 +14,8 @@ public enum ReservationStatus {
     ALLOWED("allowed"),
     REJECTED("rejected"),
     CONFIRMED("confirmed"),
-    REVIEWED("reviewed");
+    REVIEWED("reviewed"),
+    NO_SHOW("no_show");
 
     private final String status;
 
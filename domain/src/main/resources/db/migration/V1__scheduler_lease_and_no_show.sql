@@ -0,0 +1,18 @@
+-- 노쇼(NO_SHOW) 자동 처리
+-- ddl-auto: validate 이므로 배포 전 직접 적용(MySQL)
+
+-- 스케줄러 실행 권한(lease), 스케줄러 당 한 행(행은 실행 시 자동 생성)
+CREATE TABLE scheduler_lease (
+    lease_name VARCHAR(50)  NOT NULL,
+    owner      VARCHAR(100) NULL,
+    expired_at DATETIME(6)  NULL,
+    PRIMARY KEY (lease_name)
+);
+
+-- 예약 상태 NO_SHOW 추가
+-- status 컬럼이 ENUM 타입인 경우에만 필요(VARCHAR인 경우 변경 없음)
+ALTER TABLE reservation
+    MODIFY COLUMN status ENUM ('PENDING', 'CANCELLED', 'ALLOWED', 'REJECTED', 'CONFIRMED', 'REVIEWED', 'NO_SHOW');
+
+-- 방문 시간이 지난 승인(ALLOWED) 예약 조회
+CREATE INDEX idx_reservation_status_visit_date ON reservation (status, visit_date);
@@ -0,0 +1,21 @@
+-- 대기(PENDING) 예약 자동 거절
+-- ddl-auto: validate 이므로 배포 전 직접 적용(MySQL)
+
+-- 매장 별 자동 거절까지의 시간(분), 없으면 reservation.pending-expiry.default-ttl-minutes 사용
+ALTER TABLE store
+    ADD COLUMN pending_ttl_minutes INT NULL;
+
+-- 예약 당 자동 거절 예정 시각, 처리 후 삭제
+CREATE TABLE reservation_expiry (
+    reservation_id BIGINT      NOT NULL,
+    due_at         DATETIME(6) NULL,
+    PRIMARY KEY (reservation_id)
+);
+
+CREATE INDEX idx_reservation_expiry_due_at ON reservation_expiry (due_at);
+
+-- 적용 전에 요청된 대기 예약도 자동 거절 대상에 포함(기본값 1440분, 방문 시간을 넘지 않음)
+INSERT INTO reservation_expiry (reservation_id, due_at)
+SELECT reservation_id, LEAST(NOW(6) + INTERVAL 1440 MINUTE, visit_date)
+FROM reservation
+WHERE status = 'PENDING';
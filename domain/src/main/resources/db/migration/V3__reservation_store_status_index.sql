@@ -0,0 +1,4 @@
+-- 파트너 대기 예약 목록(매장, 상태, 방문 시간 순 keyset 조회)
+-- ddl-auto: validate 이므로 배포 전 직접 적용(MySQL)
+
+CREATE INDEX idx_reservation_store_status_visit_date ON reservation (store_id, status, visit_date);
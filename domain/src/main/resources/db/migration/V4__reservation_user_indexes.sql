@@ -0,0 +1,8 @@
+-- 유저 예약 내역(방문 시간 역순 keyset 조회)
+-- ddl-auto: validate 이므로 배포 전 직접 적용(MySQL)
+
+-- 상태 조건이 있는 조회
+CREATE INDEX idx_reservation_user_status_visit_date ON reservation (user_id, status, visit_date);
+
+-- 상태 조건이 없는 조회(기본값)
+CREATE INDEX idx_reservation_user_visit_date ON reservation (user_id, visit_date);
@@ -0,0 +1,5 @@
+-- 매장 목록 최신 순 조회(등록일, 매장 ID 순 keyset 조회)
+-- ddl-auto: validate 이므로 배포 전 직접 적용(MySQL)
+-- 리뷰 많은 순, 별점 순 조회는 메모리 랭킹(StoreRanking)에서 처리하므로 review_count 인덱스는 두지 않음
+
+CREATE INDEX idx_store_registered_date ON store (registered_date, store_id);
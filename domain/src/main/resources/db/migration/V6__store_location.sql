@@ -0,0 +1,7 @@
+-- 주변 매장 검색(매장 위치, WGS84)
+-- ddl-auto: validate 이므로 배포 전 직접 적용(MySQL)
+-- 위치가 없는 매장은 검색에서 제외, 검색 색인(StoreGeoIndex)은 메모리에서 구성하므로 인덱스는 두지 않음
+
+ALTER TABLE store
+    ADD COLUMN latitude  DOUBLE NULL,
+    ADD COLUMN longitude DOUBLE NULL;
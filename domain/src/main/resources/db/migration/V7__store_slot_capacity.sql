@@ -0,0 +1,25 @@
+-- 매장 시간대(slot) 별 남은 테이블 수
+-- ddl-auto: validate 이므로 배포 전 직접 적용(MySQL)
+-- store.table_count는 시간대 당 테이블 수, 시간대는 방문 시간을 시 단위로 절삭한 값
+
+CREATE TABLE store_slot_capacity (
+    store_slot_capacity_id BIGINT      NOT NULL AUTO_INCREMENT,
+    store_id               BIGINT      NOT NULL,
+    slot_time              DATETIME(6) NOT NULL,
+    total_count            INT         NOT NULL,
+    remaining_count        INT         NOT NULL,
+    PRIMARY KEY (store_slot_capacity_id),
+    UNIQUE KEY uk_store_slot_capacity_store_slot_time (store_id, slot_time)
+);
+
+-- 적용 전에 승인, 이용 확인된 예약이 차지한 테이블도 시간대 별로 반영(남은 테이블 수는 0 미만이 되지 않음)
+INSERT INTO store_slot_capacity (store_id, slot_time, total_count, remaining_count)
+SELECT r.store_id,
+       DATE_FORMAT(r.visit_date, '%Y-%m-%d %H:00:00'),
+       s.table_count,
+       GREATEST(0, s.table_count - SUM(r.use_table_count))
+FROM reservation r
+         JOIN store s ON s.store_id = r.store_id
+WHERE r.status IN ('ALLOWED', 'CONFIRMED')
+  AND r.visit_date >= DATE_FORMAT(NOW(6), '%Y-%m-%d %H:00:00')
+GROUP BY r.store_id, DATE_FORMAT(r.visit_date, '%Y-%m-%d %H:00:00'), s.table_count;
@@ -0,0 +1,9 @@
+-- 별점 순 조회(매장 별 별점 합계, 평균은 rating_total / review_count)
+-- ddl-auto: validate 이므로 배포 전 직접 적용(MySQL)
+
+ALTER TABLE store
+    ADD COLUMN rating_total BIGINT NOT NULL DEFAULT 0;
+
+-- 적용 전에 작성된 리뷰의 별점 합계 반영
+UPDATE store s
+SET rating_total = (SELECT COALESCE(SUM(r.rating), 0) FROM review r WHERE r.store_id = s.store_id);